@@ -0,0 +1,72 @@
+package br.com.johnny.benchmark;
+
+import br.com.johnny.Main;
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.repository.MovieStore;
+import br.com.johnny.service.GoldenRaspberryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de ponta a ponta do serviço: a aplicação é iniciada sem servidor web,
+ * carregando a massa de dados sintética pelo mesmo caminho de produção, e o
+ * benchmark chama {@link GoldenRaspberryService#getProducerAwardIntervals()}.
+ * <p>
+ * As configurações são passadas como argumentos de linha de comando, que têm precedência
+ * sobre o application.yml; a quantidade de filmes carregados é conferida na preparação,
+ * para que o benchmark não meça outra massa de dados caso elas deixem de ser aplicadas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AwardIntervalsEndToEndBenchmark {
+
+    @Param({"206", "100000", "1000000", "10000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private GoldenRaspberryService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path csvFile = SyntheticMovieDataset.fromBundledCsv().writeCsv(rows);
+
+        context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.br.com.johnny=WARN",
+                        "--golden-raspberry.ingest.mode=parallel",
+                        "--golden-raspberry.snapshot.enabled=false",
+                        "--golden-raspberry.startup.background=false",
+                        "--golden-raspberry.startup.warmup.iterations=0",
+                        "--golden-raspberry.ingest.csv-location=file:" + csvFile.toAbsolutePath());
+        service = context.getBean(GoldenRaspberryService.class);
+
+        long loaded = context.getBean(MovieStore.class).count();
+        if (loaded != rows) {
+            context.close();
+            throw new IllegalStateException("Massa de dados não aplicada: " + loaded + " filmes carregados, "
+                    + rows + " esperados");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Consulta dos intervalos mínimos e máximos pelo serviço.
+     */
+    @Benchmark
+    public AwardIntervalResponse getProducerAwardIntervals() {
+        return service.getProducerAwardIntervals();
+    }
+}
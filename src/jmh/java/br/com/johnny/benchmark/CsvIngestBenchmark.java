@@ -0,0 +1,60 @@
+package br.com.johnny.benchmark;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.service.MovieCsvRecordParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da leitura e conversão de um arquivo CSV completo, sem persistência.
+ * Mede o custo de interpretação da massa de dados inteira em uma única thread.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CsvIngestBenchmark {
+
+    @Param({"206", "100000", "1000000", "10000000"})
+    private int rows;
+
+    private Path csvFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = SyntheticMovieDataset.fromBundledCsv().writeCsv(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    /**
+     * Leitura do arquivo linha a linha e conversão de cada registro em Movie.
+     */
+    @Benchmark
+    public long parseFile(Blackhole blackhole) throws IOException {
+        MovieCsvRecordParser recordParser = new MovieCsvRecordParser();
+        long movies = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Movie movie = recordParser.parseLine(line);
+                if (movie != null) {
+                    movies++;
+                    blackhole.consume(movie);
+                }
+            }
+        }
+        return movies;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.johnny.benchmark;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.service.MovieCsvRecordParser;
+import br.com.johnny.service.ProducerNameParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks da conversão de registros do CSV e da separação da coluna de produtores.
+ * Cada operação processa uma linha da massa de dados, percorrida de forma circular.
+ * <p>
+ * A massa de 10 milhões de linhas dos benchmarks de carga não é usada aqui: as linhas e os
+ * registros já separados, mantidos em memória para que a separação não entre na medição
+ * da conversão, passam de 4 GB nesse tamanho, acima do heap das execuções do JMH. O custo
+ * por linha não depende do tamanho da massa além do efeito de cache, já exercitado pela
+ * massa de 1 milhão de linhas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CsvParsingBenchmark {
+
+    @Param({"206", "100000", "1000000"})
+    private int rows;
+
+    private String[] lines;
+    private String[][] records;
+    private String[] producers;
+    private MovieCsvRecordParser recordParser;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<String> generated = SyntheticMovieDataset.fromBundledCsv().lines(rows);
+        recordParser = new MovieCsvRecordParser();
+
+        lines = generated.toArray(new String[0]);
+        records = new String[lines.length][];
+        producers = new String[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            records[i] = recordParser.splitLine(lines[i]);
+            producers[i] = records[i][3];
+        }
+    }
+
+    private int next() {
+        int current = cursor;
+        cursor = current + 1 == lines.length ? 0 : current + 1;
+        return current;
+    }
+
+    /**
+     * Separação dos campos e conversão da linha em Movie.
+     */
+    @Benchmark
+    public Movie parseLine() {
+        return recordParser.parseLine(lines[next()]);
+    }
+
+    /**
+     * Conversão de um registro já separado em Movie ({@code parseMovieFromCsvRecord}).
+     */
+    @Benchmark
+    public Movie parseMovieFromCsvRecord() {
+        return MovieCsvRecordParser.parseMovieFromCsvRecord(records[next()]);
+    }
+
+    /**
+     * Separação da coluna de produtores em nomes individuais ({@code parseProducers}).
+     */
+    @Benchmark
+    public String[] parseProducers() {
+        return ProducerNameParser.parseProducers(producers[next()]);
+    }
+}
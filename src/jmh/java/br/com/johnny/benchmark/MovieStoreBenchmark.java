@@ -0,0 +1,96 @@
+package br.com.johnny.benchmark;
+
+import br.com.johnny.Main;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieCursor;
+import br.com.johnny.repository.MovieFilter;
+import br.com.johnny.repository.MovieStore;
+import br.com.johnny.repository.WinnerMovieRow;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark das leituras do armazenamento de filmes, comparando o armazenamento JPA sobre
+ * o H2 com o armazenamento em memória por colunas: leitura dos vencedores para o índice de
+ * intervalos e uma página filtrada da listagem. A memória ocupada após a carga é informada
+ * na preparação de cada configuração.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MovieStoreBenchmark {
+
+    private static final MovieFilter WINNERS_BY_STUDIO = new MovieFilter(1950, null, true, "pictures", null);
+
+    @Param({"206", "100000", "1000000"})
+    private int rows;
+
+    @Param({"jpa", "columnar"})
+    private String storage;
+
+    private ConfigurableApplicationContext context;
+    private MovieStore movieStore;
+    private MovieCursor middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path csvFile = SyntheticMovieDataset.fromBundledCsv().writeCsv(rows);
+        long heapBefore = usedHeapAfterGc();
+
+        context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.br.com.johnny=WARN",
+                        "--golden-raspberry.storage=" + storage,
+                        "--golden-raspberry.ingest.mode=parallel",
+                        "--golden-raspberry.snapshot.enabled=false",
+                        "--golden-raspberry.startup.background=false",
+                        "--golden-raspberry.startup.warmup.iterations=0",
+                        "--golden-raspberry.ingest.csv-location=file:" + csvFile.toAbsolutePath());
+        movieStore = context.getBean(MovieStore.class);
+
+        List<Movie> page = movieStore.findPage(new MovieFilter(null, null, null, null, null), null, rows / 2);
+        Movie middle = page.get(page.size() - 1);
+        middleCursor = new MovieCursor(middle.getYear(), middle.getId());
+
+        System.out.printf("%nHeap ocupado após a carga (%s, %d filmes): %d MB%n",
+                storage, rows, (usedHeapAfterGc() - heapBefore) / (1024 * 1024));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Vencedores ordenados por ano, usados na reconstrução do índice de intervalos.
+     */
+    @Benchmark
+    public List<WinnerMovieRow> winnerRows() {
+        return movieStore.findWinnerRowsOrderedByYear();
+    }
+
+    /**
+     * Página de 100 vencedores filtrados por ano e trecho do estúdio, a partir do meio da listagem.
+     */
+    @Benchmark
+    public List<Movie> filteredPage() {
+        return movieStore.findPage(WINNERS_BY_STUDIO, middleCursor, 100);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
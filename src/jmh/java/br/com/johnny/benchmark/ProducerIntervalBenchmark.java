@@ -0,0 +1,128 @@
+package br.com.johnny.benchmark;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ProducerWinsResponse;
+import br.com.johnny.model.Movie;
+import br.com.johnny.service.IntervalQuery;
+import br.com.johnny.service.ProducerIntervalIndex;
+import br.com.johnny.service.ProducerNameParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks do cálculo dos intervalos de prêmios sobre o índice em memória.
+ * A construção completa corresponde às etapas de extração das vitórias por produtor,
+ * cálculo dos intervalos e montagem da resposta; a atualização incremental mede o
+ * custo de incluir e remover um vencedor e recalcular a resposta. As consultas por janela
+ * de anos são comparadas com a consulta de top, que percorre todos os intervalos, e a
+ * busca de produtores mede a consulta pelo nome e por prefixo no índice de nomes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProducerIntervalBenchmark {
+
+    private static final IntervalQuery YEAR_RANGE = new IntervalQuery(null, null, null, 1990, 2010);
+    private static final IntervalQuery YEAR_RANGE_TOP = new IntervalQuery(10, null, null, 1990, 2010);
+    private static final IntervalQuery TOP = new IntervalQuery(10, null, null);
+
+    @Param({"206", "100000", "1000000", "10000000"})
+    private int rows;
+
+    private List<Movie> winners;
+    private ProducerIntervalIndex index;
+    private Movie changedWinner;
+    private String producerName;
+    private String producerPrefix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        winners = SyntheticMovieDataset.fromBundledCsv().winners(rows);
+
+        index = new ProducerIntervalIndex(new SimpleMeterRegistry());
+        index.rebuild(winners);
+        index.getResponse();
+
+        Movie template = winners.get(winners.size() / 2);
+        changedWinner = new Movie(template.getYear() + 1, template.getTitle(), template.getStudios(),
+                template.getProducers(), true);
+        changedWinner.setId(Long.MAX_VALUE);
+
+        producerName = ProducerNameParser.parseProducers(template.getProducers())[0].toUpperCase(Locale.ROOT);
+        producerPrefix = producerName.substring(0, Math.min(3, producerName.length()));
+        index.findProducerNames(producerPrefix, 10);
+    }
+
+    /**
+     * Extração das vitórias, cálculo dos intervalos e montagem da resposta a partir do zero.
+     */
+    @Benchmark
+    public AwardIntervalResponse rebuildAndBuildResponse() {
+        ProducerIntervalIndex freshIndex = new ProducerIntervalIndex(new SimpleMeterRegistry());
+        freshIndex.rebuild(winners);
+        return freshIndex.getResponse();
+    }
+
+    /**
+     * Leitura da resposta já calculada.
+     */
+    @Benchmark
+    public AwardIntervalResponse readResponse() {
+        return index.getResponse();
+    }
+
+    /**
+     * Inclusão e remoção de um vencedor seguidas do recálculo da resposta.
+     */
+    @Benchmark
+    public AwardIntervalResponse incrementalUpdateAndBuildResponse() {
+        index.addMovie(changedWinner);
+        index.removeMovie(changedWinner);
+        return index.getResponse();
+    }
+
+    /**
+     * Consulta dos intervalos mínimos e máximos entre 1990 e 2010.
+     */
+    @Benchmark
+    public AwardIntervalResponse yearRangeQuery() {
+        return index.query(YEAR_RANGE);
+    }
+
+    /**
+     * Consulta dos 10 menores e 10 maiores intervalos entre 1990 e 2010.
+     */
+    @Benchmark
+    public AwardIntervalResponse yearRangeTopQuery() {
+        return index.query(YEAR_RANGE_TOP);
+    }
+
+    /**
+     * Consulta dos 10 menores e 10 maiores intervalos sem janela, que percorre todos os intervalos.
+     */
+    @Benchmark
+    public AwardIntervalResponse topQuery() {
+        return index.query(TOP);
+    }
+
+    /**
+     * Vitórias e intervalos de um produtor, localizado pelo nome sem distinção de maiúsculas.
+     */
+    @Benchmark
+    public Optional<ProducerWinsResponse> producerLookup() {
+        return index.findProducer(producerName);
+    }
+
+    /**
+     * Busca dos 10 primeiros produtores com um prefixo de três letras.
+     */
+    @Benchmark
+    public List<String> producerPrefixSearch() {
+        return index.findProducerNames(producerPrefix, 10);
+    }
+}
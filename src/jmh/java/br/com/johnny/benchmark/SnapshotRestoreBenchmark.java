@@ -0,0 +1,110 @@
+package br.com.johnny.benchmark;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.service.MovieCsvRecordParser;
+import br.com.johnny.service.MovieSnapshot;
+import br.com.johnny.service.ProducerIntervalIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da inicialização a partir do CSV comparada à inicialização a partir do
+ * snapshot binário, sem persistência: interpretação do arquivo e reconstrução do índice
+ * de intervalos, e leitura de todos os filmes para inclusão no banco.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SnapshotRestoreBenchmark {
+
+    @Param({"206", "100000", "1000000"})
+    private int rows;
+
+    private Path csvFile;
+    private Path snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = SyntheticMovieDataset.fromBundledCsv().writeCsv(rows);
+        snapshotFile = Files.createTempFile("movielist-", ".snapshot");
+
+        MovieSnapshot.Writer writer = MovieSnapshot.writer();
+        for (Movie movie : parseCsv()) {
+            writer.add(movie);
+        }
+        writer.writeTo(snapshotFile, Files.size(csvFile), 0L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    /**
+     * Interpretação do CSV e reconstrução do índice com os vencedores.
+     */
+    @Benchmark
+    public ProducerIntervalIndex csvToIndex() throws IOException {
+        List<Movie> winners = new ArrayList<>();
+        for (Movie movie : parseCsv()) {
+            if (movie.getWinner()) {
+                winners.add(movie);
+            }
+        }
+
+        ProducerIntervalIndex index = new ProducerIntervalIndex(new SimpleMeterRegistry());
+        index.rebuild(winners);
+        return index;
+    }
+
+    /**
+     * Mapeamento do snapshot e reconstrução do índice com os produtores já separados.
+     */
+    @Benchmark
+    public ProducerIntervalIndex snapshotToIndex() throws IOException {
+        ProducerIntervalIndex index = new ProducerIntervalIndex(new SimpleMeterRegistry());
+        index.rebuildFromSnapshot(MovieSnapshot.open(snapshotFile));
+        return index;
+    }
+
+    /**
+     * Mapeamento do snapshot e leitura de todos os filmes, como na restauração do banco.
+     */
+    @Benchmark
+    public void snapshotMovies(Blackhole blackhole) throws IOException {
+        MovieSnapshot snapshot = MovieSnapshot.open(snapshotFile);
+        for (int index = 0; index < snapshot.size(); index++) {
+            blackhole.consume(snapshot.movieAt(index));
+        }
+    }
+
+    private List<Movie> parseCsv() throws IOException {
+        MovieCsvRecordParser recordParser = new MovieCsvRecordParser();
+        List<Movie> movies = new ArrayList<>(rows);
+        long id = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Movie movie = recordParser.parseLine(line);
+                if (movie != null) {
+                    movie.setId(++id);
+                    movies.add(movie);
+                }
+            }
+        }
+        return movies;
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.johnny.benchmark;
+
+import br.com.johnny.model.Movie;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gerador de massas de dados sintéticas para os benchmarks, derivadas do arquivo
+ * movielist.csv distribuído com a aplicação.
+ * Até o tamanho do arquivo original os registros são reproduzidos sem alteração;
+ * acima disso os anos, os produtores e a indicação de vencedor são sorteados com
+ * semente fixa, mantendo a proporção de um produtor distinto para cada dez filmes.
+ */
+public final class SyntheticMovieDataset {
+
+    static final String HEADER = "year;title;studios;producers;winner";
+
+    private static final String BUNDLED_CSV = "movielist.csv";
+    private static final long SEED = 20_240_917L;
+    private static final int FIRST_YEAR = 1900;
+    private static final int YEAR_SPAN = 125;
+    private static final double WINNER_RATIO = 0.2;
+    private static final int MOVIES_PER_PRODUCER = 10;
+
+    private final List<String[]> templates;
+    private final List<String> bundledProducers;
+
+    private SyntheticMovieDataset(List<String[]> templates) {
+        this.templates = templates;
+        this.bundledProducers = templates.stream()
+                .map(record -> record[3])
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Carrega os registros do arquivo CSV distribuído com a aplicação.
+     *
+     * @return gerador de massas de dados
+     */
+    public static SyntheticMovieDataset fromBundledCsv() {
+        List<String[]> templates = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(BUNDLED_CSV).getInputStream(), StandardCharsets.UTF_8))) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                templates.add(line.split(";", -1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler o arquivo " + BUNDLED_CSV, e);
+        }
+
+        return new SyntheticMovieDataset(templates);
+    }
+
+    /**
+     * Obtém a quantidade de registros do arquivo original.
+     *
+     * @return quantidade de registros
+     */
+    public int bundledSize() {
+        return templates.size();
+    }
+
+    /**
+     * Gera as linhas do CSV, sem o cabeçalho.
+     *
+     * @param rows quantidade de linhas
+     * @return linhas geradas
+     */
+    public List<String> lines(int rows) {
+        List<String> lines = new ArrayList<>(rows);
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < rows; i++) {
+            lines.add(String.join(";", record(i, rows, random)));
+        }
+        return lines;
+    }
+
+    /**
+     * Gera apenas os filmes vencedores, que são os únicos considerados pelo índice de intervalos.
+     *
+     * @param rows quantidade total de linhas da massa de dados
+     * @return filmes vencedores, com identificadores sequenciais
+     */
+    public List<Movie> winners(int rows) {
+        List<Movie> winners = new ArrayList<>((int) (rows * WINNER_RATIO) + 1);
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < rows; i++) {
+            String[] record = record(i, rows, random);
+            if ("yes".equals(record[4])) {
+                Movie movie = new Movie(Integer.parseInt(record[0]), record[1], record[2], record[3], true);
+                movie.setId((long) i + 1);
+                winners.add(movie);
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Grava a massa de dados em um arquivo CSV temporário, com cabeçalho.
+     *
+     * @param rows quantidade de linhas
+     * @return caminho do arquivo gerado
+     * @throws IOException se houver erro de gravação
+     */
+    public Path writeCsv(int rows) throws IOException {
+        Path file = Files.createTempFile("movielist-" + rows + "-", ".csv");
+        file.toFile().deleteOnExit();
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(String.join(";", record(i, rows, random)));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    private String[] record(int index, int rows, SplittableRandom random) {
+        String[] template = templates.get(index % templates.size());
+        if (rows <= templates.size()) {
+            return template;
+        }
+
+        int year = FIRST_YEAR + random.nextInt(YEAR_SPAN);
+        String winner = random.nextDouble() < WINNER_RATIO ? "yes" : "";
+        String title = template[1] + " " + index;
+
+        return new String[] {String.valueOf(year), title, template[2], producers(rows, random), winner};
+    }
+
+    /**
+     * Sorteia de um a três produtores, combinados com vírgula e "and" como no arquivo original.
+     */
+    private String producers(int rows, SplittableRandom random) {
+        int poolSize = Math.max(bundledProducers.size(), rows / MOVIES_PER_PRODUCER);
+        int count = 1 + random.nextInt(3);
+
+        StringBuilder producers = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                producers.append(i == count - 1 ? " and " : ", ");
+            }
+            int producer = random.nextInt(poolSize);
+            producers.append(producer < bundledProducers.size()
+                    ? bundledProducers.get(producer)
+                    : "Producer " + producer);
+        }
+        return producers.toString();
+    }
+}
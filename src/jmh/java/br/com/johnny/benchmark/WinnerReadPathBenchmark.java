@@ -0,0 +1,83 @@
+package br.com.johnny.benchmark;
+
+import br.com.johnny.Main;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieRepository;
+import br.com.johnny.repository.WinnerMovieRow;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da leitura dos filmes vencedores usada na construção do índice de intervalos:
+ * entidades completas em transação de leitura e escrita, como antes, comparadas à projeção
+ * com apenas as colunas usadas, em transação somente leitura. O parâmetro {@code indexed}
+ * remove o índice (winner, yearMovie) para medir a sua contribuição.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class WinnerReadPathBenchmark {
+
+    @Param({"206", "100000", "1000000"})
+    private int rows;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private MovieRepository movieRepository;
+    private TransactionTemplate readWriteTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path csvFile = SyntheticMovieDataset.fromBundledCsv().writeCsv(rows);
+
+        context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.br.com.johnny=WARN",
+                        "--golden-raspberry.ingest.mode=parallel",
+                        "--golden-raspberry.snapshot.enabled=false",
+                        "--golden-raspberry.startup.background=false",
+                        "--golden-raspberry.startup.warmup.iterations=0",
+                        "--golden-raspberry.ingest.csv-location=file:" + csvFile.toAbsolutePath());
+        movieRepository = context.getBean(MovieRepository.class);
+        readWriteTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        if (!indexed) {
+            context.getBean(JdbcTemplate.class).execute("DROP INDEX IF EXISTS idx_movies_winner_year");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Entidades completas no contexto de persistência, em transação de leitura e escrita.
+     */
+    @Benchmark
+    public List<Movie> entitiesInReadWriteTransaction() {
+        return readWriteTransaction.execute(status -> movieRepository.findWinnerMoviesOrderedByYear());
+    }
+
+    /**
+     * Projeção com identificador, ano e produtores, em transação somente leitura.
+     */
+    @Benchmark
+    public List<WinnerMovieRow> projectionInReadOnlyTransaction() {
+        return movieRepository.findWinnerRowsOrderedByYear();
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.johnny;
+
+import br.com.johnny.load.LatencyReport;
+import br.com.johnny.load.OpenLoopLoadGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga em laço aberto dos endpoints de intervalos e de health check.
+ * <p>
+ * Sobe a aplicação completa em uma porta aleatória, com banco próprio, e dispara cada
+ * cenário na taxa configurada, independente do tempo de resposta, com latências corrigidas
+ * para a omissão coordenada (ver {@link OpenLoopLoadGenerator}). Para cada cenário são gravadas
+ * as distribuições {@code .hgrm} do HdrHistogram e, ao final, um {@code summary.json} com os
+ * percentis, em {@code build/reports/load}.
+ * <p>
+ * Quando {@code -PloadBaseline} aponta para o {@code summary.json} de uma execução anterior,
+ * as diferenças dos percentis de cada cenário são registradas no log. A carga é ajustada com
+ * {@code -PloadRate}, {@code -PloadConcurrency}, {@code -PloadDuration} e {@code -PloadWarmup};
+ * {@code -PloadProfile} ativa um perfil da aplicação, como {@code reactive}.
+ */
+class OpenLoopLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenLoopLoadTest.class);
+
+    private static final int RATE = Integer.getInteger("golden-raspberry.load.rate", 1000);
+    private static final int CONCURRENCY = Integer.getInteger("golden-raspberry.load.concurrency", 256);
+    private static final int DURATION_SECONDS = Integer.getInteger("golden-raspberry.load.duration-seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("golden-raspberry.load.warmup-seconds", 5);
+    private static final String PROFILE = System.getProperty("golden-raspberry.load.profile", "");
+    private static final String BASELINE = System.getProperty("golden-raspberry.load.baseline", "");
+    private static final Path REPORT_DIR = Path.of(System.getProperty("golden-raspberry.load.report-dir",
+            "build/reports/load"));
+
+    private static final Map<String, String> SCENARIOS = scenarios();
+    private static final List<String> COMPARED_PERCENTILES = List.of("p50", "p99", "p99.9");
+
+    private static Map<String, String> scenarios() {
+        Map<String, String> scenarios = new LinkedHashMap<>();
+        scenarios.put("award-intervals", "/api/producers/award-intervals");
+        scenarios.put("award-intervals-top", "/api/producers/award-intervals?top=10");
+        scenarios.put("health", "/api/health");
+        return scenarios;
+    }
+
+    /**
+     * Executa os cenários na taxa configurada e grava os relatórios de latência.
+     */
+    @Test
+    void testEndpointsUnderOpenLoopLoad() throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Main.class);
+        if (!PROFILE.isBlank()) {
+            builder.profiles(PROFILE.split(","));
+        }
+
+        List<LatencyReport> reports = new ArrayList<>();
+        try (ConfigurableApplicationContext context = builder.run("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-open-loop;DB_CLOSE_DELAY=-1",
+                "--golden-raspberry.snapshot.enabled=false",
+                "--golden-raspberry.startup.background=false",
+                "--logging.level.br.com.johnny=WARN",
+                "--logging.level.br.com.johnny.OpenLoopLoadTest=INFO")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(RATE, CONCURRENCY);
+
+            for (Map.Entry<String, String> scenario : SCENARIOS.entrySet()) {
+                String url = baseUrl + scenario.getValue();
+                if (WARMUP_SECONDS > 0) {
+                    generator.run(scenario.getKey(), url, Duration.ofSeconds(WARMUP_SECONDS));
+                }
+                LatencyReport report = generator.run(scenario.getKey(), url, Duration.ofSeconds(DURATION_SECONDS));
+                logger.info("{}", report);
+                reports.add(report);
+            }
+        }
+
+        writeReports(reports);
+        if (!BASELINE.isBlank()) {
+            compareWithBaseline(reports, Path.of(BASELINE));
+        }
+
+        for (LatencyReport report : reports) {
+            assertEquals(0, report.getErrors(), "Falhas no cenário " + report.getScenario());
+            assertEquals((long) RATE * DURATION_SECONDS, report.getRequests(),
+                    "Requisições registradas no cenário " + report.getScenario());
+        }
+    }
+
+    private void writeReports(List<LatencyReport> reports) throws IOException {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("timestamp", Instant.now().toString());
+        summary.put("profile", PROFILE.isBlank() ? "default" : PROFILE);
+        summary.put("durationSeconds", DURATION_SECONDS);
+
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        for (LatencyReport report : reports) {
+            report.writeHistograms(REPORT_DIR);
+            scenarios.add(report.toSummary());
+        }
+        summary.put("scenarios", scenarios);
+
+        Path summaryFile = REPORT_DIR.resolve("summary.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(summaryFile.toFile(), summary);
+        logger.info("Relatórios de latência gravados em {}", REPORT_DIR.toAbsolutePath());
+    }
+
+    /**
+     * Registra, por cenário, a variação dos percentis em relação ao resumo de uma execução anterior.
+     */
+    private void compareWithBaseline(List<LatencyReport> reports, Path baselineFile) throws IOException {
+        if (!Files.isRegularFile(baselineFile)) {
+            logger.warn("Resumo de referência não encontrado: {}", baselineFile);
+            return;
+        }
+
+        Map<String, JsonNode> baseline = new LinkedHashMap<>();
+        for (JsonNode scenario : new ObjectMapper().readTree(baselineFile.toFile()).path("scenarios")) {
+            baseline.put(scenario.path("scenario").asText(), scenario);
+        }
+
+        for (LatencyReport report : reports) {
+            JsonNode previous = baseline.get(report.getScenario());
+            if (previous == null) {
+                logger.info("{}: sem referência", report.getScenario());
+                continue;
+            }
+            StringBuilder line = new StringBuilder(String.format("%-28s", report.getScenario()));
+            for (String percentile : COMPARED_PERCENTILES) {
+                double before = previous.path(percentile).asDouble();
+                double after = (double) report.toSummary().get(percentile);
+                line.append(String.format("  %s %8.2f -> %8.2f ms (%+.1f%%)", percentile, before, after,
+                        before > 0 ? (after - before) / before * 100 : 0.0));
+            }
+            logger.info("{}", line);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.johnny;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga que compara o atendimento das requisições por threads de plataforma
+ * e por threads virtuais (perfil {@code virtual-threads}) sob alta concorrência.
+ * <p>
+ * Cada modo sobe a aplicação completa em uma porta aleatória, com banco próprio, e recebe
+ * a mesma quantidade de requisições nos endpoints existentes, mantendo um número fixo de
+ * requisições em andamento. São comparadas a vazão e a latência nos percentis 50, 99 e 99,9.
+ * <p>
+ * As threads virtuais devem atender a carga com vazão e latência no percentil 99 ao menos
+ * equivalentes às das threads de plataforma, com a margem de {@code -PloadTolerance}
+ * (padrão 0,2, ou 20%) para o ruído da medição.
+ * <p>
+ * O teste fica no conjunto de fontes {@code loadTest} e não faz parte da tarefa
+ * {@code test}; execute com {@code gradle loadTest}, que usa um toolchain Java 21. Em uma
+ * JVM anterior o teste falha, em vez de ser ignorado. A concorrência e a quantidade de
+ * requisições podem ser ajustadas com as propriedades {@code -PloadConcurrency} e
+ * {@code -PloadRequests}.
+ */
+class VirtualThreadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("golden-raspberry.load.concurrency", 1000);
+    private static final int REQUESTS = Integer.getInteger("golden-raspberry.load.requests", 50_000);
+    private static final double TOLERANCE = Double.parseDouble(
+            System.getProperty("golden-raspberry.load.tolerance", "0.2"));
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final List<String> PATHS = List.of(
+            "/api/producers/award-intervals",
+            "/api/producers/award-intervals?top=10",
+            "/api/producers/award-intervals?minInterval=2&maxInterval=10",
+            "/api/health");
+
+    /**
+     * Compara os dois modos de execução com a mesma carga.
+     */
+    @Test
+    void testPlatformAndVirtualThreadsUnderHighConcurrency() throws Exception {
+        assertTrue(Runtime.version().feature() >= 21,
+                "O teste de threads virtuais requer Java 21; execute-o pela tarefa loadTest");
+
+        LoadResult platform = runScenario("platform");
+        LoadResult virtual = runScenario("virtual-threads");
+
+        logger.info("Concorrência {}, {} requisições", CONCURRENCY, REQUESTS);
+        logger.info("{}", platform);
+        logger.info("{}", virtual);
+
+        assertEquals(0, platform.errors, "Falhas com threads de plataforma");
+        assertEquals(0, virtual.errors, "Falhas com threads virtuais");
+        assertEquals(REQUESTS, platform.latenciesNanos.length);
+        assertEquals(REQUESTS, virtual.latenciesNanos.length);
+        assertTrue(virtual.throughput() >= platform.throughput() * (1 - TOLERANCE),
+                "Vazão com threads virtuais abaixo da obtida com threads de plataforma");
+        assertTrue(virtual.percentileMillis(99) <= platform.percentileMillis(99) * (1 + TOLERANCE),
+                "Latência p99 com threads virtuais acima da obtida com threads de plataforma");
+    }
+
+    private LoadResult runScenario(String mode) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Main.class);
+        if (!"platform".equals(mode)) {
+            builder.profiles(mode);
+        }
+
+        try (ConfigurableApplicationContext context = builder.run("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--golden-raspberry.startup.background=false",
+                "--logging.level.br.com.johnny=WARN",
+                "--logging.level.br.com.johnny.VirtualThreadLoadTest=INFO")) {
+            assertEquals(!"platform".equals(mode),
+                    context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false),
+                    "Modo de threads não aplicado: " + mode);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            run(mode, baseUrl, WARMUP_REQUESTS);
+            return run(mode, baseUrl, REQUESTS);
+        }
+    }
+
+    /**
+     * Dispara as requisições mantendo {@link #CONCURRENCY} requisições simultâneas.
+     */
+    private LoadResult run(String mode, String baseUrl, int requests) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        List<HttpRequest> httpRequests = PATHS.stream()
+                .map(path -> HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build())
+                .toList();
+
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> workers = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                workers.add(clients.submit(() -> {
+                    int request;
+                    while ((request = next.getAndIncrement()) < requests) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(
+                                    httpRequests.get(request % httpRequests.size()),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[request] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            return new LoadResult(mode, latencies, elapsed, errors.get());
+        } finally {
+            clients.shutdownNow();
+            clients.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Vazão e latências de uma execução.
+     */
+    private static final class LoadResult {
+
+        private final String mode;
+        private final long[] latenciesNanos;
+        private final long elapsedNanos;
+        private final int errors;
+
+        private LoadResult(String mode, long[] latenciesNanos, long elapsedNanos, int errors) {
+            this.mode = mode;
+            this.latenciesNanos = latenciesNanos.clone();
+            Arrays.sort(this.latenciesNanos);
+            this.elapsedNanos = elapsedNanos;
+            this.errors = errors;
+        }
+
+        private double throughput() {
+            return latenciesNanos.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        private double percentileMillis(double percentile) {
+            int position = (int) Math.ceil(percentile / 100 * latenciesNanos.length) - 1;
+            return latenciesNanos[Math.max(position, 0)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-15s %10.0f req/s  p50 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms  erros %d",
+                    mode, throughput(), percentileMillis(50), percentileMillis(99), percentileMillis(99.9), errors);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.johnny.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resultado de um cenário de carga: vazão, falhas e distribuição das latências corrigidas
+ * para a omissão coordenada, além do tempo de serviço sem correção.
+ * <p>
+ * As distribuições são gravadas no formato {@code .hgrm} do HdrHistogram, em milissegundos,
+ * que pode ser comparado entre execuções no HdrHistogram Plotter, e o resumo dos percentis
+ * é exportado como mapa para o relatório JSON.
+ */
+public final class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] SUMMARY_PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final String scenario;
+    private final int ratePerSecond;
+    private final int concurrency;
+    private final long elapsedNanos;
+    private final long errors;
+    private final long delayedSends;
+    private final Histogram latency;
+    private final Histogram serviceTime;
+
+    LatencyReport(String scenario, int ratePerSecond, int concurrency, long elapsedNanos, long errors,
+                  long delayedSends, Histogram latency, Histogram serviceTime) {
+        this.scenario = scenario;
+        this.ratePerSecond = ratePerSecond;
+        this.concurrency = concurrency;
+        this.elapsedNanos = elapsedNanos;
+        this.errors = errors;
+        this.delayedSends = delayedSends;
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getRequests() {
+        return latency.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Obtém a latência corrigida no percentil informado.
+     *
+     * @param percentile percentil, de 0 a 100
+     * @return latência em milissegundos
+     */
+    public double latencyMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    /**
+     * Obtém a vazão efetiva, incluindo a espera pelas últimas respostas.
+     *
+     * @return requisições respondidas por segundo
+     */
+    public double throughput() {
+        return getRequests() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Grava as distribuições de latência corrigida e de tempo de serviço do cenário.
+     *
+     * @param directory diretório dos relatórios
+     * @throws IOException se os arquivos não puderem ser gravados
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        writeHistogram(directory.resolve(scenario + ".hgrm"), latency);
+        writeHistogram(directory.resolve(scenario + "-service-time.hgrm"), serviceTime);
+    }
+
+    /**
+     * Resume o cenário em um mapa, com as latências corrigidas em milissegundos.
+     *
+     * @return resumo do cenário
+     */
+    public Map<String, Object> toSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", scenario);
+        summary.put("rate", ratePerSecond);
+        summary.put("concurrency", concurrency);
+        summary.put("requests", getRequests());
+        summary.put("errors", errors);
+        summary.put("delayedSends", delayedSends);
+        summary.put("throughput", Math.round(throughput()));
+        for (double percentile : SUMMARY_PERCENTILES) {
+            summary.put(percentileKey(percentile), latencyMillis(percentile));
+        }
+        summary.put("max", latency.getMaxValue() / MICROS_PER_MILLI);
+        summary.put("serviceTimeP99", serviceTime.getValueAtPercentile(99) / MICROS_PER_MILLI);
+        return summary;
+    }
+
+    /**
+     * Nome do percentil no resumo, como {@code p99} ou {@code p99.9}.
+     *
+     * @param percentile percentil, de 0 a 100
+     * @return nome do percentil
+     */
+    public static String percentileKey(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-28s %6d req/s alvo %8.0f req/s  p50 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms"
+                        + "  máx %8.2f ms  serviço p99 %8.2f ms  atrasadas %d  erros %d",
+                scenario, ratePerSecond, throughput(), latencyMillis(50), latencyMillis(99), latencyMillis(99.9),
+                latency.getMaxValue() / MICROS_PER_MILLI, serviceTime.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                delayedSends, errors);
+    }
+}
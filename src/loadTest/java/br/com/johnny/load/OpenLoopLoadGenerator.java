@@ -0,0 +1,117 @@
+package br.com.johnny.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em laço aberto: as requisições são disparadas em uma taxa fixa,
+ * cada uma no seu horário previsto, independente de as anteriores já terem respondido.
+ * A quantidade de requisições em andamento é limitada pela concorrência configurada;
+ * quando o limite é atingido, os disparos seguintes aguardam uma vaga.
+ * <p>
+ * A latência de cada requisição é medida a partir do horário previsto do disparo, e não
+ * do envio efetivo. Assim, o tempo que uma requisição passou esperando por um servidor
+ * lento, ou por uma vaga de concorrência, entra na latência registrada, em vez de ser
+ * omitido como em um gerador em laço fechado (omissão coordenada). O tempo de serviço,
+ * medido a partir do envio efetivo, é registrado à parte para comparação.
+ */
+public final class OpenLoopLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient httpClient;
+    private final int ratePerSecond;
+    private final int concurrency;
+
+    /**
+     * Construtor com a taxa e a concorrência da carga.
+     *
+     * @param ratePerSecond requisições disparadas por segundo
+     * @param concurrency quantidade máxima de requisições em andamento
+     */
+    public OpenLoopLoadGenerator(int ratePerSecond, int concurrency) {
+        if (ratePerSecond < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("A taxa e a concorrência devem ser positivas");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.concurrency = concurrency;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Dispara requisições GET para a URL informada durante o tempo informado e aguarda
+     * as respostas pendentes.
+     *
+     * @param scenario nome do cenário, usado no relatório
+     * @param url URL requisitada
+     * @param duration duração do disparo
+     * @return relatório de latência do cenário
+     * @throws InterruptedException se a espera pelas respostas for interrompida
+     */
+    public LatencyReport run(String scenario, String url, Duration duration) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        AtomicLong errors = new AtomicLong();
+        Semaphore slots = new Semaphore(concurrency);
+
+        long requests = duration.toNanos() * ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        double intervalNanos = (double) TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long delayedSends = 0;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < requests; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            slots.acquire();
+            long sent = System.nanoTime();
+            if (sent - intended > TimeUnit.MILLISECONDS.toNanos(1)) {
+                delayedSends++;
+            }
+
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long completed = System.nanoTime();
+                        if (failure != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        latency.recordValue(toMicros(completed - intended));
+                        serviceTime.recordValue(toMicros(completed - sent));
+                        slots.release();
+                    });
+        }
+        if (!slots.tryAcquire(concurrency, 1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Requisições sem resposta ao fim do cenário " + scenario);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new LatencyReport(scenario, ratePerSecond, concurrency, elapsed, errors.get(), delayedSends,
+                latency, serviceTime);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+    }
+}
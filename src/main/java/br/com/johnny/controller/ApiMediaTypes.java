@@ -0,0 +1,91 @@
+package br.com.johnny.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Tipos de mídia das respostas da API. Além do JSON, as consultas de intervalos e as
+ * listagens podem ser negociadas pelo cabeçalho {@code Accept} em formatos binários:
+ * CBOR e Smile, com a mesma estrutura do JSON, e Protocol Buffers, com as mensagens
+ * definidas em {@code src/main/proto/golden_raspberry.proto}.
+ */
+public final class ApiMediaTypes {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.valueOf(SMILE_VALUE);
+
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType PROTOBUF = MediaType.valueOf(PROTOBUF_VALUE);
+
+    /**
+     * Formatos binários aceitos pelas consultas de intervalos e pelas listagens.
+     */
+    public static final List<MediaType> BINARY = List.of(MediaType.APPLICATION_CBOR, SMILE, PROTOBUF);
+
+    private ApiMediaTypes() {
+    }
+
+    /**
+     * Indica se o cabeçalho {@code Accept} prefere um formato binário ao JSON: o binário
+     * precisa ter qualidade maior que a do JSON. Sem cabeçalho, com um tipo que inclui o
+     * JSON (como {@code *}{@code /*}) ou em caso de empate, o JSON é preferido.
+     *
+     * @param accept valor do cabeçalho {@code Accept}
+     * @return true se um formato binário deve ser usado
+     */
+    public static boolean prefersBinary(String accept) {
+        double[] qualities = qualities(accept);
+        return qualities[1] > qualities[0];
+    }
+
+    /**
+     * Fixa o JSON como tipo da resposta quando o cabeçalho {@code Accept} aceita JSON e não
+     * prefere um formato binário. Sem isso, a negociação do Spring MVC escolheria, em caso de
+     * empate, o primeiro tipo listado pelo cliente. Nos demais casos, o tipo continua sendo
+     * negociado pelos conversores.
+     *
+     * @param builder resposta em construção
+     * @param accept valor do cabeçalho {@code Accept}
+     * @return a mesma resposta, para encadeamento
+     */
+    public static ResponseEntity.BodyBuilder preferJson(ResponseEntity.BodyBuilder builder, String accept) {
+        double[] qualities = qualities(accept);
+        if (qualities[0] > 0 && qualities[1] <= qualities[0]) {
+            builder.contentType(MediaType.APPLICATION_JSON);
+        }
+        return builder;
+    }
+
+    /**
+     * Obtém a maior qualidade aceita para o JSON e para os formatos binários. Sem cabeçalho,
+     * ou com um cabeçalho inválido, somente o JSON é aceito.
+     */
+    private static double[] qualities(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return new double[] {1, 0};
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return new double[] {1, 0};
+        }
+
+        double jsonQuality = 0;
+        double binaryQuality = 0;
+        for (MediaType type : accepted) {
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                jsonQuality = Math.max(jsonQuality, type.getQualityValue());
+            }
+            for (MediaType binary : BINARY) {
+                if (type.includes(binary)) {
+                    binaryQuality = Math.max(binaryQuality, type.getQualityValue());
+                }
+            }
+        }
+        return new double[] {jsonQuality, binaryQuality};
+    }
+}
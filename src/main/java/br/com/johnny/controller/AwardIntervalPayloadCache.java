@@ -0,0 +1,189 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.jfr.ResponseBuildEvent;
+import br.com.johnny.jfr.StageEvent;
+import br.com.johnny.service.GoldenRaspberryService;
+import br.com.johnny.service.ProducerIntervalIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache da resposta padrão de intervalos de prêmios já serializada em JSON.
+ * O conteúdo é serializado (e opcionalmente comprimido com gzip) uma única vez por
+ * versão dos dados do {@link ProducerIntervalIndex}; enquanto a versão não muda, as
+ * requisições são atendidas com os mesmos bytes e o mesmo ETag, sem acionar o serviço.
+ * O ETag é derivado do conteúdo, de modo que nós com os mesmos dados produzem o mesmo valor.
+ * Cada serialização é registrada no evento do JFR {@link ResponseBuildEvent}.
+ */
+@Component
+public class AwardIntervalPayloadCache {
+
+    private static final int ETAG_HEX_LENGTH = 32;
+
+    private final GoldenRaspberryService goldenRaspberryService;
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final Timer buildTimer;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Payload payload;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param goldenRaspberryService serviço de consulta dos intervalos
+     * @param producerIntervalIndex índice que fornece a versão dos dados
+     * @param objectMapper serializador JSON da aplicação
+     * @param gzipEnabled indica se a versão comprimida com gzip também deve ser mantida
+     * @param meterRegistry registro de métricas da aplicação
+     */
+    @Autowired
+    public AwardIntervalPayloadCache(GoldenRaspberryService goldenRaspberryService,
+                                     ProducerIntervalIndex producerIntervalIndex,
+                                     ObjectMapper objectMapper,
+                                     @Value("${golden-raspberry.http.precompress:true}") boolean gzipEnabled,
+                                     MeterRegistry meterRegistry) {
+        this.goldenRaspberryService = goldenRaspberryService;
+        this.producerIntervalIndex = producerIntervalIndex;
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.buildTimer = ProducerIntervalIndex.stageTimer(meterRegistry, "build", StageEvent.PRIMARY_DATASET);
+    }
+
+    /**
+     * Obtém o conteúdo serializado da versão atual dos dados, serializando-o apenas
+     * quando a versão mudou desde a última chamada. A serialização usa uma
+     * {@link ReentrantLock}, que não prende threads virtuais durante a espera.
+     *
+     * @return conteúdo serializado
+     */
+    public Payload get() {
+        long version = producerIntervalIndex.getVersion();
+        Payload current = payload;
+        if (current != null && current.version == version) {
+            return current;
+        }
+
+        lock.lock();
+        try {
+            current = payload;
+            if (current == null || current.version != version) {
+                AwardIntervalResponse response = goldenRaspberryService.getProducerAwardIntervals();
+                current = buildTimer.record(() -> serialize(version, response));
+                payload = current;
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Payload serialize(long version, AwardIntervalResponse response) {
+        ResponseBuildEvent event = new ResponseBuildEvent();
+        event.begin();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            byte[] gzip = gzipEnabled ? gzip(json) : null;
+            Payload serialized = new Payload(version, json, gzip, contentHash(json));
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.setDataset(StageEvent.PRIMARY_DATASET);
+                event.setFormat(gzip != null ? "json+gzip" : "json");
+                event.setRows(response.getMin().size() + response.getMax().size());
+                event.setBytes(json.length + (gzip != null ? gzip.length : 0));
+                event.commit();
+            }
+            return serialized;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar os intervalos de prêmios", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static String contentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest).substring(0, ETAG_HEX_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Resposta serializada de uma versão dos dados.
+     */
+    public static final class Payload {
+
+        private final long version;
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+
+        private Payload(long version, byte[] json, byte[] gzip, String contentHash) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = "\"" + contentHash + "\"";
+            this.gzipEtag = "\"" + contentHash + "-gzip\"";
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * Obtém o conteúdo comprimido com gzip.
+         *
+         * @return conteúdo comprimido, ou null se a compressão prévia estiver desabilitada
+         */
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+
+        /**
+         * Obtém o ETag forte da representação; as representações com e sem gzip
+         * têm ETags distintos, como exigido para validadores fortes.
+         *
+         * @param gzipped indica a representação comprimida
+         * @return ETag entre aspas
+         */
+        public String getEtag(boolean gzipped) {
+            return gzipped ? gzipEtag : etag;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.johnny.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Conversores dos formatos binários CBOR e Smile. São criados a partir do mesmo
+ * {@link Jackson2ObjectMapperBuilder} configurado pelo Spring Boot para o JSON, de modo
+ * que os três formatos usam os mesmos módulos e propriedades {@code spring.jackson.*}
+ * e produzem a mesma estrutura.
+ * <p>
+ * Todos os conversores binários ficam depois do conversor JSON: os de CBOR e Smile
+ * substituem os conversores padrão do Spring MVC na mesma posição, e o de Protocol Buffers
+ * é acrescentado ao final da lista. Assim, sem {@code Accept} ou com {@code *}{@code /*},
+ * a resposta continua em JSON. Os empates entre JSON e um formato binário são resolvidos
+ * pelos controladores com {@link ApiMediaTypes#preferJson}.
+ * <p>
+ * O conversor JSON também é declarado aqui, no lugar do conversor do Spring Boot e com o
+ * mesmo {@link ObjectMapper}, para que as respostas de intervalos escritas em qualquer um
+ * dos formatos sejam registradas no evento do JFR pelo {@link ResponseBuildRecorder}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryFormatConfiguration implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter jsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                ResponseBuildRecorder.write(object, "json", outputMessage,
+                        message -> super.writeInternal(object, type, message));
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                ResponseBuildRecorder.write(object, "cbor", outputMessage,
+                        message -> super.writeInternal(object, type, message));
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                ResponseBuildRecorder.write(object, "smile", outputMessage,
+                        message -> super.writeInternal(object, type, message));
+            }
+        };
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProtobufResponseConverter());
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.service.DataStartupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indicador de saúde {@code dataStartup}, que acompanha a inicialização dos dados.
+ * <p>
+ * Fica fora de serviço enquanto os dados são carregados e as consultas aquecidas, e
+ * faz parte do grupo {@code readiness}, de modo que {@code /actuator/health/readiness}
+ * só responde UP quando a aplicação pode receber tráfego.
+ */
+@Component
+public class DataStartupHealthIndicator implements HealthIndicator {
+
+    private final DataStartupService dataStartupService;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param dataStartupService inicialização dos dados acompanhada
+     */
+    @Autowired
+    public DataStartupHealthIndicator(DataStartupService dataStartupService) {
+        this.dataStartupService = dataStartupService;
+    }
+
+    @Override
+    public Health health() {
+        DataStartupService.State state = dataStartupService.getState();
+        return switch (state) {
+            case READY -> Health.up().withDetail("state", state).build();
+            case FAILED -> Health.down(dataStartupService.getFailure()).withDetail("state", state).build();
+            default -> Health.outOfService().withDetail("state", state).build();
+        };
+    }
+}
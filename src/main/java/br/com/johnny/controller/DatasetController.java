@@ -0,0 +1,77 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.DatasetStatus;
+import br.com.johnny.service.DatasetRegistry;
+import br.com.johnny.service.IntervalQuery;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Endpoints dos conjuntos de dados adicionais registrados no {@link DatasetRegistry}: os
+ * intervalos de prêmios de cada conjunto, com os mesmos parâmetros da consulta principal,
+ * e a situação dos conjuntos. A primeira consulta a um conjunto lê o seu arquivo CSV, por
+ * isso estes endpoints só existem na variante bloqueante da API.
+ */
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DatasetController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetController.class);
+    private static final long MAX_TOP = 10_000;
+
+    private final DatasetRegistry datasetRegistry;
+
+    @Autowired
+    public DatasetController(DatasetRegistry datasetRegistry) {
+        this.datasetRegistry = datasetRegistry;
+    }
+
+    @GetMapping("/datasets")
+    public ResponseEntity<List<DatasetStatus>> getDatasets() {
+        logger.debug("Recebida requisição para listar os conjuntos de dados");
+        return ResponseEntity.ok(datasetRegistry.getStatus());
+    }
+
+    @GetMapping("/{dataset}/producers/award-intervals")
+    public ResponseEntity<AwardIntervalResponse> getProducerAwardIntervals(
+            @PathVariable String dataset,
+            @RequestParam(required = false) @Min(1) @Max(MAX_TOP) Integer top,
+            @RequestParam(required = false) @Min(1) Integer minInterval,
+            @RequestParam(required = false) @Min(1) Integer maxInterval,
+            @RequestParam(required = false) @Min(1) Integer fromYear,
+            @RequestParam(required = false) @Min(1) Integer toYear,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        logger.debug("Recebida requisição para obter intervalos de prêmios do conjunto '{}'", dataset);
+
+        try {
+            IntervalQuery query = new IntervalQuery(top, minInterval, maxInterval, fromYear, toYear);
+            Optional<AwardIntervalResponse> response = datasetRegistry.getProducerAwardIntervals(dataset, query);
+            return response
+                    .map(body -> ApiMediaTypes.preferJson(ResponseEntity.ok(), accept).varyBy(HttpHeaders.ACCEPT).body(body))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Parâmetros inválidos para a consulta de intervalos: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("Erro ao calcular intervalos de prêmios do conjunto '{}': {}", dataset, e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
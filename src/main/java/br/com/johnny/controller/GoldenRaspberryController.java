@@ -2,43 +2,172 @@ package br.com.johnny.controller;
 
 import br.com.johnny.dto.AwardIntervalResponse;
 import br.com.johnny.service.GoldenRaspberryService;
+import br.com.johnny.service.IntervalQuery;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GoldenRaspberryController {
 
     private static final Logger logger = LoggerFactory.getLogger(GoldenRaspberryController.class);
+    private static final long MAX_TOP = 10_000;
 
     private final GoldenRaspberryService goldenRaspberryService;
+    private final AwardIntervalPayloadCache awardIntervalPayloadCache;
 
     @Autowired
-    public GoldenRaspberryController(GoldenRaspberryService goldenRaspberryService) {
+    public GoldenRaspberryController(GoldenRaspberryService goldenRaspberryService,
+                                     AwardIntervalPayloadCache awardIntervalPayloadCache) {
         this.goldenRaspberryService = goldenRaspberryService;
+        this.awardIntervalPayloadCache = awardIntervalPayloadCache;
     }
 
     @GetMapping("/producers/award-intervals")
-    public ResponseEntity<AwardIntervalResponse> getProducerAwardIntervals() {
-        logger.info("Recebida requisição para obter intervalos de prêmios dos produtores");
+    public ResponseEntity<?> getProducerAwardIntervals(
+            @RequestParam(required = false) @Min(1) @Max(MAX_TOP) Integer top,
+            @RequestParam(required = false) @Min(1) Integer minInterval,
+            @RequestParam(required = false) @Min(1) Integer maxInterval,
+            @RequestParam(required = false) @Min(1) Integer fromYear,
+            @RequestParam(required = false) @Min(1) Integer toYear,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        logger.debug("Recebida requisição para obter intervalos de prêmios dos produtores");
         
         try {
-            AwardIntervalResponse response = goldenRaspberryService.getProducerAwardIntervals();
+            IntervalQuery query = new IntervalQuery(top, minInterval, maxInterval, fromYear, toYear);
+            if (query.isDefault() && !ApiMediaTypes.prefersBinary(accept)) {
+                return cachedProducerAwardIntervals(ifNoneMatch, acceptEncoding);
+            }
+
+            AwardIntervalResponse response = goldenRaspberryService.getProducerAwardIntervals(query);
             
-            logger.info("Intervalos de prêmios calculados com sucesso");
-            return ResponseEntity.ok(response);
+            logger.debug("Intervalos de prêmios calculados com sucesso");
+            return ApiMediaTypes.preferJson(ResponseEntity.ok(), accept).varyBy(HttpHeaders.ACCEPT).body(response);
             
+        } catch (IllegalArgumentException e) {
+            logger.warn("Parâmetros inválidos para a consulta de intervalos: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Erro ao calcular intervalos de prêmios: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * Atende a consulta padrão com o conteúdo já serializado da versão atual dos dados,
+     * respondendo 304 quando o ETag informado pelo cliente ainda é válido. O conteúdo
+     * guardado é o JSON; os formatos binários negociados pelo {@code Accept} são
+     * serializados a cada requisição pelos conversores da aplicação.
+     */
+    private ResponseEntity<byte[]> cachedProducerAwardIntervals(String ifNoneMatch, String acceptEncoding) {
+        AwardIntervalPayloadCache.Payload payload = awardIntervalPayloadCache.get();
+        boolean gzipped = payload.hasGzip() && acceptsGzip(acceptEncoding);
+        String etag = payload.getEtag(gzipped);
+
+        if (matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzipped) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzip());
+        }
+        return builder.body(payload.getJson());
+    }
+
+    /**
+     * Verifica se o cabeçalho Accept-Encoding aceita gzip. O fator de qualidade é comparado
+     * numericamente, de modo que {@code q=0}, {@code q=0.0} e {@code q=0.000} recusam a
+     * codificação; sem menção a gzip, vale o fator do curinga {@code *}. Fatores inválidos
+     * são tratados como recusa.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            String coding = parts[0].trim();
+            if ("gzip".equalsIgnoreCase(coding)) {
+                gzipQuality = Math.max(gzipQuality, quality(parts));
+            } else if ("*".equals(coding)) {
+                wildcardQuality = Math.max(wildcardQuality, quality(parts));
+            }
+        }
+        return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+    }
+
+    /**
+     * Obtém o fator de qualidade dos parâmetros de uma codificação: 1 quando ausente e
+     * 0 quando inválido ou fora do intervalo de 0 a 1.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && "q".equalsIgnoreCase(parameter.substring(0, separator).trim())) {
+                try {
+                    double quality = Double.parseDouble(parameter.substring(separator + 1).trim());
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Compara o cabeçalho If-None-Match com o ETag atual usando comparação fraca,
+     * como definido para requisições GET condicionais.
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
         logger.debug("Health check solicitado");
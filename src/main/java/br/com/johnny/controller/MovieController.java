@@ -0,0 +1,246 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.MoviePageResponse;
+import br.com.johnny.dto.MovieResponse;
+import br.com.johnny.repository.MovieCursor;
+import br.com.johnny.repository.MovieFilter;
+import br.com.johnny.service.MovieCatalogService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Endpoints de listagem dos filmes cadastrados.
+ * A listagem em JSON é paginada por chave: cada página traz o cursor da seguinte. As páginas
+ * também podem ser negociadas em CBOR, Smile ou Protocol Buffers (ver {@link ApiMediaTypes}).
+ * Com {@code Accept: application/x-ndjson}, os filmes são escritos na resposta, um por
+ * linha, à medida que são lidos do banco, com memória constante. Cada listagem em fluxo
+ * ocupa uma conexão do banco enquanto é escrita, por isso a quantidade de filmes é limitada
+ * por {@code golden-raspberry.movies.stream.max-limit} e a quantidade de listagens
+ * simultâneas por {@code golden-raspberry.movies.stream.max-concurrent}; acima dela, a
+ * requisição recebe 429. A escrita é encerrada ao atingir
+ * {@code golden-raspberry.movies.stream.max-duration}, menor que
+ * {@code spring.mvc.async.request-timeout}, para que a resposta não seja cortada no meio.
+ * Quando a listagem é encerrada pelo limite de filmes ou pela duração e ainda restam filmes,
+ * a última linha é {@code {"nextCursor":"..."}}, com o cursor para continuar a leitura.
+ */
+@RestController
+@RequestMapping("/api/movies")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MovieController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieController.class);
+    private static final int DEFAULT_LIMIT = 100;
+    private static final long MAX_LIMIT = 1_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final String RETRY_AFTER_SECONDS = "5";
+    private static final String STREAM_PERMIT_KEY = MovieController.class.getName() + ".STREAM_PERMIT";
+
+    private final MovieCatalogService movieCatalogService;
+    private final ObjectMapper objectMapper;
+    private final int maxStreamLimit;
+    private final Duration maxStreamDuration;
+    private final Semaphore streamPermits;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieCatalogService listagem dos filmes
+     * @param objectMapper serializador JSON da listagem em fluxo
+     * @param maxStreamLimit quantidade máxima de filmes de uma listagem em fluxo
+     * @param maxConcurrentStreams quantidade máxima de listagens em fluxo simultâneas
+     * @param maxStreamDuration duração máxima da escrita de uma listagem em fluxo
+     */
+    @Autowired
+    public MovieController(MovieCatalogService movieCatalogService, ObjectMapper objectMapper,
+                           @Value("${golden-raspberry.movies.stream.max-limit:100000}") int maxStreamLimit,
+                           @Value("${golden-raspberry.movies.stream.max-concurrent:4}") int maxConcurrentStreams,
+                           @Value("${golden-raspberry.movies.stream.max-duration:50s}") Duration maxStreamDuration) {
+        if (maxStreamLimit < 1 || maxConcurrentStreams < 1 || maxStreamDuration.isNegative()
+                || maxStreamDuration.isZero()) {
+            throw new IllegalArgumentException("Configuração inválida da listagem de filmes em fluxo");
+        }
+        this.movieCatalogService = movieCatalogService;
+        this.objectMapper = objectMapper;
+        this.maxStreamLimit = maxStreamLimit;
+        this.maxStreamDuration = maxStreamDuration;
+        this.streamPermits = new Semaphore(maxConcurrentStreams);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            ApiMediaTypes.SMILE_VALUE, ApiMediaTypes.PROTOBUF_VALUE})
+    public ResponseEntity<MoviePageResponse> getMovies(
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(required = false) Boolean winner,
+            @RequestParam(required = false) String studio,
+            @RequestParam(required = false) String producer,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @Min(1) @Max(MAX_LIMIT) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        try {
+            MovieFilter filter = new MovieFilter(fromYear, toYear, winner, studio, producer);
+            MoviePageResponse page = movieCatalogService.findMovies(filter, cursor,
+                    limit != null ? limit : DEFAULT_LIMIT);
+            return ApiMediaTypes.preferJson(ResponseEntity.ok(), accept).varyBy(HttpHeaders.ACCEPT).body(page);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Parâmetros inválidos para a listagem de filmes: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMovies(
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(required = false) Boolean winner,
+            @RequestParam(required = false) String studio,
+            @RequestParam(required = false) String producer,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @Min(1) Integer limit,
+            NativeWebRequest webRequest) {
+        MovieFilter filter;
+        try {
+            if (limit != null && limit > maxStreamLimit) {
+                throw new IllegalArgumentException("limit deve ser no máximo " + maxStreamLimit);
+            }
+            filter = new MovieFilter(fromYear, toYear, winner, studio, producer);
+            movieCatalogService.validateCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Parâmetros inválidos para a listagem de filmes: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!streamPermits.tryAcquire()) {
+            logger.warn("Limite de listagens de filmes em fluxo simultâneas atingido");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        releaseOnCompletion(webRequest);
+        int effectiveLimit = limit != null ? limit : maxStreamLimit;
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                NdjsonWriter writer = new NdjsonWriter(generator, effectiveLimit,
+                        System.nanoTime() + maxStreamDuration.toNanos());
+                try {
+                    movieCatalogService.streamMovies(filter, cursor, effectiveLimit + 1, writer::write);
+                } catch (StreamStopped e) {
+                    logger.warn("Listagem de filmes em fluxo encerrada após {} filmes: duração máxima atingida",
+                            writer.written);
+                }
+                writer.writeNextCursor();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Escreve os filmes da listagem em fluxo, um por linha, até o limite de filmes ou o fim
+     * do prazo. Um filme a mais que o limite é lido apenas para saber se restam filmes; nesse
+     * caso, ou se o prazo terminou, a última linha traz o cursor para continuar a leitura.
+     */
+    private static final class NdjsonWriter {
+
+        private final JsonGenerator generator;
+        private final int limit;
+        private final long deadlineNanos;
+        private int written;
+        private MovieResponse last;
+        private boolean truncated;
+
+        private NdjsonWriter(JsonGenerator generator, int limit, long deadlineNanos) {
+            this.generator = generator;
+            this.limit = limit;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private void write(MovieResponse movie) {
+            if (written == limit) {
+                truncated = true;
+                return;
+            }
+            if (written > 0 && System.nanoTime() - deadlineNanos > 0) {
+                truncated = true;
+                throw StreamStopped.INSTANCE;
+            }
+
+            try {
+                generator.writeObject(movie);
+                generator.writeRaw('\n');
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            last = movie;
+        }
+
+        private void writeNextCursor() throws IOException {
+            if (!truncated) {
+                return;
+            }
+            generator.writeStartObject();
+            generator.writeStringField("nextCursor", new MovieCursor(last.getYear(), last.getId()).encode());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+    }
+
+    /**
+     * Interrompe a leitura dos filmes quando o prazo da listagem em fluxo termina.
+     */
+    private static final class StreamStopped extends RuntimeException {
+
+        private static final StreamStopped INSTANCE = new StreamStopped();
+
+        private StreamStopped() {
+            super("Prazo da listagem em fluxo encerrado", null, false, false);
+        }
+    }
+
+    /**
+     * Devolve a permissão da listagem em fluxo ao fim do processamento assíncrono da
+     * resposta, seja ele concluído, expirado ou interrompido por erro.
+     */
+    private void releaseOnCompletion(NativeWebRequest webRequest) {
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(STREAM_PERMIT_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        streamPermits.release();
+                    }
+                });
+    }
+}
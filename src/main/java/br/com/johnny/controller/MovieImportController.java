@@ -0,0 +1,87 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.ImportJobStatus;
+import br.com.johnny.exception.ImportRejectedException;
+import br.com.johnny.exception.ImportTooLargeException;
+import br.com.johnny.service.MovieImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.Callable;
+
+/**
+ * Endpoints de importação de filmes a partir de arquivos CSV.
+ * O corpo da requisição é o próprio CSV, no mesmo formato do movielist.csv, e é lido
+ * em fluxo; a importação é executada em segundo plano e acompanhada pelo identificador
+ * retornado.
+ * <p>
+ * O recebimento do corpo é processado de forma assíncrona pelo executor do Spring MVC, de
+ * modo que envios lentos não retêm as threads do Tomcat; o tempo de recebimento é limitado
+ * por {@code spring.mvc.async.request-timeout}. Envios acima de
+ * {@code golden-raspberry.imports.max-size} recebem 413, pelo {@code Content-Length}
+ * informado ou ao excederem o limite durante a leitura.
+ */
+@RestController
+@RequestMapping("/api/imports")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MovieImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieImportController.class);
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final MovieImportService movieImportService;
+
+    @Autowired
+    public MovieImportController(MovieImportService movieImportService) {
+        this.movieImportService = movieImportService;
+    }
+
+    @PostMapping
+    public Callable<ResponseEntity<ImportJobStatus>> submitImport(
+            InputStream content,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength) {
+        long declaredSize = contentLength != null ? contentLength : -1;
+        return () -> submit(content, declaredSize);
+    }
+
+    private ResponseEntity<ImportJobStatus> submit(InputStream content, long declaredSize) {
+        try {
+            ImportJobStatus status = movieImportService.submit(content, declaredSize);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/imports/" + status.getId()))
+                    .body(status);
+        } catch (ImportTooLargeException e) {
+            logger.warn("Importação recusada: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        } catch (ImportRejectedException e) {
+            logger.warn("Importação recusada: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        } catch (IOException e) {
+            logger.warn("Erro ao receber o arquivo de importação: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobStatus> getImport(@PathVariable String id) {
+        return movieImportService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.ProducerSearchResponse;
+import br.com.johnny.dto.ProducerWinsResponse;
+import br.com.johnny.service.GoldenRaspberryService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoints de consulta de produtores vencedores: vitórias e intervalos de um produtor e
+ * busca por prefixo do nome para preenchimento automático. As consultas são atendidas pelo
+ * índice de intervalos em memória, sem consultar o armazenamento de filmes.
+ */
+@RestController
+@RequestMapping("/api/producers")
+public class ProducerController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProducerController.class);
+    private static final int DEFAULT_LIMIT = 10;
+    private static final long MAX_LIMIT = 100;
+
+    private final GoldenRaspberryService goldenRaspberryService;
+
+    @Autowired
+    public ProducerController(GoldenRaspberryService goldenRaspberryService) {
+        this.goldenRaspberryService = goldenRaspberryService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ProducerSearchResponse> searchProducers(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(required = false) @Min(1) @Max(MAX_LIMIT) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        logger.debug("Recebida busca de produtores pelo prefixo '{}'", prefix);
+
+        int effectiveLimit = limit != null ? limit : DEFAULT_LIMIT;
+        return ApiMediaTypes.preferJson(ResponseEntity.ok(), accept)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new ProducerSearchResponse(goldenRaspberryService.findProducerNames(prefix, effectiveLimit)));
+    }
+
+    @GetMapping("/{name}")
+    public ResponseEntity<ProducerWinsResponse> getProducer(@PathVariable String name) {
+        logger.debug("Recebida requisição para obter as vitórias do produtor '{}'", name);
+
+        return goldenRaspberryService.findProducer(name)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
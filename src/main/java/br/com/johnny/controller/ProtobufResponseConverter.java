@@ -0,0 +1,122 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.MoviePageResponse;
+import br.com.johnny.dto.MovieResponse;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.dto.ProducerSearchResponse;
+import br.com.johnny.proto.AwardIntervals;
+import br.com.johnny.proto.Movie;
+import br.com.johnny.proto.MoviePage;
+import br.com.johnny.proto.ProducerInterval;
+import br.com.johnny.proto.ProducerNames;
+import com.google.protobuf.Message;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Conversor das respostas de intervalos e de listagem para Protocol Buffers, usado quando
+ * o cliente envia {@code Accept: application/x-protobuf}. Os DTOs continuam sendo a única
+ * representação usada pelos serviços e controladores; cada um é copiado para a mensagem
+ * correspondente de {@code golden_raspberry.proto} apenas na escrita da resposta.
+ * <p>
+ * O conversor é registrado por {@link BinaryFormatConfiguration} ao final da lista de
+ * conversores, depois do JSON, e só atende os tipos de resposta mapeados aqui. As respostas
+ * de intervalos são registradas no evento do JFR pelo {@link ResponseBuildRecorder}.
+ */
+public class ProtobufResponseConverter extends AbstractHttpMessageConverter<Object> {
+
+    public ProtobufResponseConverter() {
+        super(ApiMediaTypes.PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == AwardIntervalResponse.class
+                || clazz == MoviePageResponse.class
+                || clazz == ProducerSearchResponse.class;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Requisições em Protocol Buffers não são suportadas", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object response, HttpOutputMessage outputMessage) throws IOException {
+        ResponseBuildRecorder.write(response, "protobuf", outputMessage, message -> {
+            byte[] content = toMessage(response).toByteArray();
+            message.getHeaders().setContentLength(content.length);
+            message.getBody().write(content);
+        });
+    }
+
+    /**
+     * Copia a resposta para a mensagem correspondente.
+     *
+     * @param response resposta de um dos tipos suportados
+     * @return mensagem equivalente
+     */
+    static Message toMessage(Object response) {
+        if (response instanceof AwardIntervalResponse intervals) {
+            return AwardIntervals.newBuilder()
+                    .addAllMin(toIntervals(intervals.getMin()))
+                    .addAllMax(toIntervals(intervals.getMax()))
+                    .build();
+        }
+        if (response instanceof MoviePageResponse page) {
+            MoviePage.Builder builder = MoviePage.newBuilder();
+            for (MovieResponse movie : page.getMovies()) {
+                builder.addMovies(toMovie(movie));
+            }
+            if (page.getNextCursor() != null) {
+                builder.setNextCursor(page.getNextCursor());
+            }
+            return builder.build();
+        }
+        if (response instanceof ProducerSearchResponse search) {
+            return ProducerNames.newBuilder().addAllProducers(search.getProducers()).build();
+        }
+        throw new HttpMessageNotWritableException("Tipo sem mensagem Protocol Buffers: " + response.getClass().getName());
+    }
+
+    private static List<ProducerInterval> toIntervals(List<ProducerAwardInterval> intervals) {
+        return intervals.stream()
+                .map(interval -> ProducerInterval.newBuilder()
+                        .setProducer(interval.getProducer())
+                        .setInterval(interval.getInterval())
+                        .setPreviousWin(interval.getPreviousWin())
+                        .setFollowingWin(interval.getFollowingWin())
+                        .build())
+                .toList();
+    }
+
+    private static Movie toMovie(MovieResponse movie) {
+        Movie.Builder builder = Movie.newBuilder()
+                .setId(movie.getId())
+                .setYear(movie.getYear())
+                .setWinner(Boolean.TRUE.equals(movie.getWinner()));
+        if (movie.getTitle() != null) {
+            builder.setTitle(movie.getTitle());
+        }
+        if (movie.getStudios() != null) {
+            builder.setStudios(movie.getStudios());
+        }
+        if (movie.getProducers() != null) {
+            builder.setProducers(movie.getProducers());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.service.GoldenRaspberryService;
+import br.com.johnny.service.IntervalQuery;
+import br.com.johnny.service.ReactiveAwardIntervalService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Variante reativa dos endpoints de intervalos e de health check, ativa quando a aplicação
+ * é executada sobre o WebFlux (perfil {@code reactive}). Mantém os mesmos parâmetros e o
+ * mesmo formato de resposta do {@link GoldenRaspberryController}.
+ * <p>
+ * A consulta padrão é calculada pelo pipeline reativo sobre os vencedores lidos por R2DBC.
+ * As consultas com parâmetros usam o índice de intervalos em memória, como na variante
+ * bloqueante, sem acesso ao banco. Como a consulta ao índice aguarda a trava de leitura e
+ * pode aguardar o cálculo coalescido de outra requisição, ela é assinada fora das threads
+ * do laço de eventos.
+ */
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGoldenRaspberryController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveGoldenRaspberryController.class);
+    private static final long MAX_TOP = 10_000;
+
+    private final ReactiveAwardIntervalService reactiveAwardIntervalService;
+    private final GoldenRaspberryService goldenRaspberryService;
+
+    @Autowired
+    public ReactiveGoldenRaspberryController(ReactiveAwardIntervalService reactiveAwardIntervalService,
+                                             GoldenRaspberryService goldenRaspberryService) {
+        this.reactiveAwardIntervalService = reactiveAwardIntervalService;
+        this.goldenRaspberryService = goldenRaspberryService;
+    }
+
+    @GetMapping("/producers/award-intervals")
+    public Mono<ResponseEntity<AwardIntervalResponse>> getProducerAwardIntervals(
+            @RequestParam(required = false) @Min(1) @Max(MAX_TOP) Integer top,
+            @RequestParam(required = false) @Min(1) Integer minInterval,
+            @RequestParam(required = false) @Min(1) Integer maxInterval,
+            @RequestParam(required = false) @Min(1) Integer fromYear,
+            @RequestParam(required = false) @Min(1) Integer toYear) {
+        logger.debug("Recebida requisição reativa para obter intervalos de prêmios dos produtores");
+
+        IntervalQuery query;
+        try {
+            query = new IntervalQuery(top, minInterval, maxInterval, fromYear, toYear);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Parâmetros inválidos para a consulta de intervalos: {}", e.getMessage());
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        Mono<AwardIntervalResponse> response = query.isDefault()
+                ? reactiveAwardIntervalService.getProducerAwardIntervals()
+                : Mono.fromSupplier(() -> goldenRaspberryService.getProducerAwardIntervals(query))
+                        .subscribeOn(Schedulers.boundedElastic());
+
+        return response
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("Erro ao calcular intervalos de prêmios: {}", e.getMessage(), e);
+                    return Mono.just(ResponseEntity.internalServerError().build());
+                });
+    }
+
+    @GetMapping("/health")
+    public Mono<ResponseEntity<String>> healthCheck() {
+        logger.debug("Health check solicitado");
+        return Mono.just(ResponseEntity.ok("Golden Raspberry Awards API está funcionando!"));
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.johnny.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Servidor da variante reativa. Como o Tomcat também está no classpath para a variante
+ * bloqueante, o servidor Netty é declarado explicitamente, com um número fixo de threads
+ * de laço de eventos quando {@code golden-raspberry.reactive.event-loop-threads} é positivo.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
+            @Value("${golden-raspberry.reactive.event-loop-threads:0}") int eventLoopThreads) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        if (eventLoopThreads > 0) {
+            LoopResources loopResources = LoopResources.create("golden-raspberry-http", eventLoopThreads, true);
+            factory.addServerCustomizers(server -> server.runOn(loopResources));
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.jfr.ResponseBuildEvent;
+import br.com.johnny.jfr.StageEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Registro da escrita das respostas de intervalos pelos conversores de mensagens no evento
+ * do JFR {@link ResponseBuildEvent}. Complementa o registro feito por
+ * {@link AwardIntervalPayloadCache}, que cobre apenas a resposta padrão: aqui são registradas
+ * as consultas com parâmetros, as de outros conjuntos de dados e os formatos binários.
+ * <p>
+ * Os bytes correspondem ao que o conversor escreveu no corpo da resposta, contados apenas
+ * quando o evento está habilitado. O conjunto de dados é obtido da variável {@code dataset}
+ * do caminho da requisição, quando houver.
+ */
+final class ResponseBuildRecorder {
+
+    private static final String DATASET_VARIABLE = "dataset";
+
+    /**
+     * Escrita da resposta por um conversor.
+     */
+    @FunctionalInterface
+    interface Writer {
+
+        void write(HttpOutputMessage outputMessage) throws IOException;
+    }
+
+    private ResponseBuildRecorder() {
+    }
+
+    /**
+     * Escreve a resposta com o conversor informado, registrando o evento quando a resposta
+     * é de intervalos.
+     *
+     * @param body corpo da resposta
+     * @param format formato produzido pelo conversor
+     * @param outputMessage mensagem de saída
+     * @param writer escrita do conversor
+     * @throws IOException se houver erro de escrita
+     */
+    static void write(Object body, String format, HttpOutputMessage outputMessage, Writer writer) throws IOException {
+        if (!(body instanceof AwardIntervalResponse response)) {
+            writer.write(outputMessage);
+            return;
+        }
+
+        ResponseBuildEvent event = new ResponseBuildEvent();
+        if (!event.isEnabled()) {
+            writer.write(outputMessage);
+            return;
+        }
+
+        CountingOutputMessage countingMessage = new CountingOutputMessage(outputMessage);
+        event.begin();
+        writer.write(countingMessage);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setDataset(dataset());
+            event.setFormat(format);
+            event.setRows(response.getMin().size() + response.getMax().size());
+            event.setBytes(countingMessage.bytes);
+            event.commit();
+        }
+    }
+
+    private static String dataset() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getRequest().getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                && variables.get(DATASET_VARIABLE) instanceof String dataset) {
+            return dataset;
+        }
+        return StageEvent.PRIMARY_DATASET;
+    }
+
+    /**
+     * Mensagem de saída que conta os bytes escritos no corpo.
+     */
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+
+        private final HttpOutputMessage delegate;
+        private OutputStream body;
+        private long bytes;
+
+        private CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterOutputStream(delegate.getBody()) {
+                    @Override
+                    public void write(int b) throws IOException {
+                        out.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                        bytes += len;
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.service.DataStartupService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Recusa as requisições à API que chegam antes de os dados estarem prontos, quando a
+ * inicialização ocorre em segundo plano, com 503 e o cabeçalho {@code Retry-After}. O health
+ * check não é recusado.
+ * <p>
+ * Por padrão a recusa é imediata ({@code golden-raspberry.startup.request-wait=0s}): a espera
+ * ocupa uma thread do servidor, e muitas requisições retidas esgotariam o pool do Tomcat.
+ * Uma espera curta pode ser configurada para absorver o fim da inicialização.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StartupGateInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+
+    static final String RETRY_AFTER_SECONDS = "5";
+
+    private final DataStartupService dataStartupService;
+    private final Duration requestWait;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param dataStartupService inicialização dos dados aguardada
+     * @param requestWait tempo máximo que uma requisição aguarda a inicialização
+     */
+    @Autowired
+    public StartupGateInterceptor(DataStartupService dataStartupService,
+                                  @Value("${golden-raspberry.startup.request-wait:0s}") Duration requestWait) {
+        this.dataStartupService = dataStartupService;
+        this.requestWait = requestWait;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this).addPathPatterns("/api/**").excludePathPatterns("/api/health");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (dataStartupService.isReady()
+                || (!requestWait.isZero() && dataStartupService.awaitReady(requestWait))) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Dados em inicialização");
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.service.DataStartupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Equivalente reativo do {@link StartupGateInterceptor}: as requisições à API que chegam
+ * antes de os dados estarem prontos recebem 503, ou aguardam a inicialização sem bloquear o
+ * laço de eventos por até {@code golden-raspberry.startup.request-wait}, quando configurado.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class StartupGateWebFilter implements WebFilter {
+
+    private final DataStartupService dataStartupService;
+    private final Duration requestWait;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param dataStartupService inicialização dos dados aguardada
+     * @param requestWait tempo máximo que uma requisição aguarda a inicialização
+     */
+    @Autowired
+    public StartupGateWebFilter(DataStartupService dataStartupService,
+                                @Value("${golden-raspberry.startup.request-wait:0s}") Duration requestWait) {
+        this.dataStartupService = dataStartupService;
+        this.requestWait = requestWait;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        if (dataStartupService.isReady() || !path.startsWith("/api/") || path.equals("/api/health")) {
+            return chain.filter(exchange);
+        }
+
+        if (requestWait.isZero()) {
+            return unavailable(exchange);
+        }
+
+        return Mono.fromCompletionStage(dataStartupService.whenReady())
+                .timeout(requestWait)
+                .thenReturn(true)
+                .onErrorReturn(false)
+                .flatMap(ready -> ready ? chain.filter(exchange) : unavailable(exchange));
+    }
+
+    private static Mono<Void> unavailable(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, StartupGateInterceptor.RETRY_AFTER_SECONDS);
+        return exchange.getResponse().setComplete();
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.johnny.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+
+/**
+ * DTO (Data Transfer Object) que representa a situação de um conjunto de dados registrado:
+ * se o seu índice está em memória e quanto ele ocupa, pela estimativa do índice.
+ */
+public class DatasetStatus {
+
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("loaded")
+    private boolean loaded;
+
+    @JsonProperty("estimatedBytes")
+    private long estimatedBytes;
+
+    /**
+     * Construtor padrão.
+     */
+    public DatasetStatus() {
+    }
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param name nome do conjunto de dados
+     * @param loaded indica se o índice do conjunto está em memória
+     * @param estimatedBytes memória estimada do índice, ou zero se não estiver carregado
+     */
+    public DatasetStatus(String name, boolean loaded, long estimatedBytes) {
+        this.name = name;
+        this.loaded = loaded;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DatasetStatus that = (DatasetStatus) o;
+        return loaded == that.loaded &&
+               estimatedBytes == that.estimatedBytes &&
+               Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, loaded, estimatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetStatus{" +
+                "name='" + name + '\'' +
+                ", loaded=" + loaded +
+                ", estimatedBytes=" + estimatedBytes +
+                '}';
+    }
+}
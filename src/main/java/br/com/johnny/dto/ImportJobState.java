@@ -0,0 +1,19 @@
+package br.com.johnny.dto;
+
+/**
+ * Situação de uma importação de filmes.
+ */
+public enum ImportJobState {
+
+    /** Aguardando uma thread do executor de importações. */
+    QUEUED,
+
+    /** Em execução; os lotes gravados ainda não estão visíveis para as consultas. */
+    RUNNING,
+
+    /** Concluída; os filmes importados foram publicados. */
+    COMPLETED,
+
+    /** Interrompida por erro; nenhum filme da importação foi publicado. */
+    FAILED
+}
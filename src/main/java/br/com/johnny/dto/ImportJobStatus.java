@@ -0,0 +1,151 @@
+package br.com.johnny.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * DTO que representa a situação e o progresso de uma importação de filmes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobStatus {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("state")
+    private ImportJobState state;
+
+    @JsonProperty("rowsProcessed")
+    private long rowsProcessed;
+
+    @JsonProperty("moviesLoaded")
+    private long moviesLoaded;
+
+    @JsonProperty("rowsRejected")
+    private long rowsRejected;
+
+    @JsonProperty("bytesRead")
+    private long bytesRead;
+
+    @JsonProperty("bytesTotal")
+    private long bytesTotal;
+
+    @JsonProperty("rowsPerSecond")
+    private double rowsPerSecond;
+
+    @JsonProperty("submittedAt")
+    private Instant submittedAt;
+
+    @JsonProperty("startedAt")
+    private Instant startedAt;
+
+    @JsonProperty("finishedAt")
+    private Instant finishedAt;
+
+    @JsonProperty("error")
+    private String error;
+
+    /**
+     * Construtor padrão.
+     */
+    public ImportJobStatus() {
+    }
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param id identificador da importação
+     * @param state situação da importação
+     * @param rowsProcessed registros lidos até o momento, sem o cabeçalho
+     * @param moviesLoaded filmes gravados até o momento
+     * @param rowsRejected registros descartados até o momento
+     * @param bytesRead bytes do arquivo lidos até o momento
+     * @param bytesTotal tamanho do arquivo recebido
+     * @param rowsPerSecond vazão da importação em registros por segundo
+     * @param submittedAt instante do recebimento do arquivo
+     * @param startedAt instante do início da importação, ou null se ainda não iniciada
+     * @param finishedAt instante do fim da importação, ou null se ainda não concluída
+     * @param error mensagem de erro, ou null se não houve falha
+     */
+    public ImportJobStatus(String id, ImportJobState state, long rowsProcessed, long moviesLoaded,
+                           long rowsRejected, long bytesRead, long bytesTotal, double rowsPerSecond,
+                           Instant submittedAt, Instant startedAt, Instant finishedAt, String error) {
+        this.id = id;
+        this.state = state;
+        this.rowsProcessed = rowsProcessed;
+        this.moviesLoaded = moviesLoaded;
+        this.rowsRejected = rowsRejected;
+        this.bytesRead = bytesRead;
+        this.bytesTotal = bytesTotal;
+        this.rowsPerSecond = rowsPerSecond;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.error = error;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ImportJobState getState() {
+        return state;
+    }
+
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public long getMoviesLoaded() {
+        return moviesLoaded;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesTotal() {
+        return bytesTotal;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportJobStatus{" +
+                "id='" + id + '\'' +
+                ", state=" + state +
+                ", rowsProcessed=" + rowsProcessed +
+                ", moviesLoaded=" + moviesLoaded +
+                ", rowsRejected=" + rowsRejected +
+                ", bytesRead=" + bytesRead +
+                ", bytesTotal=" + bytesTotal +
+                ", rowsPerSecond=" + rowsPerSecond +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.johnny.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) que representa uma página da listagem de filmes.
+ * A página seguinte é obtida repetindo a consulta com o cursor informado.
+ */
+public class MoviePageResponse {
+
+    @JsonProperty("movies")
+    private List<MovieResponse> movies;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    /**
+     * Construtor padrão.
+     */
+    public MoviePageResponse() {
+    }
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param movies filmes da página
+     * @param nextCursor cursor da página seguinte, ou null se esta for a última
+     */
+    public MoviePageResponse(List<MovieResponse> movies, String nextCursor) {
+        this.movies = movies;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<MovieResponse> getMovies() {
+        return movies;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "MoviePageResponse{" +
+                "movies=" + movies +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
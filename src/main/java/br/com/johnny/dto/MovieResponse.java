@@ -0,0 +1,107 @@
+package br.com.johnny.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+
+/**
+ * DTO (Data Transfer Object) que representa um filme na listagem da API.
+ */
+public class MovieResponse {
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("year")
+    private Integer year;
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("studios")
+    private String studios;
+
+    @JsonProperty("producers")
+    private String producers;
+
+    @JsonProperty("winner")
+    private Boolean winner;
+
+    /**
+     * Construtor padrão.
+     */
+    public MovieResponse() {
+    }
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param id identificador do filme
+     * @param year ano do filme
+     * @param title título do filme
+     * @param studios estúdios responsáveis
+     * @param producers produtores do filme
+     * @param winner indica se foi vencedor
+     */
+    public MovieResponse(Long id, Integer year, String title, String studios, String producers, Boolean winner) {
+        this.id = id;
+        this.year = year;
+        this.title = title;
+        this.studios = studios;
+        this.producers = producers;
+        this.winner = winner;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getStudios() {
+        return studios;
+    }
+
+    public String getProducers() {
+        return producers;
+    }
+
+    public Boolean getWinner() {
+        return winner;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MovieResponse that = (MovieResponse) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(year, that.year) &&
+               Objects.equals(title, that.title) &&
+               Objects.equals(studios, that.studios) &&
+               Objects.equals(producers, that.producers) &&
+               Objects.equals(winner, that.winner);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, year, title, studios, producers, winner);
+    }
+
+    @Override
+    public String toString() {
+        return "MovieResponse{" +
+                "id=" + id +
+                ", year=" + year +
+                ", title='" + title + '\'' +
+                ", studios='" + studios + '\'' +
+                ", producers='" + producers + '\'' +
+                ", winner=" + winner +
+                '}';
+    }
+}
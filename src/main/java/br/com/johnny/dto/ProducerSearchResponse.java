@@ -0,0 +1,40 @@
+package br.com.johnny.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) que representa o resultado da busca de produtores por
+ * prefixo do nome, usada no preenchimento automático.
+ */
+public class ProducerSearchResponse {
+
+    @JsonProperty("producers")
+    private List<String> producers;
+
+    /**
+     * Construtor padrão.
+     */
+    public ProducerSearchResponse() {
+    }
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param producers nomes dos produtores em ordem alfabética
+     */
+    public ProducerSearchResponse(List<String> producers) {
+        this.producers = producers;
+    }
+
+    public List<String> getProducers() {
+        return producers;
+    }
+
+    @Override
+    public String toString() {
+        return "ProducerSearchResponse{" +
+                "producers=" + producers +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.johnny.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DTO (Data Transfer Object) que representa as vitórias de um produtor: os anos em que
+ * venceu, em ordem crescente, e os intervalos entre vitórias consecutivas.
+ */
+public class ProducerWinsResponse {
+
+    @JsonProperty("producer")
+    private String producer;
+
+    @JsonProperty("wins")
+    private List<Integer> wins;
+
+    @JsonProperty("intervals")
+    private List<ProducerAwardInterval> intervals;
+
+    /**
+     * Construtor padrão.
+     */
+    public ProducerWinsResponse() {
+    }
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param producer nome do produtor
+     * @param wins anos de vitória em ordem crescente
+     * @param intervals intervalos entre vitórias consecutivas
+     */
+    public ProducerWinsResponse(String producer, List<Integer> wins, List<ProducerAwardInterval> intervals) {
+        this.producer = producer;
+        this.wins = wins;
+        this.intervals = intervals;
+    }
+
+    public String getProducer() {
+        return producer;
+    }
+
+    public List<Integer> getWins() {
+        return wins;
+    }
+
+    public List<ProducerAwardInterval> getIntervals() {
+        return intervals;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProducerWinsResponse that = (ProducerWinsResponse) o;
+        return Objects.equals(producer, that.producer) &&
+               Objects.equals(wins, that.wins) &&
+               Objects.equals(intervals, that.intervals);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(producer, wins, intervals);
+    }
+
+    @Override
+    public String toString() {
+        return "ProducerWinsResponse{" +
+                "producer='" + producer + '\'' +
+                ", wins=" + wins +
+                ", intervals=" + intervals +
+                '}';
+    }
+}
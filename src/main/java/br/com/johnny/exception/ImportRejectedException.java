@@ -0,0 +1,18 @@
+package br.com.johnny.exception;
+
+/**
+ * Exceção lançada quando uma importação é recusada porque o limite de
+ * importações simultâneas e enfileiradas foi atingido.
+ */
+public class ImportRejectedException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem de erro.
+     *
+     * @param message mensagem descritiva do erro
+     */
+    public ImportRejectedException(String message) {
+        super(message);
+    }
+
+}
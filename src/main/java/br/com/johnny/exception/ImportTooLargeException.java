@@ -0,0 +1,18 @@
+package br.com.johnny.exception;
+
+/**
+ * Exceção lançada quando o arquivo enviado para importação excede o tamanho
+ * máximo configurado.
+ */
+public class ImportTooLargeException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem de erro.
+     *
+     * @param message mensagem descritiva do erro
+     */
+    public ImportTooLargeException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,22 @@
+package br.com.johnny.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Envio de um lote de inclusões, alterações ou remoções de filmes em um único batch JDBC.
+ * Os bytes são estimados pelo tamanho dos parâmetros enviados.
+ */
+@Name("br.com.johnny.BatchPersist")
+@Label("Persistência de Lote")
+@Category({"Golden Raspberry", "Carga"})
+public class BatchPersistEvent extends StageEvent {
+
+    @Label("Operação")
+    private String operation;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.johnny.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Interpretação de um bloco de um arquivo CSV. Na carga paralela, o bloco é a região do
+ * arquivo mapeada por uma tarefa; na carga sequencial, são as linhas lidas entre dois lotes
+ * de inclusão, com os bytes estimados pelo tamanho dos campos. Em ambas, a duração inclui a
+ * persistência dos filmes do bloco. Os conjuntos de dados adicionais são lidos em um único
+ * bloco, sem persistência.
+ */
+@Name("br.com.johnny.CsvChunkParse")
+@Label("Interpretação de Bloco do CSV")
+@Category({"Golden Raspberry", "Carga"})
+public class CsvChunkParseEvent extends StageEvent {
+
+    @Label("Posição")
+    @Description("Posição do bloco no arquivo, em bytes, ou -1 quando a leitura é em fluxo")
+    private long offset = -1;
+
+    @Label("Registros Descartados")
+    private long rejected;
+
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.johnny.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Cálculo de uma resposta de intervalos sobre o índice. Os registros correspondem aos
+ * intervalos mínimos e máximos da resposta; a etapa não processa bytes.
+ */
+@Name("br.com.johnny.IntervalCalculation")
+@Label("Cálculo dos Intervalos")
+@Category({"Golden Raspberry", "Intervalos"})
+public class IntervalCalculationEvent extends StageEvent {
+
+    @Label("Consulta")
+    private String query;
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.johnny.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Reconstrução do índice de intervalos: separação dos produtores de cada filme vencedor e
+ * registro dos anos de vitória. Os bytes correspondem à memória estimada do índice construído.
+ */
+@Name("br.com.johnny.ProducerExtraction")
+@Label("Extração dos Produtores")
+@Category({"Golden Raspberry", "Intervalos"})
+public class ProducerExtractionEvent extends StageEvent {
+
+    @Label("Produtores")
+    private long producers;
+
+    public void setProducers(long producers) {
+        this.producers = producers;
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.johnny.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Serialização de uma resposta de intervalos: a resposta padrão, no cache de respostas, e as
+ * demais consultas e formatos, na escrita pelos conversores de mensagens. Os registros
+ * correspondem aos intervalos serializados e os bytes, ao tamanho das representações produzidas.
+ */
+@Name("br.com.johnny.ResponseBuild")
+@Label("Construção da Resposta")
+@Category({"Golden Raspberry", "Intervalos"})
+public class ResponseBuildEvent extends StageEvent {
+
+    @Label("Formato")
+    private String format;
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.johnny.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do JDK Flight Recorder de uma etapa da carga dos dados ou do cálculo dos intervalos.
+ * Cada evento registra a duração da etapa, o conjunto de dados a que ela se refere e a
+ * quantidade de registros e de bytes processados, para que os picos de latência de uma
+ * gravação contínua possam ser atribuídos a uma etapa específica.
+ * <p>
+ * Os eventos são desativados por padrão e são habilitados pelo perfil
+ * {@code jfr/golden-raspberry.jfc}. Os campos só devem ser preenchidos depois de
+ * {@link #end()}, quando {@link #shouldCommit()} indica que o evento será gravado, de
+ * modo que as etapas não calculam tamanhos e contagens que seriam descartados.
+ * <p>
+ * Os campos são protegidos, e não privados, porque o JFR só grava os campos herdados
+ * que são visíveis às subclasses.
+ */
+@Category("Golden Raspberry")
+@Enabled(false)
+@StackTrace(false)
+public abstract class StageEvent extends Event {
+
+    /**
+     * Identificação do conjunto de dados principal, carregado do CSV configurado em
+     * {@code golden-raspberry.ingest.csv-location}. Os conjuntos adicionais são identificados
+     * pelo nome usado em {@code /api/{dataset}}.
+     */
+    public static final String PRIMARY_DATASET = "primary";
+
+    @Label("Conjunto de Dados")
+    protected String dataset;
+
+    @Label("Registros")
+    @Description("Quantidade de registros processados pela etapa")
+    protected long rows;
+
+    @Label("Bytes")
+    @Description("Quantidade de bytes processados pela etapa, ou zero quando a etapa não lê nem produz bytes")
+    @DataAmount
+    protected long bytes;
+
+    public void setDataset(String dataset) {
+        this.dataset = dataset;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.johnny.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Leitura dos filmes vencedores no armazenamento, para a construção do índice de intervalos.
+ * Os bytes correspondem ao tamanho dos produtores lidos.
+ */
+@Name("br.com.johnny.WinnerQuery")
+@Label("Consulta dos Vencedores")
+@Category({"Golden Raspberry", "Intervalos"})
+public class WinnerQueryEvent extends StageEvent {
+}
@@ -9,9 +9,23 @@ import java.util.Objects;
  * métodos pequenos e responsabilidade única (SRP).
  */
 @Entity
-@Table(name = "movies")
+@Table(name = "movies", indexes = {
+        @Index(name = "idx_movies_year_id", columnList = "yearMovie, id"),
+        @Index(name = "idx_movies_winner_year", columnList = "winner, yearMovie")
+})
 public class Movie {
 
+    /**
+     * Menor ano aceito para um filme.
+     */
+    public static final int MIN_YEAR = 1;
+
+    /**
+     * Maior ano aceito para um filme. Limita o maior intervalo entre prêmios e, com ele,
+     * as estruturas do índice indexadas pelo comprimento do intervalo.
+     */
+    public static final int MAX_YEAR = 9999;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -66,10 +80,23 @@ public class Movie {
     public Integer getYear() {
         return yearMovie;
     }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getStudios() {
+        return studios;
+    }
+
     public String getProducers() {
         return producers;
     }
 
+    public Boolean getWinner() {
+        return winner;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -97,5 +124,14 @@ public class Movie {
                 ", winner=" + winner +
                 '}';
     }
-}
 
+    /**
+     * Indica se o ano está entre {@link #MIN_YEAR} e {@link #MAX_YEAR}.
+     *
+     * @param year ano do filme
+     * @return true se o ano é aceito
+     */
+    public static boolean isValidYear(int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
+}
@@ -0,0 +1,753 @@
+package br.com.johnny.repository;
+
+import br.com.johnny.model.Movie;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Armazenamento dos filmes em memória, organizado em colunas, sem JPA nem banco de dados.
+ * <p>
+ * Cada filme ocupa uma posição nas colunas: identificadores em um {@code long[]} crescente,
+ * anos em um {@code int[]}, vencedores em um {@link BitSet}, estúdios e colunas de produtores
+ * como identificadores de dicionário e títulos como referências a um pool de bytes UTF-8.
+ * As consultas percorrem diretamente esses arrays; a ordem (ano, identificador) usada pela
+ * listagem e pelos vencedores é calculada uma vez e reaproveitada até a próxima alteração.
+ * Filmes removidos são apenas marcados e descartados por compactação quando passam a ser
+ * maioria.
+ * <p>
+ * As alterações feitas dentro de uma transação do Spring são registradas e desfeitas se a
+ * transação não for confirmada, mas ficam visíveis às leituras antes da confirmação.
+ * As alterações são serializadas por um {@link ReentrantReadWriteLock}, e as leituras
+ * compartilham a trava de leitura; leituras em fluxo liberam a trava entre blocos de filmes.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "golden-raspberry", name = "storage", havingValue = "columnar")
+public class ColumnarMovieStore implements MovieStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int FETCH_SIZE = 500;
+    private static final int MIN_DELETED_TO_COMPACT = 1024;
+    private static final int NULL_REF = -1;
+
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] years = new int[INITIAL_CAPACITY];
+    private int[] titleRefs = new int[INITIAL_CAPACITY];
+    private int[] studioRefs = new int[INITIAL_CAPACITY];
+    private int[] producerRefs = new int[INITIAL_CAPACITY];
+    private BitSet winners = new BitSet();
+    private BitSet deleted = new BitSet();
+    private Utf8Pool titles = new Utf8Pool();
+    private final Utf8Dictionary studios = new Utf8Dictionary();
+    private final Utf8Dictionary producers = new Utf8Dictionary();
+
+    private int size;
+    private int liveCount;
+    private long nextId = 1;
+    private int openTransactions;
+    private volatile int[] yearOrder;
+    private volatile int[] winnerOrder;
+
+    public ColumnarMovieStore() {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    @Override
+    public boolean existsAny() {
+        return count() > 0;
+    }
+
+    @Override
+    public long count() {
+        readLock.lock();
+        try {
+            return liveCount;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Movie> findById(Long id) {
+        readLock.lock();
+        try {
+            int position = positionOf(id);
+            return position >= 0 ? Optional.of(movieAt(position)) : Optional.empty();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Movie> findAllById(Collection<Long> movieIds) {
+        readLock.lock();
+        try {
+            List<Movie> movies = new ArrayList<>(movieIds.size());
+            for (Long id : movieIds) {
+                int position = positionOf(id);
+                if (position >= 0) {
+                    movies.add(movieAt(position));
+                }
+            }
+            return movies;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Movie> findWinnerMoviesOrderedByYear() {
+        readLock.lock();
+        try {
+            int[] order = winnerOrder();
+            List<Movie> movies = new ArrayList<>(order.length);
+            for (int position : order) {
+                movies.add(movieAt(position));
+            }
+            return movies;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<WinnerMovieRow> findWinnerRowsOrderedByYear() {
+        readLock.lock();
+        try {
+            int[] order = winnerOrder();
+            List<WinnerMovieRow> rows = new ArrayList<>(order.length);
+            for (int position : order) {
+                rows.add(new WinnerMovieRow(ids[position], years[position], producers.get(producerRefs[position])));
+            }
+            return rows;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Movie> findPage(MovieFilter filter, MovieCursor after, int limit) {
+        readLock.lock();
+        try {
+            int[] order = yearOrder();
+            FragmentMatcher studioMatcher = studios.matcher(filter.getStudio());
+            FragmentMatcher producerMatcher = producers.matcher(filter.getProducer());
+            List<Movie> movies = new ArrayList<>(Math.min(limit, FETCH_SIZE));
+
+            for (int k = firstInOrder(order, filter, after); k < order.length && movies.size() < limit; k++) {
+                int position = order[k];
+                if (filter.getToYear() != null && years[position] > filter.getToYear()) {
+                    break;
+                }
+                if (matches(position, filter, studioMatcher, producerMatcher)) {
+                    movies.add(movieAt(position));
+                }
+            }
+            return movies;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void forEach(MovieFilter filter, MovieCursor after, Integer limit, Consumer<Movie> consumer) {
+        long remaining = limit != null ? limit : Long.MAX_VALUE;
+        MovieCursor cursor = after;
+
+        while (remaining > 0) {
+            List<Movie> page = findPage(filter, cursor, (int) Math.min(FETCH_SIZE, remaining));
+            page.forEach(consumer);
+            if (page.size() < FETCH_SIZE) {
+                return;
+            }
+            remaining -= page.size();
+            Movie last = page.get(page.size() - 1);
+            cursor = new MovieCursor(last.getYear(), last.getId());
+        }
+    }
+
+    @Override
+    public void forEachMovie(Consumer<Movie> consumer) {
+        long lastId = Long.MIN_VALUE;
+        List<Movie> block = new ArrayList<>(FETCH_SIZE);
+
+        do {
+            block.clear();
+            readLock.lock();
+            try {
+                int index = Arrays.binarySearch(ids, 0, size, lastId);
+                for (int position = index >= 0 ? index + 1 : -index - 1;
+                     position < size && block.size() < FETCH_SIZE; position++) {
+                    if (!deleted.get(position)) {
+                        block.add(movieAt(position));
+                    }
+                }
+            } finally {
+                readLock.unlock();
+            }
+
+            block.forEach(consumer);
+            if (!block.isEmpty()) {
+                lastId = block.get(block.size() - 1).getId();
+            }
+        } while (block.size() == FETCH_SIZE);
+    }
+
+    @Override
+    public Movie save(Movie movie) {
+        insertBatch(List.of(movie));
+        return movie;
+    }
+
+    @Override
+    public void insertBatch(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            UndoLog undoLog = currentUndoLog();
+            for (Movie movie : movies) {
+                movie.setId(nextId++);
+                append(movie, undoLog);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void insertBatchWithIds(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            UndoLog undoLog = currentUndoLog();
+            for (Movie movie : movies) {
+                if (size > 0 && movie.getId() <= ids[size - 1]) {
+                    throw new IllegalArgumentException(
+                            "Os identificadores devem ser maiores que os já cadastrados: " + movie.getId());
+                }
+                append(movie, undoLog);
+                nextId = Math.max(nextId, movie.getId() + 1);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void restartIdentityAfterMaxId() {
+        writeLock.lock();
+        try {
+            if (size > 0) {
+                nextId = Math.max(nextId, ids[size - 1] + 1);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBatch(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            UndoLog undoLog = currentUndoLog();
+            for (Movie movie : movies) {
+                int position = positionOf(movie.getId());
+                if (position < 0) {
+                    continue;
+                }
+                if (undoLog != null) {
+                    undoLog.add(restoreColumns(position));
+                }
+                setColumns(position, movie);
+            }
+            yearOrder = null;
+            winnerOrder = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteBatch(List<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            UndoLog undoLog = currentUndoLog();
+            for (Long id : movieIds) {
+                int position = positionOf(id);
+                if (position >= 0) {
+                    markDeleted(position, undoLog);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        writeLock.lock();
+        try {
+            UndoLog undoLog = currentUndoLog();
+            for (int position = deleted.nextClearBit(0); position < size; position = deleted.nextClearBit(position + 1)) {
+                markDeleted(position, undoLog);
+            }
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Obtém a posição do filme com o identificador, ou -1 se não existir ou tiver sido removido.
+     */
+    private int positionOf(Long id) {
+        if (id == null) {
+            return -1;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        return position >= 0 && !deleted.get(position) ? position : -1;
+    }
+
+    private Movie movieAt(int position) {
+        Movie movie = new Movie(years[position], titles.get(titleRefs[position]),
+                studios.get(studioRefs[position]), producers.get(producerRefs[position]), winners.get(position));
+        movie.setId(ids[position]);
+        return movie;
+    }
+
+    private void append(Movie movie, UndoLog undoLog) {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            years = Arrays.copyOf(years, capacity);
+            titleRefs = Arrays.copyOf(titleRefs, capacity);
+            studioRefs = Arrays.copyOf(studioRefs, capacity);
+            producerRefs = Arrays.copyOf(producerRefs, capacity);
+        }
+
+        int position = size++;
+        ids[position] = movie.getId();
+        setColumns(position, movie);
+        liveCount++;
+        yearOrder = null;
+        winnerOrder = null;
+
+        if (undoLog != null) {
+            undoLog.add(() -> markDeleted(position, null));
+        }
+    }
+
+    private void setColumns(int position, Movie movie) {
+        if (movie.getYear() == null) {
+            throw new IllegalArgumentException("O ano do filme é obrigatório");
+        }
+        years[position] = movie.getYear();
+        titleRefs[position] = titles.add(movie.getTitle());
+        studioRefs[position] = studios.idOf(movie.getStudios());
+        producerRefs[position] = producers.idOf(movie.getProducers());
+        winners.set(position, Boolean.TRUE.equals(movie.getWinner()));
+    }
+
+    /**
+     * Cria a ação que restaura as colunas atuais de uma posição.
+     */
+    private Runnable restoreColumns(int position) {
+        int year = years[position];
+        int titleRef = titleRefs[position];
+        int studioRef = studioRefs[position];
+        int producerRef = producerRefs[position];
+        boolean winner = winners.get(position);
+        return () -> {
+            years[position] = year;
+            titleRefs[position] = titleRef;
+            studioRefs[position] = studioRef;
+            producerRefs[position] = producerRef;
+            winners.set(position, winner);
+            yearOrder = null;
+            winnerOrder = null;
+        };
+    }
+
+    private void markDeleted(int position, UndoLog undoLog) {
+        if (deleted.get(position)) {
+            return;
+        }
+        deleted.set(position);
+        liveCount--;
+        yearOrder = null;
+        winnerOrder = null;
+
+        if (undoLog != null) {
+            undoLog.add(() -> {
+                deleted.clear(position);
+                liveCount++;
+                yearOrder = null;
+                winnerOrder = null;
+            });
+        }
+    }
+
+    /**
+     * Descarta os filmes removidos quando passam a ser maioria. A compactação altera as
+     * posições e por isso não é feita enquanto houver transações com alterações pendentes.
+     */
+    private void compactIfNeeded() {
+        int deletedCount = size - liveCount;
+        if (openTransactions > 0 || deletedCount < MIN_DELETED_TO_COMPACT || deletedCount <= liveCount) {
+            return;
+        }
+
+        Utf8Pool compactTitles = new Utf8Pool();
+        BitSet compactWinners = new BitSet(liveCount);
+        int target = 0;
+        for (int position = deleted.nextClearBit(0); position < size; position = deleted.nextClearBit(position + 1)) {
+            ids[target] = ids[position];
+            years[target] = years[position];
+            titleRefs[target] = compactTitles.add(titles.get(titleRefs[position]));
+            studioRefs[target] = studioRefs[position];
+            producerRefs[target] = producerRefs[position];
+            compactWinners.set(target, winners.get(position));
+            target++;
+        }
+
+        size = target;
+        titles = compactTitles;
+        winners = compactWinners;
+        deleted = new BitSet();
+        yearOrder = null;
+        winnerOrder = null;
+    }
+
+    /**
+     * Obtém as posições dos filmes não removidos na ordem (ano, identificador). Como os
+     * identificadores crescem com a posição, a ordem por (ano, posição) é equivalente.
+     * Chamado com a trava de leitura ou de escrita; o resultado é descartado a cada alteração.
+     */
+    private int[] yearOrder() {
+        int[] order = yearOrder;
+        if (order != null) {
+            return order;
+        }
+
+        long[] keys = new long[liveCount];
+        int count = 0;
+        for (int position = deleted.nextClearBit(0); position < size; position = deleted.nextClearBit(position + 1)) {
+            keys[count++] = ((long) years[position] << 32) | position;
+        }
+        Arrays.sort(keys, 0, count);
+
+        order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = (int) keys[i];
+        }
+        yearOrder = order;
+        return order;
+    }
+
+    /**
+     * Obtém as posições dos filmes vencedores não removidos na ordem (ano, identificador),
+     * lidas pelo índice de intervalos sem percorrer os demais filmes. Chamado com a trava
+     * de leitura ou de escrita; o resultado é descartado a cada alteração.
+     */
+    private int[] winnerOrder() {
+        int[] order = winnerOrder;
+        if (order != null) {
+            return order;
+        }
+
+        int[] byYear = yearOrder();
+        order = new int[byYear.length];
+        int count = 0;
+        for (int position : byYear) {
+            if (winners.get(position)) {
+                order[count++] = position;
+            }
+        }
+        order = Arrays.copyOf(order, count);
+        winnerOrder = order;
+        return order;
+    }
+
+    /**
+     * Localiza, na ordem (ano, identificador), o primeiro filme depois do cursor e a partir
+     * do ano inicial do filtro.
+     */
+    private int firstInOrder(int[] order, MovieFilter filter, MovieCursor after) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (isBeforeStart(order[middle], filter, after)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private boolean isBeforeStart(int position, MovieFilter filter, MovieCursor after) {
+        int year = years[position];
+        if (filter.getFromYear() != null && year < filter.getFromYear()) {
+            return true;
+        }
+        return after != null && (year < after.getYear() || (year == after.getYear() && ids[position] <= after.getId()));
+    }
+
+    private boolean matches(int position, MovieFilter filter, FragmentMatcher studioMatcher,
+                            FragmentMatcher producerMatcher) {
+        if (filter.getWinner() != null && winners.get(position) != filter.getWinner()) {
+            return false;
+        }
+        if (studioMatcher != null && !studioMatcher.matches(studioRefs[position])) {
+            return false;
+        }
+        return producerMatcher == null || producerMatcher.matches(producerRefs[position]);
+    }
+
+    /**
+     * Obtém o registro de alterações da transação corrente, registrando-o na primeira
+     * alteração da transação. Chamado com a trava de escrita.
+     *
+     * @return registro de alterações, ou null se não há transação ativa
+     */
+    private UndoLog currentUndoLog() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        UndoLog undoLog = (UndoLog) TransactionSynchronizationManager.getResource(this);
+        if (undoLog == null) {
+            UndoLog newLog = new UndoLog();
+            TransactionSynchronizationManager.bindResource(this, newLog);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(ColumnarMovieStore.this);
+                    finishTransaction(newLog, status == STATUS_COMMITTED);
+                }
+            });
+            openTransactions++;
+            undoLog = newLog;
+        }
+        return undoLog;
+    }
+
+    private void finishTransaction(UndoLog undoLog, boolean committed) {
+        writeLock.lock();
+        try {
+            if (!committed) {
+                undoLog.undo();
+            }
+            openTransactions--;
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Ações que desfazem as alterações de uma transação, aplicadas em ordem inversa.
+     */
+    private static final class UndoLog {
+
+        private final List<Runnable> actions = new ArrayList<>();
+
+        void add(Runnable action) {
+            actions.add(action);
+        }
+
+        void undo() {
+            for (int i = actions.size() - 1; i >= 0; i--) {
+                actions.get(i).run();
+            }
+        }
+    }
+
+    /**
+     * Dicionário de textos em UTF-8, como estúdios e colunas de produtores: cada texto
+     * distinto é gravado uma única vez no pool, e a busca usa uma tabela de espalhamento
+     * de endereçamento aberto com as referências, sem um objeto por texto.
+     */
+    private static final class Utf8Dictionary {
+
+        private final Utf8Pool pool = new Utf8Pool();
+        private int[] slots = new int[INITIAL_CAPACITY];
+
+        int idOf(String value) {
+            if (value == null) {
+                return NULL_REF;
+            }
+
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            int mask = slots.length - 1;
+            int slot = hash(encoded, 0, encoded.length) & mask;
+            while (slots[slot] != 0) {
+                int ref = slots[slot] - 1;
+                if (pool.contentEquals(ref, encoded)) {
+                    return ref;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            int ref = pool.add(encoded);
+            slots[slot] = ref + 1;
+            if (pool.size() * 2 > slots.length) {
+                resize();
+            }
+            return ref;
+        }
+
+        String get(int ref) {
+            return pool.get(ref);
+        }
+
+        /**
+         * Cria o verificador de um trecho, sem distinção de maiúsculas e minúsculas.
+         *
+         * @return verificador, ou null se não há trecho a procurar
+         */
+        FragmentMatcher matcher(String fragment) {
+            return fragment != null ? new FragmentMatcher(this, fragment.toLowerCase(Locale.ROOT)) : null;
+        }
+
+        int size() {
+            return pool.size();
+        }
+
+        private void resize() {
+            int[] resized = new int[slots.length * 2];
+            int mask = resized.length - 1;
+            for (int ref = 0; ref < pool.size(); ref++) {
+                int slot = pool.hash(ref) & mask;
+                while (resized[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                resized[slot] = ref + 1;
+            }
+            slots = resized;
+        }
+    }
+
+    /**
+     * Verifica se os textos de um dicionário contêm um trecho. Cada texto é decodificado e
+     * comparado no máximo uma vez por consulta, na primeira vez em que é encontrado.
+     */
+    private static final class FragmentMatcher {
+
+        private static final byte UNKNOWN = 0;
+        private static final byte MATCH = 1;
+        private static final byte NO_MATCH = 2;
+
+        private final Utf8Dictionary dictionary;
+        private final String needle;
+        private final byte[] states;
+
+        FragmentMatcher(Utf8Dictionary dictionary, String needle) {
+            this.dictionary = dictionary;
+            this.needle = needle;
+            this.states = new byte[dictionary.size()];
+        }
+
+        boolean matches(int ref) {
+            if (ref == NULL_REF) {
+                return false;
+            }
+            if (states[ref] == UNKNOWN) {
+                boolean match = dictionary.get(ref).toLowerCase(Locale.ROOT).contains(needle);
+                states[ref] = match ? MATCH : NO_MATCH;
+            }
+            return states[ref] == MATCH;
+        }
+    }
+
+    /**
+     * Pool de textos em UTF-8 contíguos, sem um objeto por texto. Nos títulos, textos
+     * substituídos permanecem no pool até a próxima compactação.
+     */
+    private static final class Utf8Pool {
+
+        private byte[] bytes = new byte[16 * INITIAL_CAPACITY];
+        private int[] starts = new int[INITIAL_CAPACITY + 1];
+        private int count;
+
+        int add(String value) {
+            return value != null ? add(value.getBytes(StandardCharsets.UTF_8)) : NULL_REF;
+        }
+
+        int add(byte[] encoded) {
+            int start = starts[count];
+            if (start + encoded.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(start + encoded.length, bytes.length * 2));
+            }
+            if (count + 2 > starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            System.arraycopy(encoded, 0, bytes, start, encoded.length);
+            starts[count + 1] = start + encoded.length;
+            return count++;
+        }
+
+        String get(int ref) {
+            if (ref == NULL_REF) {
+                return null;
+            }
+            return new String(bytes, starts[ref], starts[ref + 1] - starts[ref], StandardCharsets.UTF_8);
+        }
+
+        boolean contentEquals(int ref, byte[] encoded) {
+            return Arrays.equals(bytes, starts[ref], starts[ref + 1], encoded, 0, encoded.length);
+        }
+
+        int hash(int ref) {
+            return ColumnarMovieStore.hash(bytes, starts[ref], starts[ref + 1]);
+        }
+
+        int size() {
+            return count;
+        }
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.johnny.repository;
+
+import br.com.johnny.model.Movie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Armazenamento dos filmes no banco de dados: as operações por entidade usam o
+ * {@link MovieRepository}, as operações em lote o {@link MovieBatchRepository} e a
+ * listagem o {@link MovieQueryRepository}. As alterações participam da transação corrente.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "golden-raspberry", name = "storage", havingValue = "jpa", matchIfMissing = true)
+public class JpaMovieStore implements MovieStore {
+
+    private final MovieRepository movieRepository;
+    private final MovieBatchRepository movieBatchRepository;
+    private final MovieQueryRepository movieQueryRepository;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieRepository repositório JPA de filmes
+     * @param movieBatchRepository repositório de escrita em lote
+     * @param movieQueryRepository repositório de consulta da listagem de filmes
+     */
+    @Autowired
+    public JpaMovieStore(MovieRepository movieRepository,
+                         MovieBatchRepository movieBatchRepository,
+                         MovieQueryRepository movieQueryRepository) {
+        this.movieRepository = movieRepository;
+        this.movieBatchRepository = movieBatchRepository;
+        this.movieQueryRepository = movieQueryRepository;
+    }
+
+    @Override
+    public boolean existsAny() {
+        return movieRepository.existsAny();
+    }
+
+    @Override
+    public long count() {
+        return movieRepository.count();
+    }
+
+    @Override
+    public Optional<Movie> findById(Long id) {
+        return movieRepository.findById(id);
+    }
+
+    @Override
+    public List<Movie> findAllById(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : movieRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Movie> findWinnerMoviesOrderedByYear() {
+        return movieRepository.findWinnerMoviesOrderedByYear();
+    }
+
+    @Override
+    public List<WinnerMovieRow> findWinnerRowsOrderedByYear() {
+        return movieRepository.findWinnerRowsOrderedByYear();
+    }
+
+    @Override
+    public List<Movie> findPage(MovieFilter filter, MovieCursor after, int limit) {
+        return movieQueryRepository.findPage(filter, after, limit);
+    }
+
+    @Override
+    public void forEach(MovieFilter filter, MovieCursor after, Integer limit, Consumer<Movie> consumer) {
+        movieQueryRepository.forEach(filter, after, limit, consumer);
+    }
+
+    @Override
+    public void forEachMovie(Consumer<Movie> consumer) {
+        movieBatchRepository.forEachMovie(consumer);
+    }
+
+    @Override
+    public Movie save(Movie movie) {
+        return movieRepository.save(movie);
+    }
+
+    @Override
+    public void insertBatch(List<Movie> movies) {
+        movieBatchRepository.insertBatch(movies);
+    }
+
+    @Override
+    public void insertBatchWithIds(List<Movie> movies) {
+        movieBatchRepository.insertBatchWithIds(movies);
+    }
+
+    @Override
+    public void restartIdentityAfterMaxId() {
+        movieBatchRepository.restartIdentityAfterMaxId();
+    }
+
+    @Override
+    public void updateBatch(List<Movie> movies) {
+        movieBatchRepository.updateBatch(movies);
+    }
+
+    @Override
+    public void deleteBatch(List<Long> movieIds) {
+        movieBatchRepository.deleteBatch(movieIds);
+    }
+
+    @Override
+    public void deleteAll() {
+        movieRepository.deleteAllInBatch();
+    }
+}
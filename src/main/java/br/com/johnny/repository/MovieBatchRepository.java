@@ -0,0 +1,253 @@
+package br.com.johnny.repository;
+
+import br.com.johnny.jfr.BatchPersistEvent;
+import br.com.johnny.jfr.StageEvent;
+import br.com.johnny.model.Movie;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Repositório para inclusão, alteração e remoção de filmes em lote via JDBC.
+ * A entidade Movie usa identidade gerada pelo banco, o que impede o Hibernate de
+ * agrupar as inclusões; este repositório envia cada lote em um único batch JDBC
+ * e devolve os identificadores gerados para as entidades. Cada batch é registrado no
+ * evento do JFR {@link BatchPersistEvent}.
+ */
+@Repository
+public class MovieBatchRepository {
+
+    private static final String INSERT_MOVIE_SQL =
+            "INSERT INTO movies (year_movie, title, studios, producers, winner) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_MOVIE_WITH_ID_SQL =
+            "INSERT INTO movies (id, year_movie, title, studios, producers, winner) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_MOVIE_SQL =
+            "UPDATE movies SET year_movie = ?, title = ?, studios = ?, producers = ?, winner = ? WHERE id = ?";
+    private static final String DELETE_MOVIE_SQL = "DELETE FROM movies WHERE id = ?";
+    private static final String SELECT_MOVIES_SQL =
+            "SELECT id, year_movie, title, studios, producers, winner FROM movies ORDER BY id";
+
+    private static final long ID_BYTES = Long.BYTES;
+    private static final long FIXED_COLUMN_BYTES = Integer.BYTES + 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param jdbcTemplate template JDBC da fonte de dados principal
+     * @param meterRegistry registro de métricas da aplicação
+     */
+    @Autowired
+    public MovieBatchRepository(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTimer = Timer.builder("golden.raspberry.persistence.batch")
+                .description("Latência de inclusão de um lote de filmes")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("golden.raspberry.persistence.batch.size")
+                .description("Quantidade de filmes por lote de inclusão")
+                .baseUnit("movies")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa um batch JDBC, registrando a latência, o tamanho do lote e o evento do JFR.
+     * A estimativa de bytes só é calculada quando o evento é gravado.
+     */
+    private void executeBatch(String operation, int size, LongSupplier bytes, Runnable batch) {
+        BatchPersistEvent event = new BatchPersistEvent();
+        event.begin();
+        batchTimer.record(batch);
+        event.end();
+        batchSizeSummary.record(size);
+
+        if (event.shouldCommit()) {
+            event.setDataset(StageEvent.PRIMARY_DATASET);
+            event.setOperation(operation);
+            event.setRows(size);
+            event.setBytes(bytes.getAsLong());
+            event.commit();
+        }
+    }
+
+    /**
+     * Estima o tamanho dos parâmetros enviados para os filmes: ano, indicador de vencedor e
+     * os caracteres dos textos.
+     */
+    private static long estimateBytes(List<Movie> movies) {
+        long bytes = FIXED_COLUMN_BYTES * movies.size();
+        for (Movie movie : movies) {
+            bytes += length(movie.getTitle()) + length(movie.getStudios()) + length(movie.getProducers());
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * Inclui os filmes em um único batch JDBC e atribui os identificadores gerados.
+     *
+     * @param movies filmes a serem incluídos
+     */
+    public void insertBatch(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        executeBatch("insert", movies.size(), () -> estimateBytes(movies), () -> jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_MOVIE_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Movie movie = movies.get(i);
+                        ps.setInt(1, movie.getYear());
+                        ps.setString(2, movie.getTitle());
+                        ps.setString(3, movie.getStudios());
+                        ps.setString(4, movie.getProducers());
+                        ps.setBoolean(5, movie.getWinner());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return movies.size();
+                    }
+                },
+                keyHolder));
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < keys.size() && i < movies.size(); i++) {
+            Object id = keys.get(i).values().iterator().next();
+            movies.get(i).setId(((Number) id).longValue());
+        }
+    }
+
+    /**
+     * Inclui filmes que já possuem identificador em um único batch JDBC, sem recuperar
+     * chaves geradas. Usado na restauração de um snapshot, que preserva os identificadores
+     * da carga original; a identidade da tabela deve ser ajustada em seguida por
+     * {@link #restartIdentityAfterMaxId()}.
+     *
+     * @param movies filmes a serem incluídos, com os identificadores preenchidos
+     */
+    public void insertBatchWithIds(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        executeBatch("insert", movies.size(), () -> estimateBytes(movies) + ID_BYTES * movies.size(),
+                () -> jdbcTemplate.batchUpdate(INSERT_MOVIE_WITH_ID_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Movie movie = movies.get(i);
+                ps.setLong(1, movie.getId());
+                ps.setInt(2, movie.getYear());
+                ps.setString(3, movie.getTitle());
+                ps.setString(4, movie.getStudios());
+                ps.setString(5, movie.getProducers());
+                ps.setBoolean(6, movie.getWinner());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return movies.size();
+            }
+        }));
+    }
+
+    /**
+     * Reinicia a identidade da tabela após o maior identificador cadastrado, para que as
+     * inclusões seguintes não colidam com identificadores informados explicitamente.
+     */
+    public void restartIdentityAfterMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM movies", Long.class);
+        jdbcTemplate.execute("ALTER TABLE movies ALTER COLUMN id RESTART WITH " + (maxId + 1));
+    }
+
+    /**
+     * Altera os filmes em um único batch JDBC, identificados pelos seus identificadores.
+     *
+     * @param movies filmes alterados, com os identificadores preenchidos
+     */
+    public void updateBatch(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        executeBatch("update", movies.size(), () -> estimateBytes(movies) + ID_BYTES * movies.size(),
+                () -> jdbcTemplate.batchUpdate(UPDATE_MOVIE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Movie movie = movies.get(i);
+                ps.setInt(1, movie.getYear());
+                ps.setString(2, movie.getTitle());
+                ps.setString(3, movie.getStudios());
+                ps.setString(4, movie.getProducers());
+                ps.setBoolean(5, movie.getWinner());
+                ps.setLong(6, movie.getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return movies.size();
+            }
+        }));
+    }
+
+    /**
+     * Remove os filmes em um único batch JDBC.
+     *
+     * @param movieIds identificadores dos filmes removidos
+     */
+    public void deleteBatch(List<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return;
+        }
+
+        executeBatch("delete", movieIds.size(), () -> ID_BYTES * movieIds.size(),
+                () -> jdbcTemplate.batchUpdate(DELETE_MOVIE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, movieIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return movieIds.size();
+            }
+        }));
+    }
+
+    /**
+     * Percorre todos os filmes cadastrados em fluxo, sem montar uma lista com todos eles.
+     *
+     * @param consumer consumidor de cada filme lido
+     */
+    public void forEachMovie(Consumer<Movie> consumer) {
+        jdbcTemplate.query(SELECT_MOVIES_SQL, (RowCallbackHandler) rs -> {
+            Movie movie = new Movie(rs.getInt("year_movie"), rs.getString("title"), rs.getString("studios"),
+                    rs.getString("producers"), rs.getBoolean("winner"));
+            movie.setId(rs.getLong("id"));
+            consumer.accept(movie);
+        });
+    }
+}
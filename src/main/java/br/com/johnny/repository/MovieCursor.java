@@ -0,0 +1,63 @@
+package br.com.johnny.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição da paginação por chave da listagem de filmes: o ano e o identificador do
+ * último filme retornado. A página seguinte começa no primeiro filme posterior a essa
+ * posição na ordem (ano, identificador), de modo que o custo de cada página não depende
+ * de quantas páginas já foram lidas. O cursor é exposto à API como texto opaco.
+ */
+public final class MovieCursor {
+
+    private final int year;
+    private final long id;
+
+    /**
+     * Construtor com a posição do último filme retornado.
+     *
+     * @param year ano do filme
+     * @param id identificador do filme
+     */
+    public MovieCursor(int year, long id) {
+        this.year = year;
+        this.id = id;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Converte o cursor no texto opaco exposto pela API.
+     *
+     * @return cursor codificado
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((year + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Converte o texto recebido pela API em cursor.
+     *
+     * @param encoded cursor codificado
+     * @return cursor
+     * @throws IllegalArgumentException se o texto não for um cursor válido
+     */
+    public static MovieCursor decode(String encoded) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(':');
+            return new MovieCursor(Integer.parseInt(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+}
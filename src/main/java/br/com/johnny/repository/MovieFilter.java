@@ -0,0 +1,90 @@
+package br.com.johnny.repository;
+
+import java.util.Objects;
+
+/**
+ * Filtros da listagem de filmes, todos opcionais. Os filtros de estúdio e de
+ * produtor selecionam os filmes cuja coluna contém o texto informado, sem
+ * diferenciar maiúsculas de minúsculas.
+ */
+public class MovieFilter {
+
+    private final Integer fromYear;
+    private final Integer toYear;
+    private final Boolean winner;
+    private final String studio;
+    private final String producer;
+
+    /**
+     * Construtor com todos os filtros.
+     *
+     * @param fromYear menor ano, inclusivo
+     * @param toYear maior ano, inclusivo
+     * @param winner indica se apenas vencedores ou apenas não vencedores são listados
+     * @param studio texto contido na coluna de estúdios
+     * @param producer texto contido na coluna de produtores
+     * @throws IllegalArgumentException se o intervalo de anos for inconsistente
+     */
+    public MovieFilter(Integer fromYear, Integer toYear, Boolean winner, String studio, String producer) {
+        if (fromYear != null && toYear != null && fromYear > toYear) {
+            throw new IllegalArgumentException("O parâmetro fromYear não pode ser maior que toYear");
+        }
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.winner = winner;
+        this.studio = blankToNull(studio);
+        this.producer = blankToNull(producer);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    public Integer getFromYear() {
+        return fromYear;
+    }
+
+    public Integer getToYear() {
+        return toYear;
+    }
+
+    public Boolean getWinner() {
+        return winner;
+    }
+
+    public String getStudio() {
+        return studio;
+    }
+
+    public String getProducer() {
+        return producer;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MovieFilter that = (MovieFilter) o;
+        return Objects.equals(fromYear, that.fromYear) &&
+               Objects.equals(toYear, that.toYear) &&
+               Objects.equals(winner, that.winner) &&
+               Objects.equals(studio, that.studio) &&
+               Objects.equals(producer, that.producer);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fromYear, toYear, winner, studio, producer);
+    }
+
+    @Override
+    public String toString() {
+        return "MovieFilter{" +
+                "fromYear=" + fromYear +
+                ", toYear=" + toYear +
+                ", winner=" + winner +
+                ", studio='" + studio + '\'' +
+                ", producer='" + producer + '\'' +
+                '}';
+    }
+}
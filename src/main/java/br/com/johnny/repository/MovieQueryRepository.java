@@ -0,0 +1,166 @@
+package br.com.johnny.repository;
+
+import br.com.johnny.model.Movie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Repositório de consulta da listagem de filmes via JDBC.
+ * As consultas usam paginação por chave sobre (ano, identificador), atendida pelo índice
+ * da tabela, e a listagem completa é lida por um cursor JDBC somente de avanço, sem
+ * montar a lista de filmes em memória.
+ */
+@Repository
+public class MovieQueryRepository {
+
+    private static final String SELECT_MOVIES =
+            "SELECT id, year_movie, title, studios, producers, winner FROM movies";
+    private static final String ORDER_BY = " ORDER BY year_movie, id";
+    private static final RowMapper<Movie> MOVIE_ROW_MAPPER = (rs, rowNum) -> toMovie(rs);
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param jdbcTemplate template JDBC da fonte de dados principal
+     */
+    @Autowired
+    public MovieQueryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Busca uma página de filmes na ordem (ano, identificador).
+     *
+     * @param filter filtros da listagem
+     * @param after posição do último filme da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de filmes
+     * @return filmes da página
+     */
+    public List<Movie> findPage(MovieFilter filter, MovieCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_MOVIES + whereClause(filter, after, args) + ORDER_BY + " LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, MOVIE_ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * Percorre os filmes na ordem (ano, identificador) por um cursor somente de avanço,
+     * entregando cada filme ao consumidor à medida que é lido.
+     *
+     * @param filter filtros da listagem
+     * @param after posição a partir da qual a leitura começa, ou null para o início
+     * @param limit quantidade máxima de filmes, ou null para todos
+     * @param consumer consumidor de cada filme lido
+     */
+    public void forEach(MovieFilter filter, MovieCursor after, Integer limit, Consumer<Movie> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_MOVIES + whereClause(filter, after, args) + ORDER_BY + (limit != null ? " LIMIT ?" : "");
+        if (limit != null) {
+            args.add(limit);
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean lazy = enableLazyExecution(connection, true);
+            try (PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(FETCH_SIZE);
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setObject(i + 1, args.get(i));
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(toMovie(rs));
+                    }
+                }
+            } finally {
+                if (lazy) {
+                    enableLazyExecution(connection, false);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * No H2, resultados são materializados por completo antes da leitura, a menos que a
+     * execução preguiçosa esteja habilitada na sessão; ela é habilitada apenas durante
+     * a leitura em fluxo e desabilitada antes de a conexão voltar ao pool.
+     *
+     * @param connection conexão utilizada na leitura
+     * @param enabled indica se a execução preguiçosa deve ser habilitada
+     * @return true se a conexão é do H2 e a configuração foi aplicada
+     */
+    private static boolean enableLazyExecution(Connection connection, boolean enabled) throws SQLException {
+        if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            return false;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + (enabled ? "TRUE" : "FALSE"));
+        }
+        return true;
+    }
+
+    private static String whereClause(MovieFilter filter, MovieCursor after, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+
+        if (filter.getFromYear() != null) {
+            conditions.add("year_movie >= ?");
+            args.add(filter.getFromYear());
+        }
+        if (filter.getToYear() != null) {
+            conditions.add("year_movie <= ?");
+            args.add(filter.getToYear());
+        }
+        if (filter.getWinner() != null) {
+            conditions.add("winner = ?");
+            args.add(filter.getWinner());
+        }
+        if (filter.getStudio() != null) {
+            conditions.add("LOWER(studios) LIKE ? ESCAPE '\\'");
+            args.add(containsPattern(filter.getStudio()));
+        }
+        if (filter.getProducer() != null) {
+            conditions.add("LOWER(producers) LIKE ? ESCAPE '\\'");
+            args.add(containsPattern(filter.getProducer()));
+        }
+        if (after != null) {
+            conditions.add("year_movie >= ? AND (year_movie > ? OR id > ?)");
+            args.add(after.getYear());
+            args.add(after.getYear());
+            args.add(after.getId());
+        }
+
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static String containsPattern(String value) {
+        String escaped = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static Movie toMovie(ResultSet rs) throws SQLException {
+        Movie movie = new Movie(rs.getInt("year_movie"), rs.getString("title"), rs.getString("studios"),
+                rs.getString("producers"), rs.getBoolean("winner"));
+        movie.setId(rs.getLong("id"));
+        return movie;
+    }
+}
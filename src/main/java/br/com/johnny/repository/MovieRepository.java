@@ -4,6 +4,7 @@ import br.com.johnny.model.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 /**
@@ -22,6 +23,18 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     @Query("SELECT m FROM Movie m WHERE m.winner = true ORDER BY m.yearMovie")
     List<Movie> findWinnerMoviesOrderedByYear();
 
+    /**
+     * Busca os filmes vencedores ordenados por ano, apenas com as colunas usadas no
+     * cálculo dos intervalos. A consulta é atendida pelo índice (winner, yearMovie) e
+     * não materializa entidades no contexto de persistência.
+     *
+     * @return projeções dos filmes vencedores ordenadas por ano
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new br.com.johnny.repository.WinnerMovieRow(m.id, m.yearMovie, m.producers) " +
+           "FROM Movie m WHERE m.winner = true ORDER BY m.yearMovie")
+    List<WinnerMovieRow> findWinnerRowsOrderedByYear();
+
     /**
      * Verifica se existem dados na tabela.
      * 
@@ -0,0 +1,140 @@
+package br.com.johnny.repository;
+
+import br.com.johnny.model.Movie;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Armazenamento dos filmes usado pelos serviços, independente do mecanismo de persistência.
+ * <p>
+ * A implementação é escolhida pela propriedade {@code golden-raspberry.storage}:
+ * {@code jpa} (padrão) persiste os filmes no banco por JPA e JDBC, e {@code columnar}
+ * mantém os filmes apenas em memória, organizados em colunas, para nós somente leitura
+ * cujo conjunto de dados cabe na memória.
+ */
+public interface MovieStore {
+
+    /**
+     * Verifica se existem filmes cadastrados.
+     *
+     * @return true se existem filmes cadastrados, false caso contrário
+     */
+    boolean existsAny();
+
+    /**
+     * Obtém a quantidade de filmes cadastrados.
+     *
+     * @return quantidade de filmes
+     */
+    long count();
+
+    /**
+     * Busca um filme pelo identificador.
+     *
+     * @param id identificador do filme
+     * @return filme, ou vazio se não existir
+     */
+    Optional<Movie> findById(Long id);
+
+    /**
+     * Busca os filmes com os identificadores informados; identificadores inexistentes são ignorados.
+     *
+     * @param ids identificadores dos filmes
+     * @return filmes encontrados
+     */
+    List<Movie> findAllById(Collection<Long> ids);
+
+    /**
+     * Busca todos os filmes vencedores ordenados por ano.
+     *
+     * @return lista de filmes vencedores ordenados por ano
+     */
+    List<Movie> findWinnerMoviesOrderedByYear();
+
+    /**
+     * Busca os filmes vencedores ordenados por ano, apenas com as colunas usadas no
+     * cálculo dos intervalos.
+     *
+     * @return projeções dos filmes vencedores ordenadas por ano
+     */
+    List<WinnerMovieRow> findWinnerRowsOrderedByYear();
+
+    /**
+     * Busca uma página de filmes na ordem (ano, identificador).
+     *
+     * @param filter filtros da listagem
+     * @param after posição do último filme da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de filmes
+     * @return filmes da página
+     */
+    List<Movie> findPage(MovieFilter filter, MovieCursor after, int limit);
+
+    /**
+     * Percorre os filmes na ordem (ano, identificador), entregando cada filme ao
+     * consumidor sem montar a lista completa em memória.
+     *
+     * @param filter filtros da listagem
+     * @param after posição a partir da qual a leitura começa, ou null para o início
+     * @param limit quantidade máxima de filmes, ou null para todos
+     * @param consumer consumidor de cada filme lido
+     */
+    void forEach(MovieFilter filter, MovieCursor after, Integer limit, Consumer<Movie> consumer);
+
+    /**
+     * Percorre todos os filmes cadastrados na ordem dos identificadores.
+     *
+     * @param consumer consumidor de cada filme lido
+     */
+    void forEachMovie(Consumer<Movie> consumer);
+
+    /**
+     * Inclui um filme e atribui o identificador gerado.
+     *
+     * @param movie filme a ser incluído
+     * @return filme incluído
+     */
+    Movie save(Movie movie);
+
+    /**
+     * Inclui os filmes em lote e atribui os identificadores gerados.
+     *
+     * @param movies filmes a serem incluídos
+     */
+    void insertBatch(List<Movie> movies);
+
+    /**
+     * Inclui filmes que já possuem identificador, como na restauração de um snapshot.
+     * A geração de identificadores deve ser ajustada em seguida por
+     * {@link #restartIdentityAfterMaxId()}.
+     *
+     * @param movies filmes a serem incluídos, com os identificadores preenchidos
+     */
+    void insertBatchWithIds(List<Movie> movies);
+
+    /**
+     * Ajusta a geração de identificadores para depois do maior identificador cadastrado.
+     */
+    void restartIdentityAfterMaxId();
+
+    /**
+     * Altera os filmes em lote, identificados pelos seus identificadores.
+     *
+     * @param movies filmes alterados, com os identificadores preenchidos
+     */
+    void updateBatch(List<Movie> movies);
+
+    /**
+     * Remove os filmes em lote.
+     *
+     * @param movieIds identificadores dos filmes removidos
+     */
+    void deleteBatch(List<Long> movieIds);
+
+    /**
+     * Remove todos os filmes.
+     */
+    void deleteAll();
+}
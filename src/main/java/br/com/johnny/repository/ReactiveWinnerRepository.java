@@ -0,0 +1,113 @@
+package br.com.johnny.repository;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Leitura não bloqueante dos filmes vencedores por R2DBC, usada pela variante reativa da API.
+ * Lê a mesma tabela preenchida pela carga do CSV, com as colunas usadas no cálculo dos
+ * intervalos, e entrega as linhas conforme a demanda do assinante.
+ * <p>
+ * A fábrica de conexões é criada pelo próprio repositório e não é registrada no contexto:
+ * a presença de uma {@link ConnectionFactory} no contexto desativaria a configuração
+ * automática do {@code DataSource} usado pelo JPA e pela carga do CSV. A URL R2DBC é
+ * derivada de {@code spring.datasource.url}, para que as duas conexões apontem sempre
+ * para o mesmo banco; apenas bancos H2 em memória são suportados.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWinnerRepository implements DisposableBean {
+
+    private static final String WINNER_ROWS_SQL =
+            "SELECT id, year_movie, producers FROM movies WHERE winner = TRUE ORDER BY year_movie, id";
+    private static final String H2_MEMORY_JDBC_PREFIX = "jdbc:h2:mem:";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param jdbcUrl URL JDBC do banco usado pelo {@code DataSource}
+     * @param username usuário do banco
+     * @param password senha do banco
+     * @param poolSize quantidade máxima de conexões R2DBC
+     * @throws IllegalStateException se a URL JDBC não for de um banco H2 em memória
+     */
+    @Autowired
+    public ReactiveWinnerRepository(@Value("${spring.datasource.url}") String jdbcUrl,
+                                    @Value("${spring.datasource.username:}") String username,
+                                    @Value("${spring.datasource.password:}") String password,
+                                    @Value("${golden-raspberry.reactive.pool-size:8}") int poolSize) {
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(toR2dbcUrl(jdbcUrl, poolSize)).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Converte a URL JDBC de um banco H2 em memória na URL R2DBC, com pool, do mesmo banco.
+     * As opções da URL JDBC, após o nome do banco, se aplicam à criação do banco, que já foi
+     * feita pelo {@code DataSource}, e não são repassadas.
+     *
+     * @param jdbcUrl URL JDBC, como {@code jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1}
+     * @param poolSize quantidade máxima de conexões R2DBC
+     * @return URL R2DBC, como {@code r2dbc:pool:h2:mem:///testdb?maxSize=8}
+     * @throws IllegalStateException se a URL JDBC não for de um banco H2 em memória com nome
+     */
+    static String toR2dbcUrl(String jdbcUrl, int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalStateException("golden-raspberry.reactive.pool-size deve ser positivo");
+        }
+        if (jdbcUrl == null || !jdbcUrl.startsWith(H2_MEMORY_JDBC_PREFIX)) {
+            throw new IllegalStateException(
+                    "A variante reativa requer um banco H2 em memória em spring.datasource.url: " + jdbcUrl);
+        }
+
+        String database = jdbcUrl.substring(H2_MEMORY_JDBC_PREFIX.length());
+        int options = database.indexOf(';');
+        if (options >= 0) {
+            database = database.substring(0, options);
+        }
+        if (database.isBlank()) {
+            throw new IllegalStateException(
+                    "A variante reativa requer um banco H2 em memória com nome em spring.datasource.url: " + jdbcUrl);
+        }
+        return "r2dbc:pool:h2:mem:///" + database + "?maxSize=" + poolSize;
+    }
+
+    /**
+     * Busca os filmes vencedores ordenados por ano e identificador, apenas com as colunas
+     * usadas no cálculo dos intervalos.
+     *
+     * @return fluxo das projeções dos filmes vencedores
+     */
+    public Flux<WinnerMovieRow> findWinnerRowsOrderedByYear() {
+        return databaseClient.sql(WINNER_ROWS_SQL)
+                .map(row -> new WinnerMovieRow(
+                        row.get("id", Long.class),
+                        row.get("year_movie", Integer.class),
+                        row.get("producers", String.class)))
+                .all();
+    }
+
+    /**
+     * Encerra as conexões do pool, quando a URL configura um.
+     */
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.johnny.repository;
+
+/**
+ * Projeção de um filme vencedor com apenas as colunas usadas pelo cálculo dos
+ * intervalos de prêmios. É construída diretamente pela consulta, sem passar pelo
+ * contexto de persistência, e não é uma entidade gerenciada.
+ */
+public final class WinnerMovieRow {
+
+    private final Long id;
+    private final int year;
+    private final String producers;
+
+    /**
+     * Construtor usado pela expressão de construtor da consulta JPQL.
+     *
+     * @param id identificador do filme
+     * @param year ano do filme
+     * @param producers coluna de produtores do filme
+     */
+    public WinnerMovieRow(Long id, Integer year, String producers) {
+        this.id = id;
+        this.year = year;
+        this.producers = producers;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public String getProducers() {
+        return producers;
+    }
+}
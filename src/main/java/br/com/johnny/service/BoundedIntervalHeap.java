@@ -0,0 +1,141 @@
+package br.com.johnny.service;
+
+/**
+ * Heap limitado que mantém os N melhores intervalos vistos em uma única passagem,
+ * guardando comprimento, produtor e ano da vitória anterior em arrays primitivos.
+ * A raiz do heap é sempre o pior intervalo mantido, de modo que cada candidato é
+ * comparado com ela e só entra no heap se for melhor.
+ * Esta classe não é thread-safe.
+ */
+final class BoundedIntervalHeap {
+
+    private final boolean longestFirst;
+    private final int[] intervals;
+    private final int[] producerIds;
+    private final int[] previousWins;
+    private int size;
+
+    /**
+     * Construtor com a ordem desejada e a capacidade do heap.
+     *
+     * @param longestFirst true para manter os maiores intervalos, false para os menores
+     * @param capacity quantidade máxima de intervalos mantidos
+     */
+    BoundedIntervalHeap(boolean longestFirst, int capacity) {
+        this.longestFirst = longestFirst;
+        this.intervals = new int[capacity];
+        this.producerIds = new int[capacity];
+        this.previousWins = new int[capacity];
+    }
+
+    /**
+     * Oferece um intervalo ao heap.
+     *
+     * @param interval comprimento do intervalo
+     * @param producerId identificador do produtor
+     * @param previousWin ano da vitória anterior
+     */
+    void offer(int interval, int producerId, int previousWin) {
+        if (size < intervals.length) {
+            set(size, interval, producerId, previousWin);
+            siftUp(size++);
+            return;
+        }
+
+        if (compare(interval, producerId, previousWin, intervals[0], producerIds[0], previousWins[0]) < 0) {
+            set(0, interval, producerId, previousWin);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Ordena os intervalos mantidos do melhor para o pior, esvaziando a estrutura de heap.
+     * Após a chamada, os métodos de acesso percorrem os intervalos nessa ordem.
+     *
+     * @return quantidade de intervalos mantidos
+     */
+    int sortBestFirst() {
+        int count = size;
+        while (size > 1) {
+            swap(0, --size);
+            siftDown(0);
+        }
+        size = count;
+        return count;
+    }
+
+    int intervalAt(int position) {
+        return intervals[position];
+    }
+
+    int producerIdAt(int position) {
+        return producerIds[position];
+    }
+
+    int previousWinAt(int position) {
+        return previousWins[position];
+    }
+
+    /**
+     * Compara dois intervalos; valores negativos indicam que o primeiro é melhor.
+     * Empates no comprimento são desfeitos pelo produtor e pelo ano da vitória anterior.
+     */
+    private int compare(int interval, int producerId, int previousWin,
+                        int otherInterval, int otherProducerId, int otherPreviousWin) {
+        if (interval != otherInterval) {
+            return longestFirst ? Integer.compare(otherInterval, interval) : Integer.compare(interval, otherInterval);
+        }
+        if (producerId != otherProducerId) {
+            return Integer.compare(producerId, otherProducerId);
+        }
+        return Integer.compare(previousWin, otherPreviousWin);
+    }
+
+    private int compareAt(int i, int j) {
+        return compare(intervals[i], producerIds[i], previousWins[i], intervals[j], producerIds[j], previousWins[j]);
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (compareAt(position, parent) <= 0) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int worst = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && compareAt(left, worst) > 0) {
+                worst = left;
+            }
+            if (right < size && compareAt(right, worst) > 0) {
+                worst = right;
+            }
+            if (worst == position) {
+                return;
+            }
+            swap(position, worst);
+            position = worst;
+        }
+    }
+
+    private void set(int position, int interval, int producerId, int previousWin) {
+        intervals[position] = interval;
+        producerIds[position] = producerId;
+        previousWins[position] = previousWin;
+    }
+
+    private void swap(int i, int j) {
+        int interval = intervals[i];
+        int producerId = producerIds[i];
+        int previousWin = previousWins[i];
+        set(i, intervals[j], producerIds[j], previousWins[j]);
+        set(j, interval, producerId, previousWin);
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+
+import java.util.List;
+
+/**
+ * Observador do progresso de uma carga de filmes a partir de CSV, notificado
+ * a cada lote persistido.
+ */
+@FunctionalInterface
+public interface CsvLoadListener {
+
+    /**
+     * Observador que ignora as notificações.
+     */
+    CsvLoadListener NONE = (batch, rowsRead) -> { };
+
+    /**
+     * Notifica a persistência de um lote. Os filmes já têm os identificadores gerados,
+     * e a lista é reutilizada pela carga após o retorno; o último lote pode estar vazio.
+     *
+     * @param batch filmes persistidos no lote
+     * @param rowsRead registros lidos até o momento, sem o cabeçalho
+     */
+    void onBatch(List<Movie> batch, long rowsRead);
+}
@@ -0,0 +1,93 @@
+package br.com.johnny.service;
+
+/**
+ * Resultado de uma carga de filmes a partir de um arquivo CSV.
+ */
+public class CsvLoadResult {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final double BYTES_PER_MEGABYTE = 1024d * 1024d;
+
+    private final long rowsRead;
+    private final long moviesLoaded;
+    private final long rowsRejected;
+    private final long bytesRead;
+    private final long elapsedNanos;
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param rowsRead registros lidos do arquivo, sem o cabeçalho
+     * @param moviesLoaded filmes persistidos
+     * @param rowsRejected registros descartados por erro de conversão
+     * @param bytesRead bytes lidos do arquivo, ou zero quando desconhecido
+     * @param elapsedNanos duração da carga em nanossegundos
+     */
+    public CsvLoadResult(long rowsRead, long moviesLoaded, long rowsRejected, long bytesRead, long elapsedNanos) {
+        this.rowsRead = rowsRead;
+        this.moviesLoaded = moviesLoaded;
+        this.rowsRejected = rowsRejected;
+        this.bytesRead = bytesRead;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Cria uma cópia do resultado com o volume lido informado, para as cargas em fluxo,
+     * cujo leitor não conhece o tamanho do conteúdo.
+     *
+     * @param bytesRead bytes lidos do arquivo
+     * @return resultado com o volume lido
+     */
+    public CsvLoadResult withBytesRead(long bytesRead) {
+        return new CsvLoadResult(rowsRead, moviesLoaded, rowsRejected, bytesRead, elapsedNanos);
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getMoviesLoaded() {
+        return moviesLoaded;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Calcula a vazão da carga em registros por segundo.
+     *
+     * @return registros lidos por segundo
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos > 0 ? rowsRead * NANOS_PER_SECOND / elapsedNanos : 0;
+    }
+
+    /**
+     * Calcula a vazão da carga em megabytes por segundo.
+     *
+     * @return megabytes lidos por segundo, ou zero quando o volume lido é desconhecido
+     */
+    public double getMegabytesPerSecond() {
+        return elapsedNanos > 0 ? bytesRead / BYTES_PER_MEGABYTE * NANOS_PER_SECOND / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvLoadResult{" +
+                "rowsRead=" + rowsRead +
+                ", moviesLoaded=" + moviesLoaded +
+                ", rowsRejected=" + rowsRejected +
+                ", bytesRead=" + bytesRead +
+                ", elapsedNanos=" + elapsedNanos +
+                '}';
+    }
+}
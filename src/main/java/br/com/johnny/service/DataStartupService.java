@@ -0,0 +1,262 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.repository.MovieFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Inicialização dos dados da aplicação: carga do CSV (ou do snapshot), construção do índice
+ * de intervalos e aquecimento das consultas, antes de a aplicação ser considerada pronta.
+ * <p>
+ * Com {@code golden-raspberry.startup.background=true} (padrão), o contexto e o servidor sobem
+ * imediatamente e a inicialização ocorre em uma thread própria: o indicador de prontidão
+ * ({@code /actuator/health/readiness}) permanece fora de serviço até o fim do aquecimento, e as
+ * requisições à API que chegam antes disso recebem 503, ou aguardam a inicialização por até
+ * {@code golden-raspberry.startup.request-wait}, quando configurado. Com {@code false}, a
+ * inicialização ocorre na criação do contexto e o servidor só aceita conexões depois dela.
+ * Ao fim da carga, os filmes cadastrados são registrados no {@link MovieListSyncService} como
+ * vindos do arquivo CSV, antes que alguma importação pela API seja aceita.
+ * <p>
+ * O aquecimento executa {@code golden-raspberry.startup.warmup.iterations} rodadas das consultas
+ * de intervalos mais comuns, com a serialização das respostas em JSON, e da listagem de filmes,
+ * para que a compilação JIT e a preparação das consultas no banco não recaiam sobre as primeiras
+ * requisições. O aquecimento é interrompido ao atingir {@code golden-raspberry.startup.warmup.max-duration}.
+ */
+@Service
+public class DataStartupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataStartupService.class);
+    private static final List<IntervalQuery> WARMUP_QUERIES = List.of(
+            IntervalQuery.defaultQuery(),
+            new IntervalQuery(10, null, null),
+            new IntervalQuery(null, 2, 10),
+            new IntervalQuery(null, null, null, 1990, 2010));
+    private static final MovieFilter WARMUP_FILTER = new MovieFilter(null, null, true, null, null);
+    private static final int WARMUP_LISTING_EVERY = 10;
+
+    /**
+     * Etapa da inicialização dos dados.
+     */
+    public enum State {
+        PENDING, LOADING, WARMING_UP, READY, FAILED
+    }
+
+    private final GoldenRaspberryService goldenRaspberryService;
+    private final MovieListSyncService movieListSyncService;
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final MovieCatalogService movieCatalogService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean background;
+    private final int warmupIterations;
+    private final Duration warmupMaxDuration;
+    private final Timer loadTimer;
+    private final Timer warmupTimer;
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+    private volatile State state = State.PENDING;
+    private volatile Throwable failure;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param goldenRaspberryService serviço que carrega os dados e consulta os intervalos
+     * @param movieListSyncService sincronização com o arquivo observado
+     * @param producerIntervalIndex índice de intervalos aquecido
+     * @param movieCatalogService listagem de filmes aquecida
+     * @param objectMapper serializador JSON da aplicação
+     * @param eventPublisher publicador do estado de disponibilidade da aplicação
+     * @param background indica se a inicialização ocorre em segundo plano
+     * @param warmupIterations rodadas de aquecimento; zero desativa o aquecimento
+     * @param warmupMaxDuration duração máxima do aquecimento
+     * @param meterRegistry registro de métricas da aplicação
+     */
+    @Autowired
+    public DataStartupService(GoldenRaspberryService goldenRaspberryService,
+                              MovieListSyncService movieListSyncService,
+                              ProducerIntervalIndex producerIntervalIndex,
+                              MovieCatalogService movieCatalogService,
+                              ObjectMapper objectMapper,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${golden-raspberry.startup.background:true}") boolean background,
+                              @Value("${golden-raspberry.startup.warmup.iterations:500}") int warmupIterations,
+                              @Value("${golden-raspberry.startup.warmup.max-duration:2s}") Duration warmupMaxDuration,
+                              MeterRegistry meterRegistry) {
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("golden-raspberry.startup.warmup.iterations não pode ser negativo");
+        }
+        this.goldenRaspberryService = goldenRaspberryService;
+        this.movieListSyncService = movieListSyncService;
+        this.producerIntervalIndex = producerIntervalIndex;
+        this.movieCatalogService = movieCatalogService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.background = background;
+        this.warmupIterations = warmupIterations;
+        this.warmupMaxDuration = warmupMaxDuration;
+        this.loadTimer = startupTimer(meterRegistry, "load");
+        this.warmupTimer = startupTimer(meterRegistry, "warmup");
+    }
+
+    private static Timer startupTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("golden.raspberry.startup")
+                .description("Duração das etapas da inicialização dos dados")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicializa os dados durante a criação do contexto, quando a inicialização em segundo
+     * plano está desativada. Falhas interrompem a inicialização da aplicação.
+     */
+    @PostConstruct
+    public void initialize() {
+        if (!background) {
+            run();
+        }
+    }
+
+    /**
+     * Inicia a inicialização dos dados em segundo plano, depois que o contexto e o servidor
+     * subiram. Falhas marcam a aplicação como não viva, para que o orquestrador a reinicie.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void startInBackground() {
+        if (!background || state != State.PENDING) {
+            return;
+        }
+
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                logger.error("Falha na inicialização dos dados em segundo plano: {}", e.getMessage(), e);
+                AvailabilityChangeEvent.publish(eventPublisher, this, LivenessState.BROKEN);
+            }
+        }, "data-startup");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Inicialização dos dados iniciada em segundo plano");
+    }
+
+    private void run() {
+        try {
+            state = State.LOADING;
+            loadTimer.record(goldenRaspberryService::initializeData);
+            movieListSyncService.trackSourceMovies();
+
+            state = State.WARMING_UP;
+            warmupTimer.record(this::warmUp);
+
+            state = State.READY;
+            ready.complete(null);
+            logger.info("Dados carregados e consultas aquecidas; aplicação pronta para receber tráfego");
+        } catch (RuntimeException e) {
+            failure = e;
+            state = State.FAILED;
+            ready.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Executa as consultas de intervalos sobre o índice, sem o cache de respostas, e a
+     * serialização das respostas, além de consultas periódicas à listagem de filmes.
+     */
+    private void warmUp() {
+        if (warmupIterations == 0) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + warmupMaxDuration.toNanos();
+        int iteration = 0;
+        try {
+            while (iteration < warmupIterations && System.nanoTime() < deadline) {
+                for (IntervalQuery query : WARMUP_QUERIES) {
+                    AwardIntervalResponse response = producerIntervalIndex.query(query);
+                    objectMapper.writeValueAsBytes(response);
+                }
+                if (iteration % WARMUP_LISTING_EVERY == 0) {
+                    objectMapper.writeValueAsBytes(movieCatalogService.findMovies(WARMUP_FILTER, null, 10));
+                }
+                iteration++;
+            }
+            goldenRaspberryService.getProducerAwardIntervals();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar as respostas no aquecimento", e);
+        }
+        logger.info("Aquecimento concluído com {} rodadas", iteration);
+    }
+
+    /**
+     * Obtém a etapa atual da inicialização dos dados.
+     *
+     * @return etapa atual
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Obtém a falha da inicialização, quando ela falhou.
+     *
+     * @return falha, ou null se a inicialização não falhou
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    /**
+     * Obtém o estágio concluído quando os dados estão prontos, ou com a falha da inicialização.
+     *
+     * @return estágio da inicialização
+     */
+    public CompletionStage<Void> whenReady() {
+        return ready.minimalCompletionStage();
+    }
+
+    /**
+     * Aguarda a inicialização dos dados por até o tempo informado.
+     *
+     * @param timeout tempo máximo de espera
+     * @return true se os dados estão prontos; false se o tempo se esgotou ou a inicialização falhou
+     * @throws InterruptedException se a espera for interrompida
+     */
+    public boolean awaitReady(Duration timeout) throws InterruptedException {
+        if (state == State.READY) {
+            return true;
+        }
+        try {
+            ready.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+}
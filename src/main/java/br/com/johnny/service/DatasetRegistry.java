@@ -0,0 +1,355 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.DatasetStatus;
+import br.com.johnny.exception.CsvProcessingException;
+import br.com.johnny.jfr.CsvChunkParseEvent;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.WinnerMovieRow;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Registro de conjuntos de dados adicionais (outras categorias ou premiações), cada um
+ * com o seu próprio {@link ProducerIntervalIndex}, consultado por
+ * {@code /api/{dataset}/producers/award-intervals}.
+ * <p>
+ * Os conjuntos são os arquivos CSV encontrados em {@code golden-raspberry.datasets.locations},
+ * nomeados pelo nome do arquivo sem extensão. O arquivo só é lido no primeiro acesso ao
+ * conjunto: os vencedores são interpretados e indexados, e as linhas não vencedoras são
+ * descartadas. Acessos concorrentes a um conjunto ainda não carregado compartilham a mesma
+ * carga.
+ * <p>
+ * Os índices carregados ficam em memória enquanto a soma das suas estimativas de ocupação
+ * não excede {@code golden-raspberry.datasets.memory-budget}; acima disso, os conjuntos
+ * usados há mais tempo são descartados (LRU) e lidos novamente no próximo acesso. O conjunto
+ * recém-carregado nunca é descartado, mesmo que sozinho exceda o limite.
+ */
+@Service
+public class DatasetRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetRegistry.class);
+    private static final Pattern DATASET_NAME = Pattern.compile("[a-z0-9][a-z0-9_-]*");
+
+    private final Map<String, Resource> sources;
+    private final long memoryBudgetBytes;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, LoadedDataset> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<String, CompletableFuture<LoadedDataset>> loading = new ConcurrentHashMap<>();
+    private final Timer loadTimer;
+    private final Counter evictionCounter;
+
+    private long residentBytes;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param resourceResolver resolvedor dos padrões de localização dos arquivos
+     * @param locations padrões de localização dos arquivos CSV dos conjuntos
+     * @param memoryBudget memória máxima estimada dos índices carregados
+     * @param meterRegistry registro de métricas da aplicação
+     * @throws IOException se os padrões de localização não puderem ser resolvidos
+     */
+    @Autowired
+    public DatasetRegistry(ResourcePatternResolver resourceResolver,
+                           @Value("${golden-raspberry.datasets.locations:}") List<String> locations,
+                           @Value("${golden-raspberry.datasets.memory-budget:256MB}") DataSize memoryBudget,
+                           MeterRegistry meterRegistry) throws IOException {
+        this.sources = resolveSources(resourceResolver, locations);
+        this.memoryBudgetBytes = memoryBudget.toBytes();
+        this.meterRegistry = meterRegistry;
+        this.loadTimer = Timer.builder("golden.raspberry.datasets.load")
+                .description("Duração da carga de um conjunto de dados")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("golden.raspberry.datasets.evictions")
+                .description("Conjuntos de dados descartados para respeitar o limite de memória")
+                .register(meterRegistry);
+        Gauge.builder("golden.raspberry.datasets.resident.bytes", this, DatasetRegistry::getResidentBytes)
+                .description("Memória estimada dos índices dos conjuntos de dados carregados")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        logger.info("Registrados {} conjuntos de dados: {}", sources.size(), sources.keySet());
+    }
+
+    /**
+     * Localiza os arquivos CSV dos padrões informados. Arquivos com o mesmo nome em padrões
+     * diferentes são registrados uma única vez, prevalecendo o primeiro padrão.
+     */
+    private static Map<String, Resource> resolveSources(ResourcePatternResolver resourceResolver,
+                                                        List<String> locations) throws IOException {
+        Map<String, Resource> sources = new TreeMap<>();
+        for (String location : locations) {
+            if (location.isBlank()) {
+                continue;
+            }
+            for (Resource resource : resourceResolver.getResources(location.trim())) {
+                String filename = resource.getFilename();
+                if (!resource.exists() || filename == null || !filename.endsWith(".csv")) {
+                    continue;
+                }
+                String name = filename.substring(0, filename.length() - ".csv".length()).toLowerCase(Locale.ROOT);
+                if (!DATASET_NAME.matcher(name).matches()) {
+                    logger.warn("Arquivo {} ignorado: nome inválido para um conjunto de dados", resource);
+                    continue;
+                }
+                sources.putIfAbsent(name, resource);
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Obtém os nomes dos conjuntos de dados registrados.
+     *
+     * @return nomes em ordem alfabética
+     */
+    public Set<String> getDatasetNames() {
+        return sources.keySet();
+    }
+
+    /**
+     * Consulta os intervalos de prêmios de um conjunto de dados, carregando-o se necessário.
+     *
+     * @param dataset nome do conjunto de dados
+     * @param query parâmetros da consulta
+     * @return resposta com os intervalos mínimos e máximos, ou vazio se o conjunto não existe
+     * @throws CsvProcessingException se o arquivo do conjunto não puder ser lido
+     */
+    public Optional<AwardIntervalResponse> getProducerAwardIntervals(String dataset, IntervalQuery query) {
+        return index(dataset).map(index -> index.query(query));
+    }
+
+    /**
+     * Obtém a situação de cada conjunto de dados registrado, sem alterar a ordem de uso.
+     *
+     * @return situação dos conjuntos em ordem alfabética
+     */
+    public List<DatasetStatus> getStatus() {
+        Map<String, Long> residentSizes = new HashMap<>();
+        lock.lock();
+        try {
+            for (Map.Entry<String, LoadedDataset> entry : resident.entrySet()) {
+                residentSizes.put(entry.getKey(), entry.getValue().bytes);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        List<DatasetStatus> status = new ArrayList<>(sources.size());
+        for (String name : sources.keySet()) {
+            Long bytes = residentSizes.get(name);
+            status.add(new DatasetStatus(name, bytes != null, bytes != null ? bytes : 0));
+        }
+        return status;
+    }
+
+    /**
+     * Obtém a memória estimada dos índices carregados.
+     *
+     * @return quantidade aproximada de bytes
+     */
+    public long getResidentBytes() {
+        lock.lock();
+        try {
+            return residentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtém o índice do conjunto, atualizando a ordem de uso, ou o carrega quando ele
+     * não está em memória.
+     */
+    private Optional<ProducerIntervalIndex> index(String dataset) {
+        Resource source = sources.get(dataset);
+        if (source == null) {
+            return Optional.empty();
+        }
+
+        LoadedDataset current = residentDataset(dataset);
+        if (current != null) {
+            return Optional.of(current.index);
+        }
+
+        CompletableFuture<LoadedDataset> started = new CompletableFuture<>();
+        CompletableFuture<LoadedDataset> pending = loading.putIfAbsent(dataset, started);
+        if (pending != null) {
+            return Optional.of(await(pending).index);
+        }
+
+        try {
+            LoadedDataset loaded = residentDataset(dataset);
+            if (loaded == null) {
+                loaded = load(dataset, source);
+                admit(dataset, loaded);
+            }
+            started.complete(loaded);
+            return Optional.of(loaded.index);
+        } catch (RuntimeException e) {
+            started.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(dataset, started);
+        }
+    }
+
+    /**
+     * Obtém o conjunto em memória, atualizando a ordem de uso. A consulta é repetida após
+     * registrar uma carga, pois outra carga do mesmo conjunto pode ter terminado entre as duas.
+     */
+    private LoadedDataset residentDataset(String dataset) {
+        lock.lock();
+        try {
+            return resident.get(dataset);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inclui o conjunto carregado e descarta os conjuntos usados há mais tempo enquanto o
+     * limite de memória estiver excedido.
+     */
+    private void admit(String dataset, LoadedDataset loaded) {
+        lock.lock();
+        try {
+            LoadedDataset previous = resident.put(dataset, loaded);
+            residentBytes += loaded.bytes - (previous != null ? previous.bytes : 0);
+
+            Iterator<Map.Entry<String, LoadedDataset>> eldest = resident.entrySet().iterator();
+            while (residentBytes > memoryBudgetBytes && resident.size() > 1) {
+                Map.Entry<String, LoadedDataset> entry = eldest.next();
+                residentBytes -= entry.getValue().bytes;
+                eldest.remove();
+                evictionCounter.increment();
+                logger.info("Conjunto de dados {} descartado da memória ({} bytes estimados)",
+                        entry.getKey(), entry.getValue().bytes);
+            }
+            if (residentBytes > memoryBudgetBytes) {
+                logger.warn("O conjunto de dados {} sozinho excede o limite de memória: {} de {} bytes estimados",
+                        dataset, residentBytes, memoryBudgetBytes);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lê o arquivo do conjunto e constrói o índice com os vencedores, na mesma ordem
+     * de ano e identificador usada na carga do conjunto principal.
+     */
+    private LoadedDataset load(String dataset, Resource source) {
+        long startNanos = System.nanoTime();
+        List<WinnerMovieRow> winnerRows = new ArrayList<>();
+        long rowsRead = 0;
+        long rowsRejected = 0;
+        long bytesRead = 0;
+        CsvChunkParseEvent parseEvent = new CsvChunkParseEvent();
+        boolean measureBytes = parseEvent.isEnabled();
+        parseEvent.begin();
+
+        try (CSVReader csvReader = new CSVReaderBuilder(
+                new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))
+                .withCSVParser(MovieCsvRecordParser.newCsvParser())
+                .withSkipLines(1)
+                .build()) {
+            String[] record;
+            while ((record = csvReader.readNext()) != null) {
+                rowsRead++;
+                if (measureBytes) {
+                    bytesRead += MovieCsvRecordParser.estimateRecordBytes(record);
+                }
+                Movie movie = MovieCsvRecordParser.parseMovieFromCsvRecord(record);
+                if (movie == null) {
+                    rowsRejected++;
+                } else if (Boolean.TRUE.equals(movie.getWinner())) {
+                    winnerRows.add(new WinnerMovieRow(rowsRead, movie.getYear(), movie.getProducers()));
+                }
+            }
+        } catch (IOException | CsvException e) {
+            logger.error("Erro ao carregar o conjunto de dados {}: {}", dataset, e.getMessage(), e);
+            throw new CsvProcessingException("Erro ao carregar o conjunto de dados " + dataset, e);
+        }
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.setDataset(dataset);
+            parseEvent.setRows(rowsRead);
+            parseEvent.setRejected(rowsRejected);
+            parseEvent.setBytes(bytesRead);
+            parseEvent.commit();
+        }
+
+        winnerRows.sort(Comparator.comparingInt(WinnerMovieRow::getYear).thenComparing(WinnerMovieRow::getId));
+        ProducerIntervalIndex index = new ProducerIntervalIndex(meterRegistry, dataset);
+        index.rebuildFromRows(winnerRows);
+        LoadedDataset loaded = new LoadedDataset(index, index.estimateRetainedBytes());
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        loadTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        logger.info("Conjunto de dados {} carregado em {} ms: {} registros, {} vencedores, {} bytes estimados",
+                dataset, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsRead, winnerRows.size(), loaded.bytes);
+        return loaded;
+    }
+
+    private static LoadedDataset await(CompletableFuture<LoadedDataset> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Índice de um conjunto carregado e a sua ocupação estimada.
+     */
+    private static final class LoadedDataset {
+
+        private final ProducerIntervalIndex index;
+        private final long bytes;
+
+        private LoadedDataset(ProducerIntervalIndex index, long bytes) {
+            this.index = index;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -1,99 +1,229 @@
 package br.com.johnny.service;
 
 import br.com.johnny.dto.AwardIntervalResponse;
-import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.dto.ProducerWinsResponse;
 import br.com.johnny.exception.CsvProcessingException;
+import br.com.johnny.jfr.StageEvent;
+import br.com.johnny.jfr.WinnerQueryEvent;
 import br.com.johnny.model.Movie;
-import br.com.johnny.repository.MovieRepository;
+import br.com.johnny.repository.MovieStore;
+import br.com.johnny.repository.WinnerMovieRow;
 import com.opencsv.exceptions.CsvException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
-import com.opencsv.CSVParser;
-import com.opencsv.CSVParserBuilder;
-import com.opencsv.CSVReaderBuilder;
+import java.util.concurrent.TimeUnit;
 /**
  * Serviço responsável pela lógica de negócio relacionada aos dados
  * do Golden Raspberry Awards.
  * Esta classe implementa o padrão Service Layer, encapsulando a lógica
  * de negócio e seguindo os princípios SOLID, especialmente SRP e DIP.
+ * <p>
+ * Apenas as operações de escrita abrem transação; as consultas de intervalos são
+ * atendidas pelo índice em memória e não ocupam conexões do pool durante a requisição.
  */
 @Service
-@Transactional
 public class GoldenRaspberryService {
 
     private static final Logger logger = LoggerFactory.getLogger(GoldenRaspberryService.class);
-    private static final String CSV_FILE_PATH = "movielist.csv";
-
-    private final MovieRepository movieRepository;
+    private final MovieStore movieStore;
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final IntervalQueryCoalescer intervalQueryCoalescer;
+    private final MovieCsvLoader movieCsvLoader;
+    private final ParallelMovieCsvLoader parallelMovieCsvLoader;
+    private final MovieSnapshotStore movieSnapshotStore;
+    private final MovieSnapshotLoader movieSnapshotLoader;
+    private final Resource csvResource;
+    private final IngestMode ingestMode;
+    private final MeterRegistry meterRegistry;
+    private final Timer queryTimer;
+    private final Timer snapshotRestoreTimer;
+    private final Counter parsedRowsCounter;
+    private final Counter rejectedRowsCounter;
 
     /**
      * Construtor com injeção de dependência.
      * 
-     * @param movieRepository repositório de filmes
+     * @param movieStore armazenamento dos filmes
+     * @param producerIntervalIndex índice de intervalos de prêmios dos produtores
+     * @param intervalQueryCoalescer coalescência das consultas de intervalos concorrentes
+     * @param movieCsvLoader carregador sequencial de filmes a partir de CSV
+     * @param parallelMovieCsvLoader carregador paralelo de filmes a partir de CSV
+     * @param movieSnapshotStore armazenamento do snapshot binário dos filmes
+     * @param movieSnapshotLoader transferência de filmes entre o banco e o snapshot
+     * @param csvResource arquivo CSV com os dados dos filmes
+     * @param ingestMode modo de carga do arquivo CSV
+     * @param meterRegistry registro de métricas da aplicação
      */
     @Autowired
-    public GoldenRaspberryService(MovieRepository movieRepository) {
-        this.movieRepository = movieRepository;
+    public GoldenRaspberryService(MovieStore movieStore,
+                                  ProducerIntervalIndex producerIntervalIndex,
+                                  IntervalQueryCoalescer intervalQueryCoalescer,
+                                  MovieCsvLoader movieCsvLoader,
+                                  ParallelMovieCsvLoader parallelMovieCsvLoader,
+                                  MovieSnapshotStore movieSnapshotStore,
+                                  MovieSnapshotLoader movieSnapshotLoader,
+                                  @Value("${golden-raspberry.ingest.csv-location:classpath:movielist.csv}") Resource csvResource,
+                                  @Value("${golden-raspberry.ingest.mode:sequential}") IngestMode ingestMode,
+                                  MeterRegistry meterRegistry) {
+        this.movieStore = movieStore;
+        this.producerIntervalIndex = producerIntervalIndex;
+        this.intervalQueryCoalescer = intervalQueryCoalescer;
+        this.movieCsvLoader = movieCsvLoader;
+        this.parallelMovieCsvLoader = parallelMovieCsvLoader;
+        this.movieSnapshotStore = movieSnapshotStore;
+        this.movieSnapshotLoader = movieSnapshotLoader;
+        this.csvResource = csvResource;
+        this.ingestMode = ingestMode;
+        this.meterRegistry = meterRegistry;
+        this.queryTimer = ProducerIntervalIndex.stageTimer(meterRegistry, "query", StageEvent.PRIMARY_DATASET);
+        this.snapshotRestoreTimer = MovieSnapshotStore.snapshotTimer(meterRegistry, "restore");
+        this.parsedRowsCounter = csvRowsCounter(meterRegistry, "parsed");
+        this.rejectedRowsCounter = csvRowsCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * Cria o contador de registros do CSV. Os contadores são registrados na construção, e
+     * não apenas na carga do CSV, para que existam também quando os dados vêm do snapshot.
+     *
+     * @param meterRegistry registro de métricas
+     * @param result resultado do processamento do registro
+     * @return contador registrado
+     */
+    private static Counter csvRowsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("golden.raspberry.csv.rows")
+                .description("Registros do CSV processados na carga")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     /**
-     * Método executado após a construção do bean para carregar os dados do CSV.
-     * Aplica o padrão de inicialização automática.
+     * Carrega os dados do CSV e constrói o índice de intervalos. Executado uma única vez
+     * na inicialização pelo {@link DataStartupService}, durante a criação do contexto ou
+     * em segundo plano, conforme {@code golden-raspberry.startup.background}.
+     * <p>
+     * Quando há um snapshot binário gerado a partir do mesmo arquivo CSV, os filmes e o
+     * índice de intervalos são restaurados dele, sem interpretar o CSV; caso contrário o
+     * CSV é carregado e o snapshot é gravado para as próximas inicializações.
      */
-    @PostConstruct
     public void initializeData() {
-        if (!movieRepository.existsAny()) {
+        if (!movieStore.existsAny()) {
+            MovieSnapshotStore.SourceFingerprint source = fingerprintSource();
+            Optional<MovieSnapshot> snapshot = source != null
+                    ? movieSnapshotStore.openIfCurrent(source)
+                    : Optional.empty();
+            if (snapshot.isPresent() && restoreFromSnapshot(snapshot.get())) {
+                return;
+            }
+
             logger.info("Carregando dados do arquivo CSV...");
             loadMoviesFromCsv();
             logger.info("Dados carregados com sucesso!");
+            if (source != null) {
+                movieSnapshotStore.save(movieSnapshotLoader.capture(), source);
+            }
         } else {
             logger.info("Dados já existem no banco. Pulando carregamento do CSV.");
         }
+        rebuildIntervalIndex();
     }
 
     /**
-     * Carrega os dados dos filmes a partir do arquivo CSV.
-     * 
-     * @throws CsvProcessingException se houver erro no processamento do CSV
+     * Calcula a identificação do arquivo CSV para localizar o snapshot correspondente.
+     *
+     * @return identificação do arquivo, ou null se o snapshot está desabilitado ou o
+     *         arquivo não pôde ser lido
      */
-    private void loadMoviesFromCsv() {
+    private MovieSnapshotStore.SourceFingerprint fingerprintSource() {
+        if (!movieSnapshotStore.isEnabled()) {
+            return null;
+        }
+
         try {
-            ClassPathResource resource = new ClassPathResource(CSV_FILE_PATH);
+            return movieSnapshotStore.fingerprint(csvResource);
+        } catch (IOException e) {
+            logger.warn("Erro ao calcular a soma de verificação do arquivo CSV: {}", e.getMessage());
+            return null;
+        }
+    }
 
-            CSVParser parser = new CSVParserBuilder()
-                    .withSeparator(';')
-                    .withIgnoreQuotations(true)
-                    .build();
+    /**
+     * Restaura os filmes e o índice de intervalos a partir do snapshot. Se a restauração
+     * falhar, os filmes já incluídos são removidos para que o CSV seja carregado.
+     *
+     * @param snapshot snapshot mapeado em memória
+     * @return true se os dados foram restaurados
+     */
+    private boolean restoreFromSnapshot(MovieSnapshot snapshot) {
+        long startNanos = System.nanoTime();
+        int restored;
+        try {
+            restored = movieSnapshotLoader.restore(snapshot);
+        } catch (RuntimeException e) {
+            logger.warn("Erro ao restaurar o snapshot; carregando o arquivo CSV: {}", e.getMessage(), e);
+            movieStore.deleteAll();
+            return false;
+        }
+        producerIntervalIndex.rebuildFromSnapshot(snapshot);
+        long elapsedNanos = System.nanoTime() - startNanos;
 
-            try (var isr = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
-                 var csvReader = new CSVReaderBuilder(isr)
-                         .withCSVParser(parser)
-                         .build()) {
+        snapshotRestoreTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        logger.info("Restaurados {} filmes do snapshot em {} ms, sem carregar o arquivo CSV",
+                restored, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return true;
+    }
 
-                List<String[]> records = csvReader.readAll();
+    /**
+     * Carrega os dados dos filmes a partir do arquivo CSV. No modo paralelo, arquivos
+     * disponíveis no sistema de arquivos são mapeados em memória e interpretados em
+     * blocos; nos demais casos os registros são lidos em fluxo e persistidos em lotes.
+     * 
+     * @throws CsvProcessingException se houver erro no processamento do CSV
+     */
+    private void loadMoviesFromCsv() {
+        try {
+            CsvLoadResult result;
+            IngestMode effectiveMode = ingestMode == IngestMode.PARALLEL && csvResource.isFile()
+                    ? IngestMode.PARALLEL
+                    : IngestMode.SEQUENTIAL;
 
-                if (!records.isEmpty()) {
-                    records.remove(0);
+            if (effectiveMode == IngestMode.PARALLEL) {
+                result = parallelMovieCsvLoader.load(csvResource.getFile().toPath());
+            } else {
+                if (ingestMode == IngestMode.PARALLEL) {
+                    logger.warn("Carga paralela requer um arquivo no sistema de arquivos; usando carga sequencial");
                 }
+                try (var isr = new InputStreamReader(csvResource.getInputStream(), StandardCharsets.UTF_8)) {
+                    result = movieCsvLoader.load(isr).withBytesRead(sourceLength());
+                }
+            }
 
-                List<Movie> movies = records.stream()
-                        .map(this::parseMovieFromCsvRecord)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
-
-                movieRepository.saveAll(movies);
-                logger.info("Carregados {} filmes do arquivo CSV", movies.size());
+            recordLoadMetrics(result, effectiveMode);
+            if (result.getBytesRead() > 0) {
+                logger.info("Carregados {} filmes do arquivo CSV ({} registros descartados) em {} ms: {} registros/s, {} MB/s",
+                        result.getMoviesLoaded(), result.getRowsRejected(),
+                        TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()),
+                        String.format("%.0f", result.getRowsPerSecond()),
+                        String.format("%.2f", result.getMegabytesPerSecond()));
+            } else {
+                logger.info("Carregados {} filmes do arquivo CSV ({} registros descartados) em {} ms: {} registros/s",
+                        result.getMoviesLoaded(), result.getRowsRejected(),
+                        TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()),
+                        String.format("%.0f", result.getRowsPerSecond()));
             }
         } catch (IOException | CsvException e) {
             logger.error("Erro ao processar arquivo CSV: {}", e.getMessage(), e);
@@ -102,151 +232,160 @@ public class GoldenRaspberryService {
     }
 
     /**
-     * Converte um registro do CSV em uma entidade Movie.
-     * 
-     * @param record array com os dados do registro CSV
-     * @return objeto Movie ou null se houver erro na conversão
+     * Obtém o tamanho do arquivo CSV, lido por inteiro na carga sequencial.
+     *
+     * @return tamanho em bytes, ou zero se o recurso não informa o tamanho
      */
-    private Movie parseMovieFromCsvRecord(String[] record) {
+    private long sourceLength() {
         try {
-            if (record.length < 5) {
-                logger.warn("Registro CSV inválido: número insuficiente de campos");
-                return null;
-            }
-
-            Integer year = Integer.parseInt(record[0].trim());
-            String title = record[1].trim();
-            String studios = record[2].trim();
-            String producers = record[3].trim();
-            Boolean winner = "yes".equalsIgnoreCase(record[4].trim());
-
-            return new Movie(year, title, studios, producers, winner);
-            
-        } catch (NumberFormatException e) {
-            logger.warn("Erro ao converter ano do filme: {}", e.getMessage());
-            return null;
-        } catch (Exception e) {
-            logger.warn("Erro ao processar registro CSV: {}", e.getMessage());
-            return null;
+            return Math.max(csvResource.contentLength(), 0);
+        } catch (IOException e) {
+            logger.debug("Tamanho do arquivo CSV indisponível: {}", e.getMessage());
+            return 0;
         }
     }
+
+    /**
+     * Registra as métricas de uma carga do CSV: registros aceitos e descartados e a duração da carga.
+     *
+     * @param result resultado da carga
+     * @param mode modo de carga efetivamente utilizado
+     */
+    private void recordLoadMetrics(CsvLoadResult result, IngestMode mode) {
+        parsedRowsCounter.increment(result.getMoviesLoaded());
+        rejectedRowsCounter.increment(result.getRowsRejected());
+        Timer.builder("golden.raspberry.csv.parse")
+                .description("Duração da carga do arquivo CSV")
+                .tag("mode", mode.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(result.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Obtém os intervalos de prêmios dos produtores (mínimo e máximo).
-     * Este método implementa a lógica principal de negócio da aplicação,
-     * calculando os intervalos entre prêmios consecutivos dos produtores.
+     * Os intervalos são mantidos pelo {@link ProducerIntervalIndex}, construído após a
+     * carga dos dados e atualizado a cada inclusão ou remoção de filme, de modo que
+     * a consulta não precisa reprocessar os vencedores a cada requisição. Chamadas
+     * concorrentes logo após uma alteração compartilham um único cálculo da resposta.
      * @return resposta com os intervalos mínimos e máximos
      */
     public AwardIntervalResponse getProducerAwardIntervals() {
-        List<Movie> winnerMovies = movieRepository.findWinnerMoviesOrderedByYear();
-        
-        Map<String, List<Integer>> producerWins = extractProducerWins(winnerMovies);
-        List<ProducerAwardInterval> intervals = calculateIntervals(producerWins);
-        
-        return buildResponse(intervals);
+        return intervalQueryCoalescer.query(IntervalQuery.defaultQuery());
     }
 
     /**
-     * Extrai os anos de vitória de cada produtor.
-     * 
-     * @param winnerMovies lista de filmes vencedores
-     * @return mapa com produtor e seus anos de vitória
-     */
-    private Map<String, List<Integer>> extractProducerWins(List<Movie> winnerMovies) {
-        Map<String, List<Integer>> producerWins = new HashMap<>();
-        
-        for (Movie movie : winnerMovies) {
-            String[] producers = parseProducers(movie.getProducers());
-            
-            for (String producer : producers) {
-                producerWins.computeIfAbsent(producer, k -> new ArrayList<>())
-                           .add(movie.getYear());
-            }
+     * Obtém os intervalos de prêmios dos produtores conforme os parâmetros da consulta,
+     * como os N menores e maiores intervalos ou limites de comprimento. Chamadas com os
+     * mesmos parâmetros sobre a mesma versão dos dados compartilham o cálculo, conforme o
+     * {@link IntervalQueryCoalescer}.
+     *
+     * @param query parâmetros da consulta
+     * @return resposta com os intervalos mínimos e máximos
+     */
+    public AwardIntervalResponse getProducerAwardIntervals(IntervalQuery query) {
+        return intervalQueryCoalescer.query(query);
+    }
+
+    /**
+     * Obtém os anos de vitória e os intervalos de um produtor pelo nome, sem distinção
+     * de maiúsculas e minúsculas.
+     *
+     * @param name nome do produtor
+     * @return vitórias do produtor, ou vazio se ele não possui vitórias
+     */
+    public Optional<ProducerWinsResponse> findProducer(String name) {
+        return producerIntervalIndex.findProducer(name);
+    }
+
+    /**
+     * Busca os nomes dos produtores com vitórias que começam com o prefixo informado.
+     *
+     * @param prefix prefixo do nome
+     * @param limit quantidade máxima de nomes
+     * @return nomes dos produtores em ordem alfabética
+     */
+    public List<String> findProducerNames(String prefix, int limit) {
+        return producerIntervalIndex.findProducerNames(prefix, limit);
+    }
+
+    /**
+     * Inclui um novo filme e atualiza o índice de intervalos após a confirmação da transação.
+     *
+     * @param movie filme a ser incluído
+     * @return filme persistido
+     * @throws IllegalArgumentException se o ano do filme estiver fora do intervalo aceito
+     */
+    @Transactional
+    public Movie addMovie(Movie movie) {
+        if (movie.getYear() == null || !Movie.isValidYear(movie.getYear())) {
+            throw new IllegalArgumentException("Ano do filme fora do intervalo aceito: " + movie.getYear());
         }
-        
-        producerWins.forEach((producer, years) -> {
-            Set<Integer> uniqueYears = new TreeSet<>(years);
-            producerWins.put(producer, new ArrayList<>(uniqueYears));
-        });
-        
-        return producerWins;
+        Movie savedMovie = movieStore.save(movie);
+        runAfterCommit(() -> producerIntervalIndex.addMovie(savedMovie));
+        return savedMovie;
     }
 
     /**
-     * Analisa a string de produtores e separa os nomes individuais.
-     * 
-     * @param producersString string com nomes dos produtores
-     * @return array com nomes individuais dos produtores
+     * Remove um filme e atualiza o índice de intervalos após a confirmação da transação.
+     *
+     * @param movieId identificador do filme
+     * @return true se o filme existia e foi removido, false caso contrário
      */
-    private String[] parseProducers(String producersString) {
-        if (producersString == null || producersString.trim().isEmpty()) {
-            return new String[0];
+    @Transactional
+    public boolean removeMovie(Long movieId) {
+        Optional<Movie> movie = movieStore.findById(movieId);
+        if (movie.isEmpty()) {
+            return false;
         }
-        
-        String[] producers = producersString.split(",|\\band\\b");
-        
-        return Arrays.stream(producers)
-                .map(String::trim)
-                .filter(producer -> !producer.isEmpty())
-                .toArray(String[]::new);
+
+        movieStore.deleteBatch(List.of(movieId));
+        runAfterCommit(() -> producerIntervalIndex.removeMovie(movie.get()));
+        return true;
     }
 
     /**
-     * Calcula os intervalos entre prêmios consecutivos para cada produtor.
-     * 
-     * @param producerWins mapa com produtor e seus anos de vitória
-     * @return lista de intervalos calculados
-     */
-    private List<ProducerAwardInterval> calculateIntervals(Map<String, List<Integer>> producerWins) {
-        List<ProducerAwardInterval> intervals = new ArrayList<>();
-        
-        for (Map.Entry<String, List<Integer>> entry : producerWins.entrySet()) {
-            String producer = entry.getKey();
-            List<Integer> years = entry.getValue();
-            
-            if (years.size() >= 2) {
-                for (int i = 1; i < years.size(); i++) {
-                    int previousWin = years.get(i - 1);
-                    int followingWin = years.get(i);
-                    int interval = followingWin - previousWin;
-                    
-                    intervals.add(new ProducerAwardInterval(producer, interval, previousWin, followingWin));
-                }
+     * Reconstrói o índice de intervalos a partir dos vencedores armazenados, lidos apenas
+     * com as colunas usadas no cálculo: por projeção em transação somente leitura no
+     * armazenamento JPA, ou diretamente das colunas no armazenamento em memória.
+     * A leitura é registrada no evento do JFR {@link WinnerQueryEvent}.
+     */
+    private void rebuildIntervalIndex() {
+        WinnerQueryEvent event = new WinnerQueryEvent();
+        event.begin();
+        List<WinnerMovieRow> winnerRows = queryTimer.record(movieStore::findWinnerRowsOrderedByYear);
+        event.end();
+        if (event.shouldCommit()) {
+            long bytes = 0;
+            for (WinnerMovieRow row : winnerRows) {
+                bytes += row.getProducers() != null ? row.getProducers().length() : 0;
             }
+            event.setDataset(StageEvent.PRIMARY_DATASET);
+            event.setRows(winnerRows.size());
+            event.setBytes(bytes);
+            event.commit();
         }
-        
-        return intervals;
+
+        producerIntervalIndex.rebuildFromRows(winnerRows);
+        logger.info("Índice de intervalos construído com {} filmes vencedores", winnerRows.size());
     }
 
     /**
-     * Constrói a resposta com os intervalos mínimos e máximos.
-     * 
-     * @param intervals lista de todos os intervalos calculados
-     * @return resposta formatada conforme especificação da API
+     * Executa a ação após a confirmação da transação corrente ou imediatamente,
+     * quando não há transação ativa.
+     *
+     * @param action ação a ser executada
      */
-    private AwardIntervalResponse buildResponse(List<ProducerAwardInterval> intervals) {
-        if (intervals.isEmpty()) {
-            return new AwardIntervalResponse(new ArrayList<>(), new ArrayList<>());
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
-        
-        int minInterval = intervals.stream()
-                .mapToInt(ProducerAwardInterval::getInterval)
-                .min()
-                .orElse(0);
-        
-        int maxInterval = intervals.stream()
-                .mapToInt(ProducerAwardInterval::getInterval)
-                .max()
-                .orElse(0);
-        
-        List<ProducerAwardInterval> minIntervals = intervals.stream()
-                .filter(interval -> interval.getInterval().equals(minInterval))
-                .collect(Collectors.toList());
-        
-        List<ProducerAwardInterval> maxIntervals = intervals.stream()
-                .filter(interval -> interval.getInterval().equals(maxInterval))
-                .collect(Collectors.toList());
-        
-        return new AwardIntervalResponse(minIntervals, maxIntervals);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
-
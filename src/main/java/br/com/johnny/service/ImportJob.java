@@ -0,0 +1,101 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.ImportJobState;
+import br.com.johnny.dto.ImportJobStatus;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Importação de filmes em andamento ou concluída. O progresso é atualizado apenas
+ * pela thread que executa a importação e lido pelas requisições de acompanhamento.
+ */
+final class ImportJob {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final String id;
+    private final Path file;
+    private final long bytesTotal;
+    private final Instant submittedAt = Instant.now();
+    private final AtomicLong bytesRead = new AtomicLong();
+
+    private volatile ImportJobState state = ImportJobState.QUEUED;
+    private volatile long rowsProcessed;
+    private volatile long moviesLoaded;
+    private volatile long startNanos;
+    private volatile long elapsedNanos;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    ImportJob(String id, Path file, long bytesTotal) {
+        this.id = id;
+        this.file = file;
+        this.bytesTotal = bytesTotal;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    boolean isFinished() {
+        return state == ImportJobState.COMPLETED || state == ImportJobState.FAILED;
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+        startedAt = Instant.now();
+        state = ImportJobState.RUNNING;
+    }
+
+    void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    void progress(long rowsProcessed, long batchSize) {
+        this.moviesLoaded += batchSize;
+        this.rowsProcessed = rowsProcessed;
+        this.elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    void complete(CsvLoadResult result) {
+        rowsProcessed = result.getRowsRead();
+        moviesLoaded = result.getMoviesLoaded();
+        finish(ImportJobState.COMPLETED, null);
+    }
+
+    void fail(String message) {
+        moviesLoaded = 0;
+        finish(ImportJobState.FAILED, message);
+    }
+
+    private void finish(ImportJobState finalState, String message) {
+        elapsedNanos = System.nanoTime() - startNanos;
+        finishedAt = Instant.now();
+        error = message;
+        state = finalState;
+    }
+
+    /**
+     * Obtém uma cópia da situação atual da importação.
+     *
+     * @return situação e progresso da importação
+     */
+    ImportJobStatus toStatus() {
+        ImportJobState currentState = state;
+        long rows = rowsProcessed;
+        long loaded = moviesLoaded;
+        long elapsed = currentState == ImportJobState.RUNNING ? System.nanoTime() - startNanos : elapsedNanos;
+        double rowsPerSecond = elapsed > 0 ? rows * NANOS_PER_SECOND / elapsed : 0;
+
+        return new ImportJobStatus(id, currentState, rows, loaded,
+                currentState == ImportJobState.FAILED ? 0 : Math.max(rows - loaded, 0),
+                bytesRead.get(), bytesTotal, rowsPerSecond, submittedAt, startedAt, finishedAt, error);
+    }
+}
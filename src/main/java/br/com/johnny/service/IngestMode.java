@@ -0,0 +1,17 @@
+package br.com.johnny.service;
+
+/**
+ * Modos de carga do arquivo CSV de filmes.
+ */
+public enum IngestMode {
+
+    /**
+     * Leitura em fluxo em uma única thread.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Arquivo mapeado em memória e interpretado em blocos por várias threads.
+     */
+    PARALLEL
+}
@@ -0,0 +1,112 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.repository.WinnerMovieRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Acumulador dos intervalos mínimos e máximos sobre os filmes vencedores recebidos em
+ * ordem de ano, usado pelo pipeline reativo. Guarda apenas o último ano de vitória de
+ * cada produtor e os candidatos aos extremos, de modo que cada filme é processado ao
+ * chegar, sem manter a lista de vencedores.
+ * <p>
+ * Os produtores recebem identificadores na ordem em que aparecem, como no
+ * {@link ProducerIntervalIndex}, e os empates são ordenados por produtor e ano, de modo
+ * que a resposta é a mesma do índice reconstruído a partir dos mesmos vencedores.
+ * Esta classe não é thread-safe.
+ */
+final class IntervalAccumulator {
+
+    private static final int NO_WIN = Integer.MIN_VALUE;
+
+    private final ProducerDictionary producerDictionary = new ProducerDictionary();
+    private int[] lastWins = newLastWins(64);
+    private int minInterval = Integer.MAX_VALUE;
+    private int maxInterval = -1;
+    private long[] minCandidates = new long[8];
+    private long[] maxCandidates = new long[8];
+    private int minCount;
+    private int maxCount;
+
+    /**
+     * Processa um filme vencedor. Os filmes devem chegar em ordem crescente de ano.
+     *
+     * @param row projeção do filme vencedor
+     * @return este acumulador
+     */
+    IntervalAccumulator accept(WinnerMovieRow row) {
+        int year = row.getYear();
+        for (String producer : ProducerNameParser.parseProducers(row.getProducers())) {
+            int producerId = producerDictionary.idOf(producer);
+            if (producerId >= lastWins.length) {
+                int[] grown = newLastWins(lastWins.length * 2);
+                System.arraycopy(lastWins, 0, grown, 0, lastWins.length);
+                lastWins = grown;
+            }
+
+            int lastWin = lastWins[producerId];
+            if (lastWin != NO_WIN && year > lastWin) {
+                offer(year - lastWin, producerId, lastWin);
+            }
+            lastWins[producerId] = year;
+        }
+        return this;
+    }
+
+    /**
+     * Monta a resposta com os intervalos mínimos e máximos acumulados.
+     *
+     * @return resposta com os intervalos mínimos e máximos
+     */
+    AwardIntervalResponse toResponse() {
+        return new AwardIntervalResponse(toIntervals(minInterval, minCandidates, minCount),
+                toIntervals(maxInterval, maxCandidates, maxCount));
+    }
+
+    private void offer(int interval, int producerId, int previousWin) {
+        long candidate = ((long) producerId << 32) | previousWin;
+
+        if (interval < minInterval) {
+            minInterval = interval;
+            minCount = 0;
+        }
+        if (interval == minInterval) {
+            minCandidates = append(minCandidates, minCount++, candidate);
+        }
+
+        if (interval > maxInterval) {
+            maxInterval = interval;
+            maxCount = 0;
+        }
+        if (interval == maxInterval) {
+            maxCandidates = append(maxCandidates, maxCount++, candidate);
+        }
+    }
+
+    private List<ProducerAwardInterval> toIntervals(int interval, long[] candidates, int count) {
+        Arrays.sort(candidates, 0, count);
+        List<ProducerAwardInterval> intervals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int previousWin = (int) candidates[i];
+            intervals.add(new ProducerAwardInterval(producerDictionary.nameOf((int) (candidates[i] >>> 32)),
+                    interval, previousWin, previousWin + interval));
+        }
+        return List.copyOf(intervals);
+    }
+
+    private static int[] newLastWins(int capacity) {
+        int[] lastWins = new int[capacity];
+        Arrays.fill(lastWins, NO_WIN);
+        return lastWins;
+    }
+
+    private static long[] append(long[] values, int position, long value) {
+        long[] target = position < values.length ? values : Arrays.copyOf(values, values.length * 2);
+        target[position] = value;
+        return target;
+    }
+}
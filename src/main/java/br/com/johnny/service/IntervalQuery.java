@@ -0,0 +1,156 @@
+package br.com.johnny.service;
+
+import java.util.Objects;
+
+/**
+ * Parâmetros de consulta dos intervalos de prêmios dos produtores.
+ * Sem parâmetros, a consulta retorna todos os empates do menor e do maior intervalo;
+ * com {@code top}, retorna os N menores e os N maiores intervalos. Os limites
+ * {@code minInterval} e {@code maxInterval} restringem os intervalos considerados, e
+ * {@code fromYear} e {@code toYear} restringem a janela de anos: apenas os intervalos
+ * com as duas vitórias dentro da janela são considerados.
+ */
+public class IntervalQuery {
+
+    private static final IntervalQuery DEFAULT = new IntervalQuery(null, null, null, null, null);
+
+    private final Integer top;
+    private final Integer minInterval;
+    private final Integer maxInterval;
+    private final Integer fromYear;
+    private final Integer toYear;
+
+    /**
+     * Construtor sem janela de anos, com os parâmetros opcionais.
+     *
+     * @param top quantidade de intervalos retornados em cada extremo
+     * @param minInterval menor comprimento de intervalo considerado
+     * @param maxInterval maior comprimento de intervalo considerado
+     * @throws IllegalArgumentException se os parâmetros forem inconsistentes
+     */
+    public IntervalQuery(Integer top, Integer minInterval, Integer maxInterval) {
+        this(top, minInterval, maxInterval, null, null);
+    }
+
+    /**
+     * Construtor com todos os parâmetros, todos opcionais.
+     *
+     * @param top quantidade de intervalos retornados em cada extremo
+     * @param minInterval menor comprimento de intervalo considerado
+     * @param maxInterval maior comprimento de intervalo considerado
+     * @param fromYear primeiro ano da janela considerada
+     * @param toYear último ano da janela considerada
+     * @throws IllegalArgumentException se os parâmetros forem inconsistentes
+     */
+    public IntervalQuery(Integer top, Integer minInterval, Integer maxInterval, Integer fromYear, Integer toYear) {
+        if (top != null && top < 1) {
+            throw new IllegalArgumentException("O parâmetro top deve ser positivo");
+        }
+        if (minInterval != null && maxInterval != null && minInterval > maxInterval) {
+            throw new IllegalArgumentException("O parâmetro minInterval não pode ser maior que maxInterval");
+        }
+        if (fromYear != null && toYear != null && fromYear > toYear) {
+            throw new IllegalArgumentException("O parâmetro fromYear não pode ser maior que toYear");
+        }
+        this.top = top;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+    }
+
+    /**
+     * Obtém a consulta padrão, sem parâmetros.
+     *
+     * @return consulta padrão
+     */
+    public static IntervalQuery defaultQuery() {
+        return DEFAULT;
+    }
+
+    /**
+     * Indica se a consulta não tem parâmetros e pode ser atendida pela resposta pré-calculada.
+     *
+     * @return true se nenhum parâmetro foi informado
+     */
+    public boolean isDefault() {
+        return top == null && minInterval == null && maxInterval == null && !hasYearRange();
+    }
+
+    /**
+     * Indica se a consulta restringe a janela de anos.
+     *
+     * @return true se fromYear ou toYear foi informado
+     */
+    public boolean hasYearRange() {
+        return fromYear != null || toYear != null;
+    }
+
+    public Integer getTop() {
+        return top;
+    }
+
+    /**
+     * Obtém o menor comprimento considerado, ou zero quando não informado.
+     *
+     * @return limite inferior inclusivo
+     */
+    public int getLowerBound() {
+        return minInterval != null ? minInterval : 0;
+    }
+
+    /**
+     * Obtém o maior comprimento considerado, ou {@link Integer#MAX_VALUE} quando não informado.
+     *
+     * @return limite superior inclusivo
+     */
+    public int getUpperBound() {
+        return maxInterval != null ? maxInterval : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Obtém o primeiro ano da janela, ou zero quando não informado.
+     *
+     * @return primeiro ano inclusivo
+     */
+    public int getFromYear() {
+        return fromYear != null ? fromYear : 0;
+    }
+
+    /**
+     * Obtém o último ano da janela, ou {@link Integer#MAX_VALUE} quando não informado.
+     *
+     * @return último ano inclusivo
+     */
+    public int getToYear() {
+        return toYear != null ? toYear : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IntervalQuery that = (IntervalQuery) o;
+        return Objects.equals(top, that.top) &&
+               Objects.equals(minInterval, that.minInterval) &&
+               Objects.equals(maxInterval, that.maxInterval) &&
+               Objects.equals(fromYear, that.fromYear) &&
+               Objects.equals(toYear, that.toYear);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(top, minInterval, maxInterval, fromYear, toYear);
+    }
+
+    @Override
+    public String toString() {
+        return "IntervalQuery{" +
+                "top=" + top +
+                ", minInterval=" + minInterval +
+                ", maxInterval=" + maxInterval +
+                ", fromYear=" + fromYear +
+                ", toYear=" + toYear +
+                '}';
+    }
+}
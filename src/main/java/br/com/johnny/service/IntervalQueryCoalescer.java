@@ -0,0 +1,159 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Coalescência das consultas de intervalos ("single flight"): chamadas concorrentes com os
+ * mesmos parâmetros, sobre a mesma versão dos dados do {@link ProducerIntervalIndex},
+ * compartilham um único cálculo em andamento, representado por um {@link CompletableFuture}.
+ * A primeira chamada calcula a resposta na própria thread; as demais aguardam o resultado.
+ * <p>
+ * O resultado concluído continua disponível para as chamadas seguintes até a versão dos dados
+ * mudar, limitado a {@code golden-raspberry.coalescing.max-entries} consultas distintas.
+ * Falhas não são guardadas: a chamada seguinte calcula a resposta novamente.
+ * <p>
+ * As chamadas são contadas na métrica {@code golden.raspberry.intervals.coalescing}, pela tag
+ * {@code result}: {@code computed} quando a chamada calculou a resposta, {@code coalesced}
+ * quando aguardou um cálculo em andamento e {@code reused} quando aproveitou um resultado pronto.
+ */
+@Component
+public class IntervalQueryCoalescer {
+
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final ConcurrentMap<IntervalQuery, Flight> flights = new ConcurrentHashMap<>();
+    private final Counter computedCounter;
+    private final Counter coalescedCounter;
+    private final Counter reusedCounter;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param producerIntervalIndex índice de intervalos consultado
+     * @param enabled indica se as consultas concorrentes são coalescidas
+     * @param maxEntries quantidade máxima de consultas distintas com resultado guardado
+     * @param meterRegistry registro de métricas da aplicação
+     */
+    @Autowired
+    public IntervalQueryCoalescer(ProducerIntervalIndex producerIntervalIndex,
+                                  @Value("${golden-raspberry.coalescing.enabled:true}") boolean enabled,
+                                  @Value("${golden-raspberry.coalescing.max-entries:256}") int maxEntries,
+                                  MeterRegistry meterRegistry) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("golden-raspberry.coalescing.max-entries deve ser positivo");
+        }
+        this.producerIntervalIndex = producerIntervalIndex;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.computedCounter = coalescingCounter(meterRegistry, "computed");
+        this.coalescedCounter = coalescingCounter(meterRegistry, "coalesced");
+        this.reusedCounter = coalescingCounter(meterRegistry, "reused");
+    }
+
+    private static Counter coalescingCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("golden.raspberry.intervals.coalescing")
+                .description("Consultas de intervalos calculadas, coalescidas com um cálculo em andamento ou reaproveitadas")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consulta os intervalos, compartilhando o cálculo com as chamadas concorrentes que usam
+     * os mesmos parâmetros e a mesma versão dos dados.
+     *
+     * @param query parâmetros da consulta
+     * @return resposta com os intervalos mínimos e máximos
+     */
+    public AwardIntervalResponse query(IntervalQuery query) {
+        if (!enabled) {
+            computedCounter.increment();
+            return producerIntervalIndex.query(query);
+        }
+
+        long version = producerIntervalIndex.getVersion();
+        Flight flight = flights.get(query);
+        if (flight == null || flight.version < version) {
+            Flight started = new Flight(version);
+            flight = flights.compute(query, (key, existing) ->
+                    existing != null && existing.version >= version ? existing : started);
+            if (flight == started) {
+                return compute(query, started);
+            }
+        }
+
+        (flight.future.isDone() ? reusedCounter : coalescedCounter).increment();
+        return await(flight);
+    }
+
+    /**
+     * Calcula a resposta na thread da chamada e a entrega às chamadas que aguardam.
+     * O cálculo é feito sobre o estado atual do índice, que é igual ou mais recente que a
+     * versão registrada, de modo que nenhuma chamada recebe dados anteriores à versão que leu.
+     */
+    private AwardIntervalResponse compute(IntervalQuery query, Flight flight) {
+        computedCounter.increment();
+        AwardIntervalResponse response;
+        try {
+            response = producerIntervalIndex.query(query);
+        } catch (RuntimeException | Error e) {
+            flights.remove(query, flight);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+
+        flight.future.complete(response);
+        if (flights.size() > maxEntries) {
+            evict(flight);
+        }
+        return response;
+    }
+
+    /**
+     * Descarta os resultados de versões anteriores; se o limite ainda for excedido, o resultado
+     * recém-calculado não é guardado.
+     */
+    private void evict(Flight flight) {
+        flights.values().removeIf(other -> other.version < flight.version && other.future.isDone());
+        if (flights.size() > maxEntries) {
+            flights.values().remove(flight);
+        }
+    }
+
+    private static AwardIntervalResponse await(Flight flight) {
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cálculo de uma consulta para uma versão dos dados.
+     */
+    private static final class Flight {
+
+        private final long version;
+        private final CompletableFuture<AwardIntervalResponse> future = new CompletableFuture<>();
+
+        private Flight(long version) {
+            this.version = version;
+        }
+    }
+}
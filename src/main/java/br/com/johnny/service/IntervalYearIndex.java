@@ -0,0 +1,126 @@
+package br.com.johnny.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice dos intervalos entre vitórias consecutivas para consultas por janela de anos.
+ * Os intervalos ficam agrupados por comprimento e, em cada grupo, ordenados pelo ano da
+ * vitória anterior. Um intervalo de comprimento L está contido na janela [início, fim]
+ * quando a vitória anterior está entre o início e {@code fim - L}, de modo que os
+ * intervalos de cada comprimento contidos na janela formam uma faixa contígua, localizada
+ * por busca binária. Uma consulta custa uma busca por comprimento distinto, independente
+ * da quantidade de vencedores.
+ * <p>
+ * Cada intervalo é guardado em um long, com o ano da vitória anterior nos 32 bits altos e
+ * o identificador do produtor nos 32 bits baixos. O índice é imutável após a construção.
+ */
+final class IntervalYearIndex {
+
+    private static final long[] NO_INTERVALS = new long[0];
+    private static final long LOW_BITS = 0xFFFFFFFFL;
+
+    private final long[][] intervalsByLength;
+
+    private IntervalYearIndex(long[][] intervalsByLength) {
+        this.intervalsByLength = intervalsByLength;
+    }
+
+    /**
+     * Constrói o índice a partir dos anos de vitória de cada produtor.
+     *
+     * @param winsByProducer anos de vitória, na posição do identificador de cada produtor
+     * @param intervalCounts quantidade de intervalos de cada comprimento
+     * @return índice construído
+     */
+    static IntervalYearIndex build(List<ProducerWinYears> winsByProducer, int[] intervalCounts) {
+        long[][] intervalsByLength = new long[intervalCounts.length][];
+        for (int length = 0; length < intervalCounts.length; length++) {
+            intervalsByLength[length] = intervalCounts[length] > 0 ? new long[intervalCounts[length]] : NO_INTERVALS;
+        }
+
+        int[] filled = new int[intervalCounts.length];
+        for (int producerId = 0; producerId < winsByProducer.size(); producerId++) {
+            ProducerWinYears years = winsByProducer.get(producerId);
+
+            for (int i = 1; i < years.size(); i++) {
+                int previousWin = years.yearAt(i - 1);
+                int length = years.yearAt(i) - previousWin;
+                intervalsByLength[length][filled[length]++] = ((long) previousWin << 32) | producerId;
+            }
+        }
+
+        for (long[] intervals : intervalsByLength) {
+            Arrays.sort(intervals);
+        }
+        return new IntervalYearIndex(intervalsByLength);
+    }
+
+    /**
+     * Obtém o maior comprimento de intervalo que o índice pode conter.
+     *
+     * @return maior comprimento
+     */
+    int maxLength() {
+        return intervalsByLength.length - 1;
+    }
+
+    /**
+     * Verifica se existe algum intervalo do comprimento informado contido na janela.
+     *
+     * @param length comprimento do intervalo
+     * @param fromYear primeiro ano da janela, inclusivo
+     * @param toYear último ano da janela, inclusivo
+     * @return true se existe ao menos um intervalo
+     */
+    boolean contains(int length, int fromYear, int toYear) {
+        long[] intervals = intervalsByLength[length];
+        return firstAfter(intervals, toYear - length) > firstFrom(intervals, fromYear);
+    }
+
+    /**
+     * Obtém os intervalos do comprimento informado contidos na janela, ordenados pelo
+     * produtor e pelo ano da vitória anterior, na mesma ordem da consulta sem janela.
+     *
+     * @param length comprimento do intervalo
+     * @param fromYear primeiro ano da janela, inclusivo
+     * @param toYear último ano da janela, inclusivo
+     * @return intervalos com o identificador do produtor nos 32 bits altos e o ano da
+     *         vitória anterior nos 32 bits baixos
+     */
+    long[] intervalsIn(int length, int fromYear, int toYear) {
+        long[] intervals = intervalsByLength[length];
+        int start = firstFrom(intervals, fromYear);
+        int end = firstAfter(intervals, toYear - length);
+        if (end <= start) {
+            return NO_INTERVALS;
+        }
+
+        long[] found = new long[end - start];
+        for (int i = start; i < end; i++) {
+            long interval = intervals[i];
+            found[i - start] = ((interval & LOW_BITS) << 32) | ((interval >>> 32) & LOW_BITS);
+        }
+        Arrays.sort(found);
+        return found;
+    }
+
+    /**
+     * Posição do primeiro intervalo com a vitória anterior a partir do ano informado.
+     */
+    private static int firstFrom(long[] intervals, int year) {
+        return insertionPoint(intervals, (long) year << 32);
+    }
+
+    /**
+     * Posição do primeiro intervalo com a vitória anterior depois do ano informado.
+     */
+    private static int firstAfter(long[] intervals, int year) {
+        return insertionPoint(intervals, ((long) year + 1) << 32);
+    }
+
+    private static int insertionPoint(long[] intervals, long key) {
+        int position = Arrays.binarySearch(intervals, key);
+        return position >= 0 ? position : -position - 1;
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.MoviePageResponse;
+import br.com.johnny.dto.MovieResponse;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieCursor;
+import br.com.johnny.repository.MovieFilter;
+import br.com.johnny.repository.MovieStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Serviço de listagem dos filmes cadastrados, com filtros e paginação por chave.
+ */
+@Service
+public class MovieCatalogService {
+
+    private final MovieStore movieStore;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieStore armazenamento dos filmes
+     */
+    @Autowired
+    public MovieCatalogService(MovieStore movieStore) {
+        this.movieStore = movieStore;
+    }
+
+    /**
+     * Obtém uma página de filmes. Um filme a mais que o limite é consultado apenas
+     * para saber se existe página seguinte.
+     *
+     * @param filter filtros da listagem
+     * @param cursor cursor retornado pela página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de filmes da página
+     * @return página de filmes com o cursor da página seguinte
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public MoviePageResponse findMovies(MovieFilter filter, String cursor, int limit) {
+        List<Movie> movies = movieStore.findPage(filter, decodeCursor(cursor), limit + 1);
+
+        boolean hasNext = movies.size() > limit;
+        List<MovieResponse> page = new ArrayList<>(Math.min(movies.size(), limit));
+        for (int i = 0; i < movies.size() && i < limit; i++) {
+            page.add(toResponse(movies.get(i)));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            MovieResponse last = page.get(page.size() - 1);
+            nextCursor = new MovieCursor(last.getYear(), last.getId()).encode();
+        }
+        return new MoviePageResponse(page, nextCursor);
+    }
+
+    /**
+     * Percorre os filmes em fluxo, na mesma ordem da listagem paginada.
+     *
+     * @param filter filtros da listagem
+     * @param cursor cursor a partir do qual a leitura começa, ou null para o início
+     * @param limit quantidade máxima de filmes, ou null para todos
+     * @param consumer consumidor de cada filme lido
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public void streamMovies(MovieFilter filter, String cursor, Integer limit, Consumer<MovieResponse> consumer) {
+        MovieCursor after = decodeCursor(cursor);
+        movieStore.forEach(filter, after, limit, movie -> consumer.accept(toResponse(movie)));
+    }
+
+    /**
+     * Valida o cursor antes da consulta, para que cursores inválidos sejam
+     * rejeitados antes do início da resposta.
+     *
+     * @param cursor cursor recebido pela API, ou null
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public void validateCursor(String cursor) {
+        decodeCursor(cursor);
+    }
+
+    private static MovieCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : MovieCursor.decode(cursor);
+    }
+
+    private static MovieResponse toResponse(Movie movie) {
+        return new MovieResponse(movie.getId(), movie.getYear(), movie.getTitle(), movie.getStudios(),
+                movie.getProducers(), movie.getWinner());
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.johnny.service;
+
+import br.com.johnny.jfr.CsvChunkParseEvent;
+import br.com.johnny.jfr.StageEvent;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieStore;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Componente responsável pela leitura em fluxo de arquivos CSV de filmes.
+ * Os registros são lidos um a um e persistidos em lotes de tamanho configurável,
+ * de modo que a memória utilizada é limitada pelo tamanho do lote e não pelo
+ * tamanho do arquivo.
+ * <p>
+ * As linhas lidas entre dois lotes formam um bloco, registrado no evento do JFR
+ * {@link CsvChunkParseEvent}. O evento termina antes da persistência do lote, que é
+ * registrada à parte pelo armazenamento dos filmes.
+ */
+@Component
+public class MovieCsvLoader {
+
+    private final MovieStore movieStore;
+    private final int batchSize;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieStore armazenamento dos filmes
+     * @param batchSize quantidade de filmes por lote de inclusão
+     */
+    @Autowired
+    public MovieCsvLoader(MovieStore movieStore,
+                          @Value("${golden-raspberry.ingest.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("O tamanho do lote de inclusão deve ser positivo");
+        }
+        this.movieStore = movieStore;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Lê os registros do CSV em fluxo, descartando o cabeçalho, e persiste os filmes em lotes.
+     *
+     * @param reader leitor do conteúdo CSV
+     * @return resultado da carga
+     * @throws IOException se houver erro de leitura
+     * @throws CsvValidationException se houver erro de validação do CSV
+     */
+    public CsvLoadResult load(Reader reader) throws IOException, CsvValidationException {
+        return load(reader, CsvLoadListener.NONE);
+    }
+
+    /**
+     * Lê os registros do CSV em fluxo, descartando o cabeçalho, e persiste os filmes em lotes,
+     * notificando o observador a cada lote persistido.
+     *
+     * @param reader leitor do conteúdo CSV
+     * @param listener observador do progresso da carga
+     * @return resultado da carga
+     * @throws IOException se houver erro de leitura
+     * @throws CsvValidationException se houver erro de validação do CSV
+     */
+    public CsvLoadResult load(Reader reader, CsvLoadListener listener) throws IOException, CsvValidationException {
+        long startNanos = System.nanoTime();
+        long rowsRead = 0;
+        long moviesLoaded = 0;
+        List<Movie> batch = new ArrayList<>(batchSize);
+        Chunk chunk = new Chunk(0);
+
+        try (CSVReader csvReader = new CSVReaderBuilder(reader)
+                .withCSVParser(MovieCsvRecordParser.newCsvParser())
+                .withSkipLines(1)
+                .build()) {
+
+            String[] record;
+            while ((record = csvReader.readNext()) != null) {
+                rowsRead++;
+                chunk.read(record);
+
+                Movie movie = MovieCsvRecordParser.parseMovieFromCsvRecord(record);
+                if (movie == null) {
+                    chunk.rejected++;
+                    continue;
+                }
+
+                batch.add(movie);
+                if (batch.size() == batchSize) {
+                    chunk.commit(rowsRead);
+                    moviesLoaded += flush(batch, rowsRead, listener);
+                    chunk = new Chunk(rowsRead);
+                }
+            }
+
+            chunk.commit(rowsRead);
+            moviesLoaded += flush(batch, rowsRead, listener);
+        }
+
+        return new CsvLoadResult(rowsRead, moviesLoaded, rowsRead - moviesLoaded, 0, System.nanoTime() - startNanos);
+    }
+
+    private int flush(List<Movie> batch, long rowsRead, CsvLoadListener listener) {
+        int size = batch.size();
+        movieStore.insertBatch(batch);
+        listener.onBatch(batch, rowsRead);
+        batch.clear();
+        return size;
+    }
+
+    /**
+     * Linhas lidas desde o último lote, acompanhadas pelo evento do JFR. O tamanho das
+     * linhas só é estimado quando o evento está habilitado.
+     */
+    private static final class Chunk {
+
+        private final CsvChunkParseEvent event = new CsvChunkParseEvent();
+        private final boolean measureBytes = event.isEnabled();
+        private final long startRow;
+        private long rejected;
+        private long bytes;
+
+        private Chunk(long startRow) {
+            this.startRow = startRow;
+            event.begin();
+        }
+
+        private void read(String[] record) {
+            if (measureBytes) {
+                bytes += MovieCsvRecordParser.estimateRecordBytes(record);
+            }
+        }
+
+        private void commit(long rowsRead) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setDataset(StageEvent.PRIMARY_DATASET);
+                event.setRows(rowsRead - startRow);
+                event.setRejected(rejected);
+                event.setBytes(bytes);
+                event.commit();
+            }
+        }
+    }
+}
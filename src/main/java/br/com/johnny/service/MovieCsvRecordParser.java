@@ -0,0 +1,134 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+import com.opencsv.CSVParser;
+import com.opencsv.CSVParserBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Conversor de registros do CSV de filmes, compartilhado pelos carregadores
+ * sequencial e paralelo para que ambos tratem registros inválidos da mesma forma.
+ * Instâncias não são thread-safe: cada thread deve utilizar a sua.
+ */
+public final class MovieCsvRecordParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieCsvRecordParser.class);
+
+    static final char CSV_SEPARATOR = ';';
+
+    private final CSVParser csvParser = newCsvParser();
+
+    /**
+     * Cria o parser OpenCSV com a configuração adotada para o arquivo de filmes.
+     *
+     * @return parser configurado
+     */
+    static CSVParser newCsvParser() {
+        return new CSVParserBuilder()
+                .withSeparator(CSV_SEPARATOR)
+                .withIgnoreQuotations(true)
+                .build();
+    }
+
+    /**
+     * Separa uma linha do CSV em campos. Linhas sem aspas nem caracteres de escape,
+     * que são a quase totalidade do arquivo, são separadas diretamente; as demais
+     * são delegadas ao OpenCSV para manter exatamente o mesmo resultado.
+     *
+     * @param line linha do CSV, sem o terminador
+     * @return campos da linha
+     * @throws IOException se o OpenCSV não conseguir interpretar a linha
+     */
+    public String[] splitLine(String line) throws IOException {
+        if (line.indexOf('"') >= 0 || line.indexOf('\\') >= 0) {
+            return csvParser.parseLine(line);
+        }
+
+        int fieldCount = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == CSV_SEPARATOR) {
+                fieldCount++;
+            }
+        }
+
+        String[] fields = new String[fieldCount];
+        int start = 0;
+        for (int field = 0; field < fieldCount - 1; field++) {
+            int end = line.indexOf(CSV_SEPARATOR, start);
+            fields[field] = line.substring(start, end);
+            start = end + 1;
+        }
+        fields[fieldCount - 1] = line.substring(start);
+
+        return fields;
+    }
+
+    /**
+     * Converte uma linha do CSV em uma entidade Movie.
+     *
+     * @param line linha do CSV, sem o terminador
+     * @return objeto Movie ou null se houver erro na conversão
+     */
+    public Movie parseLine(String line) {
+        try {
+            return parseMovieFromCsvRecord(splitLine(line));
+        } catch (IOException e) {
+            logger.warn("Erro ao processar registro CSV: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Converte um registro do CSV em uma entidade Movie. Registros com ano fora do
+     * intervalo aceito por {@link Movie#isValidYear(int)} são descartados.
+     *
+     * @param record array com os dados do registro CSV
+     * @return objeto Movie ou null se houver erro na conversão
+     */
+    public static Movie parseMovieFromCsvRecord(String[] record) {
+        try {
+            if (record.length < 5) {
+                logger.warn("Registro CSV inválido: número insuficiente de campos");
+                return null;
+            }
+
+            int year = Integer.parseInt(record[0].trim());
+            if (!Movie.isValidYear(year)) {
+                logger.warn("Ano do filme fora do intervalo aceito: {}", year);
+                return null;
+            }
+            String title = record[1].trim();
+            String studios = record[2].trim();
+            String producers = record[3].trim();
+            Boolean winner = "yes".equalsIgnoreCase(record[4].trim());
+
+            return new Movie(year, title, studios, producers, winner);
+
+        } catch (NumberFormatException e) {
+            logger.warn("Erro ao converter ano do filme: {}", e.getMessage());
+            return null;
+        } catch (Exception e) {
+            logger.warn("Erro ao processar registro CSV: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Estima o tamanho da linha de origem de um registro já separado em campos: a soma dos
+     * caracteres dos campos, dos separadores e da quebra de linha. Para a leitura em fluxo,
+     * que não expõe a posição no arquivo; o valor é exato em linhas ASCII sem aspas.
+     *
+     * @param record campos do registro
+     * @return tamanho aproximado da linha, em bytes
+     */
+    public static long estimateRecordBytes(String[] record) {
+        long bytes = record.length;
+        for (String field : record) {
+            bytes += field.length();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,290 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.ImportJobStatus;
+import br.com.johnny.exception.CsvProcessingException;
+import br.com.johnny.exception.ImportRejectedException;
+import br.com.johnny.exception.ImportTooLargeException;
+import br.com.johnny.model.Movie;
+import com.opencsv.exceptions.CsvException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço de importação de filmes a partir de arquivos CSV enviados pela API.
+ * <p>
+ * O conteúdo recebido é gravado em fluxo em um arquivo temporário, sem ser mantido em
+ * memória, e a importação é executada em segundo plano por um executor com quantidade
+ * fixa de threads. A quantidade de importações aceitas (em execução e na fila) é limitada
+ * antes da leitura do conteúdo, de modo que envios recusados não chegam a ser gravados, e o
+ * tamanho do conteúdo é limitado a {@code golden-raspberry.imports.max-size} durante a
+ * gravação: um envio que excede o limite é interrompido e o arquivo temporário, removido.
+ * <p>
+ * Os filmes são gravados em lotes dentro de uma única transação. Depois da confirmação, os
+ * vencedores são incluídos no {@link ProducerIntervalIndex} em uma única alteração, de modo
+ * que as consultas de intervalos passam do estado anterior para o estado com todos os filmes
+ * importados sem observar importações parciais; em caso de falha a transação é desfeita e
+ * nada é publicado.
+ * <p>
+ * A confirmação e a publicação no índice não são atômicas entre si: logo após a confirmação,
+ * a listagem de filmes, que lê o banco, já mostra os filmes importados, enquanto os intervalos
+ * ainda refletem o estado anterior. A importação só é marcada como concluída depois da
+ * publicação no índice, de modo que quem acompanha a situação da importação observa os dois
+ * já atualizados.
+ */
+@Service
+public class MovieImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieImportService.class);
+    private static final String TEMP_FILE_PREFIX = "movie-import-";
+    private static final int SPOOL_BUFFER_SIZE = 64 * 1024;
+
+    private final MovieCsvLoader movieCsvLoader;
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final int retainedJobs;
+    private final DataSize maxSize;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> finishedJobs = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieCsvLoader carregador de filmes a partir de CSV
+     * @param producerIntervalIndex índice de intervalos de prêmios dos produtores
+     * @param transactionManager gerenciador de transações da aplicação
+     * @param poolSize quantidade de importações executadas simultaneamente
+     * @param queueCapacity quantidade de importações aguardando execução
+     * @param retainedJobs quantidade de importações concluídas mantidas para consulta
+     * @param maxSize tamanho máximo do arquivo de importação
+     */
+    @Autowired
+    public MovieImportService(MovieCsvLoader movieCsvLoader,
+                              ProducerIntervalIndex producerIntervalIndex,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${golden-raspberry.imports.pool-size:1}") int poolSize,
+                              @Value("${golden-raspberry.imports.queue-capacity:4}") int queueCapacity,
+                              @Value("${golden-raspberry.imports.retained-jobs:100}") int retainedJobs,
+                              @Value("${golden-raspberry.imports.max-size:50MB}") DataSize maxSize) {
+        if (poolSize < 1 || queueCapacity < 0 || maxSize.toBytes() < 1) {
+            throw new IllegalArgumentException("Configuração inválida do executor de importações");
+        }
+        this.movieCsvLoader = movieCsvLoader;
+        this.producerIntervalIndex = producerIntervalIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.slots = new Semaphore(poolSize + queueCapacity);
+        this.retainedJobs = retainedJobs;
+        this.maxSize = maxSize;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity + 1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, TEMP_FILE_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Recebe o conteúdo CSV e agenda a sua importação.
+     *
+     * @param content conteúdo CSV, com cabeçalho, lido em fluxo
+     * @param declaredSize tamanho informado pelo cliente, ou negativo se desconhecido
+     * @return situação inicial da importação
+     * @throws ImportTooLargeException se o conteúdo excede o tamanho máximo
+     * @throws ImportRejectedException se o limite de importações foi atingido
+     * @throws IOException se houver erro ao receber o conteúdo
+     */
+    public ImportJobStatus submit(InputStream content, long declaredSize) throws IOException {
+        if (declaredSize > maxSize.toBytes()) {
+            throw tooLarge();
+        }
+        if (!slots.tryAcquire()) {
+            throw new ImportRejectedException("Limite de importações simultâneas atingido");
+        }
+
+        Path file = null;
+        try {
+            file = Files.createTempFile(TEMP_FILE_PREFIX, ".csv");
+            long size = spool(content, file);
+
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), file, size);
+            jobs.put(job.getId(), job);
+            executor.execute(() -> run(job));
+
+            logger.info("Importação {} recebida com {} bytes", job.getId(), size);
+            return job.toStatus();
+        } catch (IOException | RuntimeException e) {
+            slots.release();
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Grava o conteúdo no arquivo temporário, interrompendo a gravação assim que o tamanho
+     * máximo é excedido.
+     */
+    private long spool(InputStream content, Path file) throws IOException {
+        long limit = maxSize.toBytes();
+        long size = 0;
+        byte[] buffer = new byte[SPOOL_BUFFER_SIZE];
+        try (OutputStream output = Files.newOutputStream(file)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                size += read;
+                if (size > limit) {
+                    throw tooLarge();
+                }
+                output.write(buffer, 0, read);
+            }
+        }
+        return size;
+    }
+
+    private ImportTooLargeException tooLarge() {
+        return new ImportTooLargeException("O arquivo excede o tamanho máximo de importação de " + maxSize);
+    }
+
+    /**
+     * Obtém a situação de uma importação.
+     *
+     * @param id identificador da importação
+     * @return situação da importação, ou vazio se não existir ou já tiver sido descartada
+     */
+    public Optional<ImportJobStatus> getStatus(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::toStatus);
+    }
+
+    /**
+     * Executa a importação, gravando os filmes em uma única transação e publicando
+     * os vencedores no índice após a confirmação.
+     */
+    private void run(ImportJob job) {
+        job.start();
+        List<Movie> winners = new ArrayList<>();
+
+        try {
+            CsvLoadResult result = transactionTemplate.execute(status -> load(job, winners));
+            producerIntervalIndex.addMovies(winners);
+            job.complete(result);
+
+            logger.info("Importação {} concluída: {} filmes ({} registros descartados) em {} ms",
+                    job.getId(), result.getMoviesLoaded(), result.getRowsRejected(),
+                    TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()));
+        } catch (RuntimeException e) {
+            logger.error("Erro na importação {}: {}", job.getId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(job.getFile());
+            } catch (IOException e) {
+                logger.warn("Não foi possível remover o arquivo temporário {}", job.getFile());
+            }
+            slots.release();
+            retire(job);
+        }
+    }
+
+    private CsvLoadResult load(ImportJob job, List<Movie> winners) {
+        try (Reader reader = new InputStreamReader(
+                new ProgressInputStream(Files.newInputStream(job.getFile()), job), StandardCharsets.UTF_8)) {
+            return movieCsvLoader.load(reader, (batch, rowsRead) -> {
+                for (Movie movie : batch) {
+                    if (Boolean.TRUE.equals(movie.getWinner())) {
+                        winners.add(movie);
+                    }
+                }
+                job.progress(rowsRead, batch.size());
+            });
+        } catch (IOException | CsvException e) {
+            throw new CsvProcessingException("Erro ao importar o arquivo CSV", e);
+        }
+    }
+
+    /**
+     * Mantém apenas as importações concluídas mais recentes disponíveis para consulta.
+     */
+    private void retire(ImportJob job) {
+        finishedJobs.add(job.getId());
+        while (finishedJobs.size() > retainedJobs) {
+            String oldest = finishedJobs.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    /**
+     * Interrompe as importações em andamento no encerramento da aplicação.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Fluxo de entrada que contabiliza os bytes lidos no progresso da importação.
+     */
+    private static final class ProgressInputStream extends FilterInputStream {
+
+        private final ImportJob job;
+
+        private ProgressInputStream(InputStream in, ImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                job.addBytesRead(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                job.addBytesRead(count);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.johnny.service;
+
+/**
+ * Resultado da sincronização dos filmes carregados com o arquivo observado.
+ */
+public class MovieListSyncResult {
+
+    private final long rowsRead;
+    private final long rowsRejected;
+    private final int inserted;
+    private final int updated;
+    private final int deleted;
+    private final long elapsedNanos;
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param rowsRead registros lidos do arquivo, sem o cabeçalho
+     * @param rowsRejected registros descartados por erro de conversão
+     * @param inserted filmes incluídos
+     * @param updated filmes alterados
+     * @param deleted filmes removidos
+     * @param elapsedNanos duração da sincronização em nanossegundos
+     */
+    public MovieListSyncResult(long rowsRead, long rowsRejected, int inserted, int updated, int deleted,
+                               long elapsedNanos) {
+        this.rowsRead = rowsRead;
+        this.rowsRejected = rowsRejected;
+        this.inserted = inserted;
+        this.updated = updated;
+        this.deleted = deleted;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Indica se a sincronização alterou algum filme.
+     *
+     * @return true se houve inclusão, alteração ou remoção
+     */
+    public boolean hasChanges() {
+        return inserted > 0 || updated > 0 || deleted > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MovieListSyncResult{" +
+                "rowsRead=" + rowsRead +
+                ", rowsRejected=" + rowsRejected +
+                ", inserted=" + inserted +
+                ", updated=" + updated +
+                ", deleted=" + deleted +
+                ", elapsedNanos=" + elapsedNanos +
+                '}';
+    }
+}
@@ -0,0 +1,305 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Serviço de sincronização incremental dos filmes carregados com um arquivo CSV.
+ * <p>
+ * O serviço mantém, para cada registro carregado, a chave (ano e título) e um resumo do
+ * conteúdo calculado por {@link MovieRowDigest}. A cada sincronização o arquivo é lido em
+ * fluxo e comparado com esse estado, e apenas os filmes incluídos, alterados e removidos
+ * são gravados, em uma única transação. As mesmas diferenças são aplicadas ao
+ * {@link ProducerIntervalIndex} em uma única alteração, sem reconstruir o índice.
+ * <p>
+ * Apenas os filmes vindos do arquivo CSV são comparados: os filmes cadastrados ao fim da
+ * carga inicial, registrados por {@link #trackSourceMovies()} antes de a API aceitar
+ * importações, e os incluídos depois pela própria sincronização. Os filmes importados pela
+ * API não fazem parte do arquivo e permanecem cadastrados, independentemente do momento da
+ * importação.
+ */
+@Service
+public class MovieListSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieListSyncService.class);
+
+    private final MovieStore movieStore;
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean watchEnabled;
+    private final Timer syncTimer;
+    private final Counter insertedCounter;
+    private final Counter updatedCounter;
+    private final Counter deletedCounter;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Set<Long> sourceIds;
+    private Map<String, LoadedRow> loadedRows;
+    private int generation;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieStore armazenamento dos filmes
+     * @param producerIntervalIndex índice de intervalos de prêmios dos produtores
+     * @param transactionManager gerenciador de transações da aplicação
+     * @param batchSize quantidade de filmes por lote de inclusão
+     * @param watchEnabled indica se a observação do arquivo CSV está ativa
+     * @param meterRegistry registro de métricas da aplicação
+     */
+    @Autowired
+    public MovieListSyncService(MovieStore movieStore,
+                                ProducerIntervalIndex producerIntervalIndex,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${golden-raspberry.ingest.batch-size:1000}") int batchSize,
+                                @Value("${golden-raspberry.watch.enabled:false}") boolean watchEnabled,
+                                MeterRegistry meterRegistry) {
+        this.movieStore = movieStore;
+        this.producerIntervalIndex = producerIntervalIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.watchEnabled = watchEnabled;
+        this.syncTimer = Timer.builder("golden.raspberry.watch.sync")
+                .description("Duração da sincronização com o arquivo observado")
+                .register(meterRegistry);
+        this.insertedCounter = changeCounter(meterRegistry, "inserted");
+        this.updatedCounter = changeCounter(meterRegistry, "updated");
+        this.deletedCounter = changeCounter(meterRegistry, "deleted");
+    }
+
+    private static Counter changeCounter(MeterRegistry meterRegistry, String change) {
+        return Counter.builder("golden.raspberry.watch.changes")
+                .description("Filmes alterados pela sincronização com o arquivo observado")
+                .tag("change", change)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra os filmes cadastrados como vindos do arquivo CSV. Chamado pelo
+     * {@link DataStartupService} ao fim da carga inicial, antes de a aplicação aceitar
+     * requisições; sem a observação do arquivo ativa, nada é registrado.
+     */
+    public void trackSourceMovies() {
+        if (!watchEnabled) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            loadedRows = snapshotFromDatabase(movie -> true);
+            sourceIds = new HashSet<>(loadedRows.size() * 2);
+            loadedRows.values().forEach(row -> sourceIds.add(row.id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sincroniza os filmes carregados com o conteúdo atual do arquivo.
+     *
+     * @param file arquivo CSV, com cabeçalho
+     * @return quantidade de registros lidos e de filmes incluídos, alterados e removidos
+     * @throws IOException se houver erro de leitura do arquivo
+     * @throws IllegalStateException se os filmes da carga inicial não foram registrados
+     */
+    public MovieListSyncResult synchronize(Path file) throws IOException {
+        lock.lock();
+        try {
+            long startNanos = System.nanoTime();
+            if (sourceIds == null) {
+                throw new IllegalStateException(
+                        "Os filmes da carga inicial não foram registrados para a sincronização");
+            }
+            if (loadedRows == null) {
+                loadedRows = snapshotFromDatabase(movie -> sourceIds.contains(movie.getId()));
+            }
+
+            try {
+                MovieListSyncResult result = applyDiff(file, startNanos);
+                syncTimer.record(result.getElapsedNanos(), TimeUnit.NANOSECONDS);
+                return result;
+            } catch (IOException | RuntimeException e) {
+                loadedRows = null;
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private MovieListSyncResult applyDiff(Path file, long startNanos) throws IOException {
+        int currentGeneration = ++generation;
+        MovieCsvRecordParser parser = new MovieCsvRecordParser();
+        List<Movie> inserted = new ArrayList<>();
+        List<LoadedRow> insertedRows = new ArrayList<>();
+        List<Movie> updated = new ArrayList<>();
+        long rowsRead = 0;
+        long rowsRejected = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rowsRead++;
+                Movie movie = parser.parseLine(line);
+                if (movie == null) {
+                    rowsRejected++;
+                    continue;
+                }
+
+                long hash = MovieRowDigest.contentHash(movie);
+                LoadedRow row = findUnseen(movie, currentGeneration);
+                if (row.id == LoadedRow.NEW) {
+                    row.hash = hash;
+                    inserted.add(movie);
+                    insertedRows.add(row);
+                } else if (row.hash != hash) {
+                    movie.setId(row.id);
+                    row.hash = hash;
+                    updated.add(movie);
+                }
+            }
+        }
+
+        List<Long> deletedIds = new ArrayList<>();
+        Iterator<LoadedRow> rows = loadedRows.values().iterator();
+        while (rows.hasNext()) {
+            LoadedRow row = rows.next();
+            if (row.seenGeneration != currentGeneration) {
+                deletedIds.add(row.id);
+                rows.remove();
+            }
+        }
+
+        if (!inserted.isEmpty() || !updated.isEmpty() || !deletedIds.isEmpty()) {
+            persistAndPublish(inserted, updated, deletedIds);
+            for (int i = 0; i < inserted.size(); i++) {
+                insertedRows.get(i).id = inserted.get(i).getId();
+            }
+        }
+
+        insertedCounter.increment(inserted.size());
+        updatedCounter.increment(updated.size());
+        deletedCounter.increment(deletedIds.size());
+
+        return new MovieListSyncResult(rowsRead, rowsRejected, inserted.size(), updated.size(), deletedIds.size(),
+                System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Obtém o registro carregado correspondente ao filme que ainda não foi associado a
+     * outra linha nesta sincronização, registrando um novo quando não houver.
+     * Linhas repetidas com o mesmo ano e título são associadas na ordem do arquivo.
+     */
+    private LoadedRow findUnseen(Movie movie, int currentGeneration) {
+        int occurrence = 0;
+        String key = MovieRowDigest.rowKey(movie, occurrence);
+        LoadedRow row = loadedRows.get(key);
+        while (row != null && row.seenGeneration == currentGeneration) {
+            key = MovieRowDigest.rowKey(movie, ++occurrence);
+            row = loadedRows.get(key);
+        }
+
+        if (row == null) {
+            row = new LoadedRow(LoadedRow.NEW, 0);
+            loadedRows.put(key, row);
+        }
+        row.seenGeneration = currentGeneration;
+        return row;
+    }
+
+    /**
+     * Grava as diferenças em uma única transação e, após a confirmação, atualiza os filmes
+     * vindos do arquivo e aplica as diferenças ao índice de intervalos, removendo as versões
+     * anteriores dos filmes alterados.
+     */
+    private void persistAndPublish(List<Movie> inserted, List<Movie> updated, List<Long> deletedIds) {
+        List<Long> previousIds = new ArrayList<>(updated.size() + deletedIds.size());
+        updated.forEach(movie -> previousIds.add(movie.getId()));
+        previousIds.addAll(deletedIds);
+        List<Movie> previous = movieStore.findAllById(previousIds);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            movieStore.deleteBatch(deletedIds);
+            movieStore.updateBatch(updated);
+            for (int start = 0; start < inserted.size(); start += batchSize) {
+                movieStore.insertBatch(inserted.subList(start, Math.min(start + batchSize, inserted.size())));
+            }
+        });
+        deletedIds.forEach(sourceIds::remove);
+        inserted.forEach(movie -> sourceIds.add(movie.getId()));
+
+        List<Movie> added = new ArrayList<>(updated.size() + inserted.size());
+        added.addAll(updated);
+        added.addAll(inserted);
+        producerIntervalIndex.applyChanges(previous, added);
+    }
+
+    /**
+     * Monta o estado dos registros carregados a partir dos filmes cadastrados aceitos pelo filtro.
+     */
+    private Map<String, LoadedRow> snapshotFromDatabase(Predicate<Movie> tracked) {
+        long startNanos = System.nanoTime();
+        Map<String, LoadedRow> rows = new HashMap<>();
+
+        movieStore.forEachMovie(movie -> {
+            if (!tracked.test(movie)) {
+                return;
+            }
+            int occurrence = 0;
+            String key = MovieRowDigest.rowKey(movie, occurrence);
+            while (rows.containsKey(key)) {
+                key = MovieRowDigest.rowKey(movie, ++occurrence);
+            }
+            rows.put(key, new LoadedRow(movie.getId(), MovieRowDigest.contentHash(movie)));
+        });
+
+        logger.info("Estado de {} filmes carregados montado em {} ms para a sincronização",
+                rows.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return rows;
+    }
+
+    /**
+     * Identificador e resumo do conteúdo de um registro carregado.
+     */
+    private static final class LoadedRow {
+
+        private static final long NEW = -1;
+
+        private long id;
+        private long hash;
+        private int seenGeneration;
+
+        private LoadedRow(long id, long hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+    }
+}
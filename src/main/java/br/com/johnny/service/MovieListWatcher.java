@@ -0,0 +1,176 @@
+package br.com.johnny.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Observa um arquivo CSV externo e sincroniza os filmes carregados a cada alteração,
+ * por meio do {@link MovieListSyncService}.
+ * <p>
+ * O diretório do arquivo é registrado em um {@link WatchService}; como editores e
+ * ferramentas de cópia costumam gravar o arquivo em várias etapas ou substituí-lo por
+ * renomeação, a sincronização só é executada depois que o arquivo fica sem eventos
+ * pelo intervalo configurado. A observação começa quando a aplicação está pronta e a
+ * sincronização inicial aguarda a carga dos dados pelo {@link DataStartupService}, que pode
+ * ocorrer em segundo plano. Se o diretório do arquivo não existir ou não puder ser
+ * observado, a observação é desativada com um aviso, sem impedir a inicialização da aplicação.
+ */
+@Component
+@ConditionalOnProperty(prefix = "golden-raspberry.watch", name = "enabled", havingValue = "true")
+public class MovieListWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieListWatcher.class);
+
+    private final MovieListSyncService movieListSyncService;
+    private final DataStartupService dataStartupService;
+    private final Path file;
+    private final long debounceMillis;
+
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieListSyncService serviço de sincronização incremental
+     * @param dataStartupService inicialização dos dados aguardada antes da primeira sincronização
+     * @param path caminho do arquivo CSV observado
+     * @param debounceMillis intervalo sem eventos exigido antes da sincronização, em milissegundos
+     */
+    @Autowired
+    public MovieListWatcher(MovieListSyncService movieListSyncService,
+                            DataStartupService dataStartupService,
+                            @Value("${golden-raspberry.watch.path}") String path,
+                            @Value("${golden-raspberry.watch.debounce-ms:500}") long debounceMillis) {
+        this.movieListSyncService = movieListSyncService;
+        this.dataStartupService = dataStartupService;
+        this.file = Paths.get(path).toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Registra o diretório do arquivo e inicia a thread de observação. Se o diretório não
+     * puder ser observado, a observação fica desativada.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Path directory = file.getParent();
+        WatchService service = null;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.warn("Observação do arquivo {} desativada: não foi possível observar o diretório {} ({})",
+                    file, directory, e.toString());
+            closeQuietly(service);
+            return;
+        }
+
+        watchService = service;
+        watcherThread = new Thread(this::watch, "movie-list-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        logger.info("Observando o arquivo {}", file);
+    }
+
+    /**
+     * Indica se o arquivo está sendo observado.
+     *
+     * @return true se a thread de observação está ativa
+     */
+    public boolean isWatching() {
+        return watcherThread != null && watcherThread.isAlive();
+    }
+
+    private static void closeQuietly(WatchService service) {
+        if (service == null) {
+            return;
+        }
+        try {
+            service.close();
+        } catch (IOException e) {
+            logger.debug("Erro ao encerrar o WatchService: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Encerra a observação do arquivo.
+     *
+     * @throws IOException se houver erro ao encerrar o WatchService
+     */
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watcherThread.interrupt();
+        }
+    }
+
+    private void watch() {
+        try {
+            dataStartupService.whenReady().toCompletableFuture().get();
+            synchronize();
+            while (true) {
+                if (!consumeEvents(watchService.take())) {
+                    continue;
+                }
+
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    consumeEvents(key);
+                }
+                synchronize();
+            }
+        } catch (ExecutionException e) {
+            logger.warn("Observação do arquivo {} encerrada: a carga inicial dos dados falhou", file);
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Consome os eventos da chave e indica se algum deles se refere ao arquivo observado.
+     */
+    private boolean consumeEvents(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void synchronize() {
+        try {
+            MovieListSyncResult result = movieListSyncService.synchronize(file);
+            if (result.hasChanges()) {
+                logger.info("Arquivo {} sincronizado em {} ms: {} incluídos, {} alterados, {} removidos",
+                        file, TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()),
+                        result.getInserted(), result.getUpdated(), result.getDeleted());
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Erro ao sincronizar o arquivo {}: {}", file, e.getMessage(), e);
+        }
+    }
+}
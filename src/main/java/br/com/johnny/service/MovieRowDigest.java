@@ -0,0 +1,59 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+
+/**
+ * Chave e resumo do conteúdo de um registro de filme, usados para comparar o arquivo
+ * observado com os filmes já carregados. A chave identifica o registro pelo ano e pelo
+ * título; o resumo é um hash FNV-1a de 64 bits de todos os campos, calculado sobre os
+ * valores já convertidos, de modo que registros lidos do arquivo e do banco são comparáveis.
+ */
+final class MovieRowDigest {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char FIELD_SEPARATOR = '\u001f';
+
+    private MovieRowDigest() {
+    }
+
+    /**
+     * Obtém a chave do registro.
+     *
+     * @param movie filme
+     * @param occurrence ocorrência do mesmo ano e título no arquivo, a partir de zero
+     * @return chave do registro
+     */
+    static String rowKey(Movie movie, int occurrence) {
+        String key = movie.getYear() + String.valueOf(FIELD_SEPARATOR) + movie.getTitle();
+        return occurrence == 0 ? key : key + FIELD_SEPARATOR + occurrence;
+    }
+
+    /**
+     * Calcula o resumo do conteúdo do registro.
+     *
+     * @param movie filme
+     * @return hash de 64 bits de todos os campos
+     */
+    static long contentHash(Movie movie) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, movie.getYear());
+        hash = mix(hash, movie.getTitle());
+        hash = mix(hash, movie.getStudios());
+        hash = mix(hash, movie.getProducers());
+        return mix(hash, Boolean.TRUE.equals(movie.getWinner()) ? 1 : 0);
+    }
+
+    private static long mix(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = mix(hash, value.charAt(i));
+            }
+        }
+        return mix(hash, FIELD_SEPARATOR);
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
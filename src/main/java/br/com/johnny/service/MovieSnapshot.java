@@ -0,0 +1,437 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot binário dos filmes carregados a partir de um arquivo CSV, lido por mapeamento
+ * em memória para que as inicializações seguintes não precisem interpretar o CSV.
+ * <p>
+ * O arquivo guarda, em colunas, os identificadores, anos e indicadores de vitória dos
+ * filmes e referências a uma tabela única de textos, na qual títulos, estúdios, colunas
+ * de produtores e nomes individuais de produtores aparecem uma única vez. Para os filmes
+ * vencedores, os nomes já separados por {@link ProducerNameParser} são gravados como
+ * referências, de modo que o índice de intervalos é reconstruído sem analisar a coluna
+ * de produtores. O cabeçalho identifica o formato, a versão e o tamanho e o CRC32C do
+ * arquivo de origem; o arquivo termina com o CRC32C de todo o conteúdo anterior.
+ * <p>
+ * Layout, com inteiros em big-endian:
+ * <pre>
+ * cabeçalho      magic, versão, tamanho da origem, CRC32C da origem, filmes (n),
+ *                textos (t), referências de produtores (r), bytes de texto (b)
+ * ids            long[n]
+ * anos           int[n]
+ * vencedores     long[(n + 63) / 64], um bit por filme
+ * títulos        int[n], referências à tabela de textos (-1 para nulo)
+ * estúdios       int[n]
+ * produtores     int[n], coluna original
+ * nomes          int[n + 1] posições iniciais em seguida int[r] referências aos nomes
+ * textos         int[t + 1] posições iniciais em seguida byte[b] em UTF-8
+ * CRC32C         int
+ * </pre>
+ */
+public final class MovieSnapshot {
+
+    static final int MAGIC = 0x47525342;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_BYTES = 40;
+    private static final int TRAILER_BYTES = 4;
+    private static final int NULL_REF = -1;
+
+    private final ByteBuffer buffer;
+    private final long sourceSize;
+    private final long sourceChecksum;
+    private final int movieCount;
+    private final int stringCount;
+    private final int idsOffset;
+    private final int yearsOffset;
+    private final int winnersOffset;
+    private final int titlesOffset;
+    private final int studiosOffset;
+    private final int producersOffset;
+    private final int producerStartsOffset;
+    private final int producerRefsOffset;
+    private final int stringStartsOffset;
+    private final int stringBytesOffset;
+    private final String[] decodedStrings;
+
+    private MovieSnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES + TRAILER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Arquivo não é um snapshot de filmes");
+        }
+        int version = buffer.getInt(4);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Versão de snapshot não suportada: " + version);
+        }
+
+        this.sourceSize = buffer.getLong(8);
+        this.sourceChecksum = buffer.getLong(16);
+        this.movieCount = buffer.getInt(24);
+        this.stringCount = buffer.getInt(28);
+        int producerRefCount = buffer.getInt(32);
+        int stringByteCount = buffer.getInt(36);
+
+        long offset = HEADER_BYTES;
+        this.idsOffset = (int) offset;
+        offset += 8L * movieCount;
+        this.yearsOffset = (int) offset;
+        offset += 4L * movieCount;
+        this.winnersOffset = (int) offset;
+        offset += 8L * winnerWords(movieCount);
+        this.titlesOffset = (int) offset;
+        offset += 4L * movieCount;
+        this.studiosOffset = (int) offset;
+        offset += 4L * movieCount;
+        this.producersOffset = (int) offset;
+        offset += 4L * movieCount;
+        this.producerStartsOffset = (int) offset;
+        offset += 4L * (movieCount + 1);
+        this.producerRefsOffset = (int) offset;
+        offset += 4L * producerRefCount;
+        this.stringStartsOffset = (int) offset;
+        offset += 4L * (stringCount + 1);
+        this.stringBytesOffset = (int) offset;
+        offset += stringByteCount;
+
+        if (movieCount < 0 || stringCount < 0 || producerRefCount < 0 || stringByteCount < 0
+                || offset + TRAILER_BYTES != buffer.capacity()) {
+            throw new IOException("Snapshot de filmes truncado ou corrompido");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(0).limit((int) offset));
+        if ((int) crc.getValue() != buffer.getInt((int) offset)) {
+            throw new IOException("Soma de verificação do snapshot de filmes não confere");
+        }
+
+        this.decodedStrings = new String[stringCount];
+    }
+
+    /**
+     * Mapeia o snapshot em memória e valida o cabeçalho e a soma de verificação do conteúdo.
+     *
+     * @param file arquivo do snapshot
+     * @return snapshot mapeado
+     * @throws IOException se o arquivo não puder ser lido ou não for um snapshot válido
+     */
+    public static MovieSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot excede o tamanho suportado: " + channel.size() + " bytes");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MovieSnapshot(mapped);
+        }
+    }
+
+    /**
+     * Cria um gravador de snapshot.
+     *
+     * @return gravador vazio
+     */
+    public static Writer writer() {
+        return new Writer();
+    }
+
+    public long getSourceSize() {
+        return sourceSize;
+    }
+
+    public long getSourceChecksum() {
+        return sourceChecksum;
+    }
+
+    /**
+     * Obtém a quantidade de filmes do snapshot.
+     *
+     * @return quantidade de filmes
+     */
+    public int size() {
+        return movieCount;
+    }
+
+    /**
+     * Obtém a quantidade de textos distintos do snapshot, que limita as referências de produtores.
+     *
+     * @return quantidade de textos
+     */
+    public int getStringCount() {
+        return stringCount;
+    }
+
+    public long idAt(int index) {
+        return buffer.getLong(idsOffset + 8 * index);
+    }
+
+    public int yearAt(int index) {
+        return buffer.getInt(yearsOffset + 4 * index);
+    }
+
+    public boolean isWinnerAt(int index) {
+        return (buffer.getLong(winnersOffset + 8 * (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * Obtém a quantidade de produtores já separados de um filme vencedor.
+     *
+     * @param index posição do filme
+     * @return quantidade de produtores, zero para filmes não vencedores
+     */
+    public int producerCountAt(int index) {
+        return producerStart(index + 1) - producerStart(index);
+    }
+
+    /**
+     * Obtém a referência, na tabela de textos, de um dos produtores de um filme vencedor.
+     *
+     * @param index posição do filme
+     * @param position posição do produtor no filme
+     * @return referência ao nome do produtor
+     */
+    public int producerRefAt(int index, int position) {
+        return buffer.getInt(producerRefsOffset + 4 * (producerStart(index) + position));
+    }
+
+    /**
+     * Obtém um texto da tabela de textos, decodificado na primeira leitura e reaproveitado
+     * nas seguintes.
+     *
+     * @param ref referência ao texto
+     * @return texto, ou null para a referência nula
+     */
+    public String stringAt(int ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+
+        String value = decodedStrings[ref];
+        if (value == null) {
+            int start = buffer.getInt(stringStartsOffset + 4 * ref);
+            int end = buffer.getInt(stringStartsOffset + 4 * (ref + 1));
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringBytesOffset + start, bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            decodedStrings[ref] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Monta o filme da posição informada, com o identificador gravado no snapshot.
+     *
+     * @param index posição do filme
+     * @return filme
+     */
+    public Movie movieAt(int index) {
+        Movie movie = new Movie(yearAt(index),
+                stringAt(buffer.getInt(titlesOffset + 4 * index)),
+                stringAt(buffer.getInt(studiosOffset + 4 * index)),
+                stringAt(buffer.getInt(producersOffset + 4 * index)),
+                isWinnerAt(index));
+        movie.setId(idAt(index));
+        return movie;
+    }
+
+    private int producerStart(int index) {
+        return buffer.getInt(producerStartsOffset + 4 * index);
+    }
+
+    private static int winnerWords(int movieCount) {
+        return (movieCount + 63) >>> 6;
+    }
+
+    /**
+     * Acumula os filmes em colunas e grava o snapshot. Os filmes devem ter identificador.
+     */
+    public static final class Writer {
+
+        private final Map<String, Integer> refsByString = new HashMap<>();
+        private final ByteArrayBuilder stringBytes = new ByteArrayBuilder();
+        private int[] stringStarts = new int[64];
+        private int stringCount;
+
+        private long[] ids = new long[1024];
+        private int[] years = new int[1024];
+        private long[] winners = new long[16];
+        private int[] titles = new int[1024];
+        private int[] studios = new int[1024];
+        private int[] producers = new int[1024];
+        private int[] producerStarts = new int[1025];
+        private int[] producerRefs = new int[1024];
+        private int movieCount;
+        private int producerRefCount;
+
+        private Writer() {
+        }
+
+        /**
+         * Inclui um filme no snapshot.
+         *
+         * @param movie filme persistido
+         */
+        public void add(Movie movie) {
+            if (movieCount == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                years = Arrays.copyOf(years, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+                studios = Arrays.copyOf(studios, capacity);
+                producers = Arrays.copyOf(producers, capacity);
+                producerStarts = Arrays.copyOf(producerStarts, capacity + 1);
+                winners = Arrays.copyOf(winners, winnerWords(capacity));
+            }
+
+            int index = movieCount++;
+            ids[index] = movie.getId();
+            years[index] = movie.getYear();
+            titles[index] = refOf(movie.getTitle());
+            studios[index] = refOf(movie.getStudios());
+            producers[index] = refOf(movie.getProducers());
+
+            if (Boolean.TRUE.equals(movie.getWinner())) {
+                winners[index >>> 6] |= 1L << index;
+                for (String producer : ProducerNameParser.parseProducers(movie.getProducers())) {
+                    if (producerRefCount == producerRefs.length) {
+                        producerRefs = Arrays.copyOf(producerRefs, producerRefs.length * 2);
+                    }
+                    producerRefs[producerRefCount++] = refOf(producer);
+                }
+            }
+            producerStarts[index + 1] = producerRefCount;
+        }
+
+        /**
+         * Obtém a quantidade de filmes incluídos.
+         *
+         * @return quantidade de filmes
+         */
+        public int size() {
+            return movieCount;
+        }
+
+        /**
+         * Grava o snapshot em um arquivo temporário no mesmo diretório e o move para o destino,
+         * de modo que leitores nunca encontram um snapshot gravado pela metade.
+         *
+         * @param file arquivo de destino
+         * @param sourceSize tamanho do arquivo de origem, em bytes
+         * @param sourceChecksum CRC32C do arquivo de origem
+         * @throws IOException se houver erro de gravação
+         */
+        public void writeTo(Path file, long sourceSize, long sourceChecksum) throws IOException {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try {
+                try (OutputStream fileOutput = Files.newOutputStream(temporary)) {
+                    CRC32C crc = new CRC32C();
+                    DataOutputStream out = new DataOutputStream(
+                            new CheckedOutputStream(new BufferedOutputStream(fileOutput, 1 << 16), crc));
+                    writeContent(out, sourceSize, sourceChecksum);
+                    out.flush();
+                    new DataOutputStream(fileOutput).writeInt((int) crc.getValue());
+                }
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+
+        private void writeContent(DataOutputStream out, long sourceSize, long sourceChecksum) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(sourceSize);
+            out.writeLong(sourceChecksum);
+            out.writeInt(movieCount);
+            out.writeInt(stringCount);
+            out.writeInt(producerRefCount);
+            out.writeInt(stringBytes.size());
+
+            for (int i = 0; i < movieCount; i++) {
+                out.writeLong(ids[i]);
+            }
+            writeInts(out, years, movieCount);
+            for (int i = 0; i < winnerWords(movieCount); i++) {
+                out.writeLong(winners[i]);
+            }
+            writeInts(out, titles, movieCount);
+            writeInts(out, studios, movieCount);
+            writeInts(out, producers, movieCount);
+            writeInts(out, producerStarts, movieCount + 1);
+            writeInts(out, producerRefs, producerRefCount);
+            writeInts(out, stringStarts, stringCount + 1);
+            stringBytes.writeTo(out);
+        }
+
+        private static void writeInts(DataOutputStream out, int[] values, int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                out.writeInt(values[i]);
+            }
+        }
+
+        private int refOf(String value) {
+            if (value == null) {
+                return NULL_REF;
+            }
+
+            Integer ref = refsByString.get(value);
+            if (ref != null) {
+                return ref;
+            }
+
+            int newRef = stringCount++;
+            stringBytes.append(value.getBytes(StandardCharsets.UTF_8));
+            if (stringCount + 1 > stringStarts.length) {
+                stringStarts = Arrays.copyOf(stringStarts, stringStarts.length * 2);
+            }
+            stringStarts[stringCount] = stringBytes.size();
+            refsByString.put(value, newRef);
+            return newRef;
+        }
+    }
+
+    /**
+     * Buffer de bytes expansível, sem a sincronização de {@link java.io.ByteArrayOutputStream}.
+     */
+    private static final class ByteArrayBuilder {
+
+        private byte[] bytes = new byte[4096];
+        private int size;
+
+        void append(byte[] value) {
+            if (size + value.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size + value.length, bytes.length * 2));
+            }
+            System.arraycopy(value, 0, bytes, size, value.length);
+            size += value.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+        }
+    }
+}
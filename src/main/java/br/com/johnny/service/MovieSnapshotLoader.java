@@ -0,0 +1,68 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Componente responsável pela transferência de filmes entre o banco e o {@link MovieSnapshot}.
+ * A restauração insere os filmes com os identificadores gravados no snapshot, em lotes
+ * confirmados um a um como na carga do CSV: no H2, uma única transação com todos os
+ * filmes torna cada inclusão mais cara pela manutenção das versões não confirmadas.
+ */
+@Component
+public class MovieSnapshotLoader {
+
+    private final MovieStore movieStore;
+    private final int batchSize;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieStore armazenamento dos filmes
+     * @param batchSize quantidade de filmes por lote de inclusão
+     */
+    @Autowired
+    public MovieSnapshotLoader(MovieStore movieStore,
+                               @Value("${golden-raspberry.ingest.batch-size:1000}") int batchSize) {
+        this.movieStore = movieStore;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Insere no banco os filmes do snapshot, preservando os identificadores. Em caso de
+     * falha, os lotes já confirmados permanecem no banco e cabe ao chamador removê-los.
+     *
+     * @param snapshot snapshot mapeado em memória
+     * @return quantidade de filmes inseridos
+     */
+    public int restore(MovieSnapshot snapshot) {
+        List<Movie> batch = new ArrayList<>(batchSize);
+        for (int index = 0; index < snapshot.size(); index++) {
+            batch.add(snapshot.movieAt(index));
+            if (batch.size() == batchSize) {
+                movieStore.insertBatchWithIds(batch);
+                batch.clear();
+            }
+        }
+        movieStore.insertBatchWithIds(batch);
+        movieStore.restartIdentityAfterMaxId();
+        return snapshot.size();
+    }
+
+    /**
+     * Lê os filmes cadastrados para gravação em um snapshot.
+     *
+     * @return gravador com todos os filmes cadastrados
+     */
+    public MovieSnapshot.Writer capture() {
+        MovieSnapshot.Writer writer = MovieSnapshot.writer();
+        movieStore.forEachMovie(writer::add);
+        return writer;
+    }
+}
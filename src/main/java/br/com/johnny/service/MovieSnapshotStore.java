@@ -0,0 +1,173 @@
+package br.com.johnny.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Armazenamento do {@link MovieSnapshot} do arquivo CSV de filmes.
+ * <p>
+ * O snapshot é identificado pelo tamanho e pelo CRC32C do arquivo de origem: calcular o
+ * CRC32C exige ler o arquivo, mas não interpretá-lo, e custa uma fração da carga do CSV.
+ * Um snapshot ausente, de outra origem ou inválido é ignorado e substituído após a
+ * próxima carga do CSV; falhas de gravação apenas são registradas em log, pois o
+ * snapshot é somente uma otimização da inicialização.
+ * <p>
+ * O snapshot é desativado por padrão; quando ativado, o caminho padrão fica no diretório
+ * {@code data} do diretório de trabalho da aplicação, e não em um diretório temporário
+ * compartilhado por todas as instâncias da máquina.
+ */
+@Component
+public class MovieSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieSnapshotStore.class);
+    private static final int CHECKSUM_BUFFER_BYTES = 1 << 16;
+
+    private final boolean enabled;
+    private final Path file;
+    private final Timer checksumTimer;
+    private final Timer writeTimer;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param enabled indica se o snapshot deve ser lido e gravado
+     * @param path caminho do arquivo do snapshot
+     * @param meterRegistry registro de métricas da aplicação
+     */
+    @Autowired
+    public MovieSnapshotStore(@Value("${golden-raspberry.snapshot.enabled:false}") boolean enabled,
+                              @Value("${golden-raspberry.snapshot.path:./data/movielist.snapshot}") String path,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.file = Paths.get(path).toAbsolutePath().normalize();
+        this.checksumTimer = snapshotTimer(meterRegistry, "checksum");
+        this.writeTimer = snapshotTimer(meterRegistry, "write");
+    }
+
+    /**
+     * Cria o timer de uma operação sobre o snapshot.
+     *
+     * @param meterRegistry registro de métricas
+     * @param operation nome da operação
+     * @return timer registrado
+     */
+    static Timer snapshotTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("golden.raspberry.snapshot")
+                .description("Duração das operações sobre o snapshot binário dos filmes")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Calcula o tamanho e o CRC32C do arquivo de origem.
+     *
+     * @param source arquivo CSV de origem
+     * @return identificação do conteúdo do arquivo
+     * @throws IOException se houver erro de leitura
+     */
+    public SourceFingerprint fingerprint(Resource source) throws IOException {
+        long startNanos = System.nanoTime();
+        CRC32C crc = new CRC32C();
+        long size = 0;
+
+        try (InputStream in = source.getInputStream()) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_BYTES];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                crc.update(buffer, 0, read);
+                size += read;
+            }
+        }
+
+        checksumTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return new SourceFingerprint(size, crc.getValue());
+    }
+
+    /**
+     * Abre o snapshot gravado, se existir, for válido e corresponder ao arquivo de origem.
+     *
+     * @param source identificação do arquivo de origem
+     * @return snapshot mapeado em memória, ou vazio se deve ser ignorado
+     */
+    public Optional<MovieSnapshot> openIfCurrent(SourceFingerprint source) {
+        if (!enabled || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            MovieSnapshot snapshot = MovieSnapshot.open(file);
+            if (snapshot.getSourceSize() != source.getSize() || snapshot.getSourceChecksum() != source.getChecksum()) {
+                logger.info("Snapshot {} foi gerado a partir de outro arquivo CSV; será substituído", file);
+                return Optional.empty();
+            }
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            logger.warn("Snapshot {} ignorado: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Grava o snapshot dos filmes acumulados pelo gravador.
+     *
+     * @param writer gravador com os filmes carregados
+     * @param source identificação do arquivo de origem
+     */
+    public void save(MovieSnapshot.Writer writer, SourceFingerprint source) {
+        if (!enabled) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            writer.writeTo(file, source.getSize(), source.getChecksum());
+            long elapsedNanos = System.nanoTime() - startNanos;
+            writeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            logger.info("Snapshot com {} filmes gravado em {} ({} bytes, {} ms)",
+                    writer.size(), file, Files.size(file), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Erro ao gravar o snapshot {}: {}", file, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Tamanho e CRC32C de um arquivo de origem.
+     */
+    public static final class SourceFingerprint {
+
+        private final long size;
+        private final long checksum;
+
+        public SourceFingerprint(long size, long checksum) {
+            this.size = size;
+            this.checksum = checksum;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
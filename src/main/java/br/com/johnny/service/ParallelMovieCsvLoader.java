@@ -0,0 +1,315 @@
+package br.com.johnny.service;
+
+import br.com.johnny.jfr.CsvChunkParseEvent;
+import br.com.johnny.jfr.StageEvent;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Carregador paralelo de arquivos CSV de filmes.
+ * O arquivo é mapeado em memória e dividido em blocos alinhados a quebras de linha;
+ * cada bloco é convertido em uma tarefa de um {@link ForkJoinPool} dedicado, que
+ * interpreta os registros e os persiste em lotes. Registros inválidos recebem o mesmo
+ * tratamento do {@link MovieCsvLoader}, pois ambos usam o {@link MovieCsvRecordParser}.
+ * As linhas de cada bloco lidas entre dois lotes são registradas no evento do JFR
+ * {@link CsvChunkParseEvent}, que termina antes da persistência do lote.
+ * <p>
+ * Os lotes são persistidos pelas threads do pool, cada um na sua própria transação, e por
+ * isso a carga não pode ser desfeita por uma única transação. Quando um bloco falha, os
+ * demais deixam de persistir novos lotes, o pool é encerrado aguardando as tarefas em
+ * andamento e todos os filmes são removidos, de modo que uma carga com falha não deixa
+ * dados parciais. A carga parte de um armazenamento vazio, como na inicialização da aplicação.
+ */
+@Component
+public class ParallelMovieCsvLoader {
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int BOUNDARY_SCAN_BUFFER_SIZE = 8 * 1024;
+    private static final long MAX_CHUNK_SIZE_BYTES = Integer.MAX_VALUE / 2;
+    private static final long TERMINATION_WAIT_SECONDS = 60;
+
+    private final MovieStore movieStore;
+    private final int batchSize;
+    private final int parallelism;
+    private final long chunkSizeBytes;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param movieStore armazenamento dos filmes
+     * @param batchSize quantidade de filmes por lote de inclusão
+     * @param parallelism quantidade de threads de interpretação; zero usa todos os processadores
+     * @param chunkSizeBytes tamanho nominal de cada bloco do arquivo, em bytes
+     */
+    @Autowired
+    public ParallelMovieCsvLoader(MovieStore movieStore,
+                                  @Value("${golden-raspberry.ingest.batch-size:1000}") int batchSize,
+                                  @Value("${golden-raspberry.ingest.parallelism:0}") int parallelism,
+                                  @Value("${golden-raspberry.ingest.chunk-size-bytes:8388608}") long chunkSizeBytes) {
+        if (batchSize < 1 || chunkSizeBytes < 1 || chunkSizeBytes > MAX_CHUNK_SIZE_BYTES || parallelism < 0) {
+            throw new IllegalArgumentException("Configuração inválida para a carga paralela do CSV");
+        }
+        this.movieStore = movieStore;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSizeBytes = chunkSizeBytes;
+    }
+
+    /**
+     * Carrega o arquivo CSV em paralelo, descartando o cabeçalho. Se algum bloco falhar,
+     * os filmes já incluídos são removidos antes de a falha ser propagada.
+     *
+     * @param csvFile caminho do arquivo CSV
+     * @return resultado da carga, com a vazão obtida
+     * @throws IOException se houver erro de leitura do arquivo
+     */
+    public CsvLoadResult load(Path csvFile) throws IOException {
+        long startNanos = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            AtomicReference<RuntimeException> failure = new AtomicReference<>();
+            List<ChunkParseTask> tasks = splitIntoChunks(channel, fileSize, failure);
+
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                tasks.forEach(pool::execute);
+
+                long rowsRead = 0;
+                long moviesLoaded = 0;
+                for (ChunkParseTask task : tasks) {
+                    ChunkResult result = task.join();
+                    rowsRead += result.rowsRead;
+                    moviesLoaded += result.moviesLoaded;
+                }
+
+                return new CsvLoadResult(rowsRead, moviesLoaded, rowsRead - moviesLoaded,
+                        fileSize, System.nanoTime() - startNanos);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                pool.shutdownNow();
+                awaitTermination(pool);
+                movieStore.deleteAll();
+                throw failure.get();
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Aguarda as tarefas em andamento, que interrompem a carga no lote seguinte, para que
+     * nenhum lote seja persistido depois da remoção dos filmes de uma carga com falha.
+     */
+    private static void awaitTermination(ForkJoinPool pool) {
+        try {
+            if (!pool.awaitTermination(TERMINATION_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("As tarefas da carga paralela não terminaram no tempo esperado");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido ao aguardar as tarefas da carga paralela", e);
+        }
+    }
+
+    /**
+     * Divide o arquivo em blocos de tamanho aproximado, ajustando o fim de cada bloco
+     * para a próxima quebra de linha. O primeiro bloco começa após o cabeçalho.
+     */
+    private List<ChunkParseTask> splitIntoChunks(FileChannel channel, long fileSize,
+                                                 AtomicReference<RuntimeException> failure) throws IOException {
+        List<ChunkParseTask> tasks = new ArrayList<>();
+
+        long start = nextLineStart(channel, 0, fileSize);
+        while (start < fileSize) {
+            long nominalEnd = start + chunkSizeBytes;
+            long end = nominalEnd >= fileSize ? fileSize : nextLineStart(channel, nominalEnd, fileSize);
+            tasks.add(new ChunkParseTask(channel, start, end - start, failure));
+            start = end;
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Localiza a posição seguinte à primeira quebra de linha a partir da posição informada.
+     */
+    private static long nextLineStart(FileChannel channel, long position, long fileSize) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_BUFFER_SIZE);
+        long current = position;
+
+        while (current < fileSize) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == LINE_FEED) {
+                    return current + i + 1;
+                }
+            }
+            current += read;
+        }
+
+        return fileSize;
+    }
+
+    /**
+     * Tarefa que interpreta e persiste os registros de um bloco do arquivo. A primeira falha
+     * entre os blocos é guardada, e os demais deixam de persistir lotes a partir dela.
+     */
+    private final class ChunkParseTask extends RecursiveTask<ChunkResult> {
+
+        private final FileChannel channel;
+        private final long offset;
+        private final long length;
+        private final AtomicReference<RuntimeException> failure;
+
+        private ChunkParseTask(FileChannel channel, long offset, long length,
+                               AtomicReference<RuntimeException> failure) {
+            this.channel = channel;
+            this.offset = offset;
+            this.length = length;
+            this.failure = failure;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            try {
+                return parse();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            }
+        }
+
+        private ChunkResult parse() {
+            MappedByteBuffer chunk;
+            try {
+                chunk = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao mapear bloco do arquivo CSV na posição " + offset, e);
+            }
+
+            MovieCsvRecordParser recordParser = new MovieCsvRecordParser();
+            List<Movie> batch = new ArrayList<>(batchSize);
+            byte[] lineBuffer = new byte[256];
+            long rowsRead = 0;
+            long moviesLoaded = 0;
+            Segment segment = new Segment(offset);
+
+            int lineStart = 0;
+            int limit = chunk.limit();
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && chunk.get(lineEnd) != LINE_FEED) {
+                    lineEnd++;
+                }
+
+                int contentEnd = lineEnd;
+                if (contentEnd > lineStart && chunk.get(contentEnd - 1) == CARRIAGE_RETURN) {
+                    contentEnd--;
+                }
+
+                int lineLength = contentEnd - lineStart;
+                if (lineBuffer.length < lineLength) {
+                    lineBuffer = new byte[Math.max(lineLength, lineBuffer.length * 2)];
+                }
+                chunk.get(lineStart, lineBuffer, 0, lineLength);
+
+                rowsRead++;
+                segment.rows++;
+                Movie movie = recordParser.parseLine(new String(lineBuffer, 0, lineLength, StandardCharsets.UTF_8));
+                if (movie == null) {
+                    segment.rejected++;
+                } else {
+                    batch.add(movie);
+                    if (batch.size() == batchSize) {
+                        long segmentEnd = offset + Math.min(lineEnd + 1, limit);
+                        segment.commit(segmentEnd);
+                        moviesLoaded += flush(batch);
+                        segment = new Segment(segmentEnd);
+                    }
+                }
+
+                lineStart = lineEnd + 1;
+            }
+
+            segment.commit(offset + limit);
+            moviesLoaded += flush(batch);
+            return new ChunkResult(rowsRead, moviesLoaded);
+        }
+
+        private int flush(List<Movie> batch) {
+            if (failure.get() != null) {
+                throw new CancellationException("Carga paralela interrompida pela falha de outro bloco");
+            }
+            int size = batch.size();
+            movieStore.insertBatch(batch);
+            batch.clear();
+            return size;
+        }
+    }
+
+    /**
+     * Linhas de um bloco lidas desde o último lote, acompanhadas pelo evento do JFR.
+     */
+    private static final class Segment {
+
+        private final CsvChunkParseEvent event = new CsvChunkParseEvent();
+        private final long start;
+        private long rows;
+        private long rejected;
+
+        private Segment(long start) {
+            this.start = start;
+            event.begin();
+        }
+
+        private void commit(long end) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setDataset(StageEvent.PRIMARY_DATASET);
+                event.setOffset(start);
+                event.setBytes(end - start);
+                event.setRows(rows);
+                event.setRejected(rejected);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Totais apurados por bloco.
+     */
+    private static final class ChunkResult {
+
+        private final long rowsRead;
+        private final long moviesLoaded;
+
+        private ChunkResult(long rowsRead, long moviesLoaded) {
+            this.rowsRead = rowsRead;
+            this.moviesLoaded = moviesLoaded;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.johnny.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dicionário de produtores, que associa cada nome distinto a um identificador inteiro
+ * sequencial. O dicionário guarda uma única instância de cada nome, de modo que o
+ * cálculo dos intervalos trabalha apenas com identificadores e os nomes só são
+ * recuperados na montagem da resposta.
+ * Esta classe não é thread-safe; o acesso é sincronizado pelo índice que a utiliza.
+ */
+public class ProducerDictionary {
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<String> namesById = new ArrayList<>();
+
+    /**
+     * Obtém o identificador do produtor, registrando-o caso ainda não exista.
+     *
+     * @param name nome do produtor
+     * @return identificador do produtor
+     */
+    public int idOf(String name) {
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = namesById.size();
+        namesById.add(name);
+        idsByName.put(name, newId);
+        return newId;
+    }
+
+    /**
+     * Obtém o identificador de um produtor já registrado.
+     *
+     * @param name nome do produtor
+     * @return identificador do produtor ou -1 se não estiver registrado
+     */
+    public int findId(String name) {
+        Integer id = idsByName.get(name);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Obtém o nome do produtor a partir do identificador.
+     *
+     * @param id identificador do produtor
+     * @return nome do produtor
+     */
+    public String nameOf(int id) {
+        return namesById.get(id);
+    }
+
+    /**
+     * Obtém a quantidade de produtores registrados.
+     *
+     * @return quantidade de produtores
+     */
+    public int size() {
+        return namesById.size();
+    }
+
+    /**
+     * Estima a memória ocupada pelo dicionário: cada nome, com a entrada do mapa e o
+     * identificador correspondentes.
+     *
+     * @return quantidade aproximada de bytes
+     */
+    public long estimateRetainedBytes() {
+        long bytes = 0;
+        for (String name : namesById) {
+            bytes += 96 + name.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Remove todos os produtores registrados.
+     */
+    public void clear() {
+        idsByName.clear();
+        namesById.clear();
+    }
+}
@@ -0,0 +1,781 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.dto.ProducerWinsResponse;
+import br.com.johnny.jfr.IntervalCalculationEvent;
+import br.com.johnny.jfr.ProducerExtractionEvent;
+import br.com.johnny.jfr.StageEvent;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.WinnerMovieRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Índice em memória dos intervalos entre prêmios consecutivos de cada produtor.
+ * O índice é construído uma única vez após a carga dos dados e mantido de forma
+ * incremental a cada inclusão ou remoção de filme vencedor, de modo que a consulta
+ * dos intervalos mínimos e máximos se resume à leitura de uma resposta já pronta.
+ * <p>
+ * Os anos de vitória de cada produtor ficam em arrays ordenados de inteiros primitivos
+ * e os comprimentos de intervalo em um histograma, de modo que a manutenção do índice
+ * e a busca dos extremos não criam objetos.
+ * <p>
+ * A coluna de produtores é normalizada uma única vez, na inclusão do filme, em
+ * identificadores do {@link ProducerDictionary}; o vínculo entre filme e produtores
+ * fica registrado no índice para que a remoção não precise analisar a coluna novamente.
+ * <p>
+ * As consultas por janela de anos usam um {@link IntervalYearIndex}, construído na primeira
+ * consulta após uma alteração e reaproveitado pelas seguintes, sem percorrer os vencedores.
+ * Da mesma forma, a busca de produtores pelo nome usa um {@link ProducerNameIndex}.
+ * <p>
+ * As alterações são serializadas por um {@link ReentrantReadWriteLock}, e as consultas
+ * compartilham a trava de leitura. Diferente de blocos {@code synchronized}, a espera pela
+ * trava não prende a thread virtual à thread de plataforma que a executa.
+ * <p>
+ * A reconstrução e os cálculos das respostas emitem os eventos do JFR
+ * {@link ProducerExtractionEvent} e {@link IntervalCalculationEvent}, identificados pelo
+ * conjunto de dados do índice.
+ */
+@Component
+public class ProducerIntervalIndex {
+
+    private static final int[] NO_PRODUCERS = new int[0];
+    private static final int INITIAL_INTERVAL_CAPACITY = 64;
+    private static final String STAGE_TIMER = "golden.raspberry.intervals.stage";
+
+    private final ProducerDictionary producerDictionary = new ProducerDictionary();
+    private final Map<Long, int[]> producerIdsByMovie = new HashMap<>();
+    private final List<ProducerWinYears> winsByProducer = new ArrayList<>();
+    private final String dataset;
+    private final Timer extractTimer;
+    private final Timer calculateTimer;
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    private int[] intervalCounts = new int[INITIAL_INTERVAL_CAPACITY];
+    private volatile AwardIntervalResponse response;
+    private volatile IntervalYearIndex yearIndex;
+    private volatile ProducerNameIndex nameIndex;
+    private volatile long version;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param meterRegistry registro de métricas da aplicação
+     */
+    @Autowired
+    public ProducerIntervalIndex(MeterRegistry meterRegistry) {
+        this(meterRegistry, StageEvent.PRIMARY_DATASET);
+    }
+
+    /**
+     * Construtor de um índice de um conjunto de dados adicional.
+     *
+     * @param meterRegistry registro de métricas da aplicação
+     * @param dataset conjunto de dados indexado, registrado nos eventos do JFR
+     */
+    public ProducerIntervalIndex(MeterRegistry meterRegistry, String dataset) {
+        this.dataset = dataset;
+        this.extractTimer = stageTimer(meterRegistry, "extract", dataset);
+        this.calculateTimer = stageTimer(meterRegistry, "calculate", dataset);
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    /**
+     * Cria o timer de uma etapa do cálculo dos intervalos de um conjunto de dados. Os índices
+     * dos conjuntos adicionais registram timers próprios, distintos dos do conjunto principal.
+     *
+     * @param meterRegistry registro de métricas
+     * @param stage nome da etapa
+     * @param dataset nome do conjunto de dados
+     * @return timer registrado
+     */
+    public static Timer stageTimer(MeterRegistry meterRegistry, String stage, String dataset) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Duração das etapas do cálculo dos intervalos de prêmios")
+                .tag("stage", stage)
+                .tag("dataset", dataset)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconstrói o índice a partir da lista completa de filmes vencedores.
+     *
+     * @param winnerMovies filmes vencedores
+     */
+    public void rebuild(List<Movie> winnerMovies) {
+        rebuild(() -> {
+            for (Movie movie : winnerMovies) {
+                indexMovie(movie);
+            }
+        });
+    }
+
+    /**
+     * Reconstrói o índice a partir das projeções de todos os filmes vencedores,
+     * lidas sem materializar entidades.
+     *
+     * @param winnerRows projeções dos filmes vencedores
+     */
+    public void rebuildFromRows(List<WinnerMovieRow> winnerRows) {
+        rebuild(() -> {
+            for (WinnerMovieRow row : winnerRows) {
+                indexWin(row.getId(), row.getYear(), row.getProducers());
+            }
+        });
+    }
+
+    /**
+     * Reconstrói o índice a partir dos filmes vencedores de um snapshot, cujos produtores
+     * já estão separados e referenciados na tabela de textos: cada nome é decodificado e
+     * registrado no dicionário uma única vez, sem analisar a coluna de produtores.
+     * Os vencedores são percorridos por ano, na mesma ordem da consulta ao banco, para
+     * que os produtores recebam os mesmos identificadores.
+     *
+     * @param snapshot snapshot dos filmes carregados
+     */
+    public void rebuildFromSnapshot(MovieSnapshot snapshot) {
+        rebuild(() -> {
+            int[] producerIdsByRef = new int[snapshot.getStringCount()];
+            Arrays.fill(producerIdsByRef, -1);
+
+            for (int index : winnersByYear(snapshot)) {
+                int year = snapshot.yearAt(index);
+                int[] producerIds = new int[snapshot.producerCountAt(index)];
+                for (int i = 0; i < producerIds.length; i++) {
+                    int ref = snapshot.producerRefAt(index, i);
+                    if (producerIdsByRef[ref] < 0) {
+                        producerIdsByRef[ref] = producerDictionary.idOf(snapshot.stringAt(ref));
+                    }
+                    producerIds[i] = producerIdsByRef[ref];
+                    addWin(producerIds[i], year);
+                }
+                producerIdsByMovie.put(snapshot.idAt(index), producerIds);
+            }
+        });
+    }
+
+    /**
+     * Obtém as posições dos filmes vencedores do snapshot ordenadas por ano e, no mesmo
+     * ano, pela posição no snapshot.
+     */
+    private static int[] winnersByYear(MovieSnapshot snapshot) {
+        long[] keys = new long[snapshot.size()];
+        int count = 0;
+        for (int index = 0; index < snapshot.size(); index++) {
+            if (snapshot.isWinnerAt(index)) {
+                keys[count++] = ((long) snapshot.yearAt(index) << 32) | index;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = (int) keys[i];
+        }
+        return indexes;
+    }
+
+    private void rebuild(Runnable indexing) {
+        writeLock.lock();
+        try {
+            producerDictionary.clear();
+            producerIdsByMovie.clear();
+            winsByProducer.clear();
+            intervalCounts = new int[INITIAL_INTERVAL_CAPACITY];
+
+            ProducerExtractionEvent event = new ProducerExtractionEvent();
+            event.begin();
+            extractTimer.record(indexing);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setDataset(dataset);
+                event.setRows(producerIdsByMovie.size());
+                event.setProducers(producerDictionary.size());
+                event.setBytes(estimateRetainedBytes());
+                event.commit();
+            }
+
+            markChanged();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Inclui um filme no índice. Filmes não vencedores são ignorados.
+     *
+     * @param movie filme incluído
+     */
+    public void addMovie(Movie movie) {
+        writeLock.lock();
+        try {
+            if (indexMovie(movie)) {
+                markChanged();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Inclui um conjunto de filmes no índice em uma única alteração, de modo que as
+     * consultas observam o estado anterior ou o estado com todos os filmes incluídos.
+     * Filmes não vencedores são ignorados.
+     *
+     * @param movies filmes incluídos
+     */
+    public void addMovies(Collection<Movie> movies) {
+        applyChanges(List.of(), movies);
+    }
+
+    /**
+     * Remove um filme do índice. Filmes não vencedores são ignorados.
+     *
+     * @param movie filme removido
+     */
+    public void removeMovie(Movie movie) {
+        if (!isWinner(movie)) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            if (unindexMovie(movie)) {
+                markChanged();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Aplica um conjunto de remoções e inclusões em uma única alteração do índice.
+     * Uma alteração de filme é representada pela remoção da versão anterior e pela
+     * inclusão da nova versão, com o mesmo identificador.
+     *
+     * @param removed filmes removidos, com os dados anteriores à alteração
+     * @param added filmes incluídos
+     */
+    public void applyChanges(Collection<Movie> removed, Collection<Movie> added) {
+        writeLock.lock();
+        try {
+            boolean changed = false;
+            for (Movie movie : removed) {
+                changed |= unindexMovie(movie);
+            }
+            for (Movie movie : added) {
+                changed |= indexMovie(movie);
+            }
+            if (changed) {
+                markChanged();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Obtém a resposta atual com os intervalos mínimos e máximos. A resposta é calculada
+     * na primeira leitura após uma alteração e reaproveitada pelas leituras seguintes.
+     * Leituras concorrentes de uma mesma versão podem calcular a resposta em paralelo;
+     * o resultado é idêntico e a última atribuição prevalece. As requisições chegam pelo
+     * {@link IntervalQueryCoalescer}, que evita esse cálculo em paralelo.
+     *
+     * @return resposta pré-calculada
+     */
+    public AwardIntervalResponse getResponse() {
+        AwardIntervalResponse current = response;
+        if (current != null) {
+            return current;
+        }
+
+        readLock.lock();
+        try {
+            current = response;
+            if (current == null) {
+                current = calculate(IntervalQuery.defaultQuery(), () -> computeResponse(0, Integer.MAX_VALUE));
+                response = current;
+            }
+            return current;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Obtém a versão dos dados indexados, incrementada a cada alteração do índice.
+     * Permite que consumidores invalidem dados derivados sem consultar o índice.
+     *
+     * @return versão atual dos dados
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Estima a memória ocupada pelo índice: dicionário de produtores, anos de vitória,
+     * vínculos entre filmes e produtores e histograma de intervalos. As estruturas auxiliares
+     * construídas sob demanda, como o índice por janela de anos, não entram na estimativa.
+     *
+     * @return quantidade aproximada de bytes
+     */
+    public long estimateRetainedBytes() {
+        readLock.lock();
+        try {
+            long bytes = producerDictionary.estimateRetainedBytes() + 16 + 4L * intervalCounts.length;
+            for (ProducerWinYears wins : winsByProducer) {
+                bytes += 4 + wins.estimateRetainedBytes();
+            }
+            for (int[] producerIds : producerIdsByMovie.values()) {
+                bytes += 68 + 4L * producerIds.length;
+            }
+            return bytes;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Consulta os intervalos conforme os parâmetros informados. A consulta padrão usa a
+     * resposta pré-calculada; as demais são calculadas sobre o estado atual do índice.
+     *
+     * @param query parâmetros da consulta
+     * @return resposta com os intervalos mínimos e máximos
+     */
+    public AwardIntervalResponse query(IntervalQuery query) {
+        if (query.isDefault()) {
+            return getResponse();
+        }
+
+        readLock.lock();
+        try {
+            if (query.hasYearRange()) {
+                return calculate(query, () -> computeYearRangeResponse(query));
+            }
+            if (query.getTop() == null) {
+                return calculate(query, () -> computeResponse(query.getLowerBound(), query.getUpperBound()));
+            }
+            return calculate(query, () ->
+                    computeTopResponse(query.getTop(), query.getLowerBound(), query.getUpperBound()));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Calcula uma resposta, registrando a duração na métrica da etapa e no evento do JFR.
+     */
+    private AwardIntervalResponse calculate(IntervalQuery query, Supplier<AwardIntervalResponse> calculation) {
+        IntervalCalculationEvent event = new IntervalCalculationEvent();
+        event.begin();
+        AwardIntervalResponse result = calculateTimer.record(calculation);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setDataset(dataset);
+            event.setQuery(query.toString());
+            event.setRows(result.getMin().size() + result.getMax().size());
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Obtém os anos de vitória e os intervalos de um produtor, localizado pelo nome sem
+     * distinção de maiúsculas e minúsculas.
+     *
+     * @param name nome do produtor
+     * @return vitórias do produtor, ou vazio se ele não possui vitórias
+     */
+    public Optional<ProducerWinsResponse> findProducer(String name) {
+        readLock.lock();
+        try {
+            int producerId = nameIndex().find(name, producerDictionary);
+            if (producerId < 0) {
+                return Optional.empty();
+            }
+
+            ProducerWinYears years = winsByProducer.get(producerId);
+            String producer = producerDictionary.nameOf(producerId);
+            List<Integer> wins = new ArrayList<>(years.size());
+            List<ProducerAwardInterval> intervals = new ArrayList<>(Math.max(years.size() - 1, 0));
+            for (int i = 0; i < years.size(); i++) {
+                wins.add(years.yearAt(i));
+                if (i > 0) {
+                    intervals.add(new ProducerAwardInterval(producer, years.yearAt(i) - years.yearAt(i - 1),
+                            years.yearAt(i - 1), years.yearAt(i)));
+                }
+            }
+            return Optional.of(new ProducerWinsResponse(producer, List.copyOf(wins), List.copyOf(intervals)));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Busca os nomes dos produtores com vitórias que começam com o prefixo informado,
+     * sem distinção de maiúsculas e minúsculas, em ordem alfabética.
+     *
+     * @param prefix prefixo do nome
+     * @param limit quantidade máxima de nomes
+     * @return nomes dos produtores
+     */
+    public List<String> findProducerNames(String prefix, int limit) {
+        readLock.lock();
+        try {
+            int[] producerIds = nameIndex().findByPrefix(prefix, limit);
+            List<String> names = new ArrayList<>(producerIds.length);
+            for (int producerId : producerIds) {
+                names.add(producerDictionary.nameOf(producerId));
+            }
+            return List.copyOf(names);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Descarta a resposta pré-calculada e avança a versão dos dados.
+     */
+    private void markChanged() {
+        response = null;
+        yearIndex = null;
+        nameIndex = null;
+        version++;
+    }
+
+    private boolean indexMovie(Movie movie) {
+        if (!isWinner(movie)) {
+            return false;
+        }
+
+        indexWin(movie.getId(), movie.getYear(), movie.getProducers());
+        return true;
+    }
+
+    /**
+     * Registra a vitória de um filme vencedor para cada um dos seus produtores.
+     */
+    private void indexWin(Long movieId, int year, String producersString) {
+        if (!Movie.isValidYear(year)) {
+            throw new IllegalArgumentException("Ano de vitória fora do intervalo aceito: " + year);
+        }
+        String[] producers = ProducerNameParser.parseProducers(producersString);
+        int[] producerIds = new int[producers.length];
+        for (int i = 0; i < producers.length; i++) {
+            producerIds[i] = producerDictionary.idOf(producers[i]);
+            addWin(producerIds[i], year);
+        }
+
+        if (movieId != null) {
+            producerIdsByMovie.put(movieId, producerIds);
+        }
+    }
+
+    private boolean unindexMovie(Movie movie) {
+        if (!isWinner(movie)) {
+            return false;
+        }
+
+        int[] producerIds = movie.getId() != null ? producerIdsByMovie.remove(movie.getId()) : null;
+        if (producerIds == null) {
+            producerIds = lookupProducerIds(movie.getProducers());
+        }
+
+        for (int producerId : producerIds) {
+            removeWin(producerId, movie.getYear());
+        }
+        return true;
+    }
+
+    /**
+     * Obtém os identificadores de produtores já registrados, sem registrar novos nomes.
+     */
+    private int[] lookupProducerIds(String producersString) {
+        String[] producers = ProducerNameParser.parseProducers(producersString);
+        if (producers.length == 0) {
+            return NO_PRODUCERS;
+        }
+
+        return Arrays.stream(producers)
+                .mapToInt(producerDictionary::findId)
+                .filter(id -> id >= 0)
+                .toArray();
+    }
+
+    /**
+     * Registra uma vitória do produtor, ajustando apenas os intervalos vizinhos ao ano incluído.
+     * Os anos são limitados por {@link Movie#isValidYear(int)}, de modo que o histograma de
+     * intervalos não passa de {@code Movie.MAX_YEAR - Movie.MIN_YEAR + 1} posições.
+     */
+    private void addWin(int producerId, int year) {
+        while (winsByProducer.size() <= producerId) {
+            winsByProducer.add(new ProducerWinYears());
+        }
+        ProducerWinYears years = winsByProducer.get(producerId);
+
+        int position = years.add(year);
+        if (position == ProducerWinYears.UNCHANGED) {
+            return;
+        }
+
+        boolean hasPrevious = position > 0;
+        boolean hasFollowing = position < years.size() - 1;
+
+        if (hasPrevious && hasFollowing) {
+            countInterval(years.yearAt(position + 1) - years.yearAt(position - 1), -1);
+        }
+        if (hasPrevious) {
+            countInterval(year - years.yearAt(position - 1), 1);
+        }
+        if (hasFollowing) {
+            countInterval(years.yearAt(position + 1) - year, 1);
+        }
+    }
+
+    /**
+     * Remove uma vitória do produtor, unindo os intervalos vizinhos ao ano removido.
+     */
+    private void removeWin(int producerId, int year) {
+        if (producerId >= winsByProducer.size()) {
+            return;
+        }
+        ProducerWinYears years = winsByProducer.get(producerId);
+
+        int position = years.remove(year);
+        if (position == ProducerWinYears.UNCHANGED) {
+            return;
+        }
+
+        boolean hasPrevious = position > 0;
+        boolean hasFollowing = position < years.size();
+
+        if (hasPrevious) {
+            countInterval(year - years.yearAt(position - 1), -1);
+        }
+        if (hasFollowing) {
+            countInterval(years.yearAt(position) - year, -1);
+        }
+        if (hasPrevious && hasFollowing) {
+            countInterval(years.yearAt(position) - years.yearAt(position - 1), 1);
+        }
+    }
+
+    /**
+     * Atualiza o histograma de comprimentos de intervalo.
+     */
+    private void countInterval(int interval, int delta) {
+        if (interval >= intervalCounts.length) {
+            intervalCounts = Arrays.copyOf(intervalCounts, Math.max(interval + 1, intervalCounts.length * 2));
+        }
+        intervalCounts[interval] += delta;
+    }
+
+    /**
+     * Calcula a resposta com os intervalos mínimos e máximos do estado atual do índice,
+     * considerando apenas os comprimentos entre os limites informados.
+     * Os comprimentos mínimo e máximo vêm do histograma; em seguida os anos de cada produtor
+     * são percorridos uma única vez e apenas os intervalos retornados são convertidos em DTOs,
+     * com os nomes obtidos do dicionário.
+     */
+    private AwardIntervalResponse computeResponse(int lowerBound, int upperBound) {
+        int minInterval = -1;
+        int maxInterval = -1;
+        int last = Math.min(upperBound, intervalCounts.length - 1);
+        for (int interval = Math.max(lowerBound, 0); interval <= last; interval++) {
+            if (intervalCounts[interval] > 0) {
+                if (minInterval < 0) {
+                    minInterval = interval;
+                }
+                maxInterval = interval;
+            }
+        }
+
+        if (minInterval < 0) {
+            return emptyResponse();
+        }
+
+        List<ProducerAwardInterval> minIntervals = new ArrayList<>(intervalCounts[minInterval]);
+        List<ProducerAwardInterval> maxIntervals = new ArrayList<>(intervalCounts[maxInterval]);
+
+        for (int producerId = 0; producerId < winsByProducer.size(); producerId++) {
+            ProducerWinYears years = winsByProducer.get(producerId);
+
+            for (int i = 1; i < years.size(); i++) {
+                int previousWin = years.yearAt(i - 1);
+                int followingWin = years.yearAt(i);
+                int interval = followingWin - previousWin;
+
+                if (interval == minInterval) {
+                    minIntervals.add(new ProducerAwardInterval(producerDictionary.nameOf(producerId),
+                            interval, previousWin, followingWin));
+                }
+                if (interval == maxInterval) {
+                    maxIntervals.add(new ProducerAwardInterval(producerDictionary.nameOf(producerId),
+                            interval, previousWin, followingWin));
+                }
+            }
+        }
+
+        return new AwardIntervalResponse(List.copyOf(minIntervals), List.copyOf(maxIntervals));
+    }
+
+    /**
+     * Calcula os N menores e os N maiores intervalos entre os limites informados em uma
+     * única passagem pelos anos de cada produtor, usando dois heaps limitados a N posições.
+     */
+    private AwardIntervalResponse computeTopResponse(int top, int lowerBound, int upperBound) {
+        long candidates = 0;
+        int last = Math.min(upperBound, intervalCounts.length - 1);
+        for (int interval = Math.max(lowerBound, 0); interval <= last; interval++) {
+            candidates += intervalCounts[interval];
+        }
+
+        if (candidates == 0) {
+            return emptyResponse();
+        }
+
+        int capacity = (int) Math.min(top, candidates);
+        BoundedIntervalHeap shortest = new BoundedIntervalHeap(false, capacity);
+        BoundedIntervalHeap longest = new BoundedIntervalHeap(true, capacity);
+
+        for (int producerId = 0; producerId < winsByProducer.size(); producerId++) {
+            ProducerWinYears years = winsByProducer.get(producerId);
+
+            for (int i = 1; i < years.size(); i++) {
+                int previousWin = years.yearAt(i - 1);
+                int interval = years.yearAt(i) - previousWin;
+
+                if (interval >= lowerBound && interval <= upperBound) {
+                    shortest.offer(interval, producerId, previousWin);
+                    longest.offer(interval, producerId, previousWin);
+                }
+            }
+        }
+
+        return new AwardIntervalResponse(toIntervals(shortest), toIntervals(longest));
+    }
+
+    /**
+     * Calcula a resposta de uma consulta por janela de anos a partir do índice por
+     * comprimento: os extremos são os primeiros comprimentos, a partir de cada ponta,
+     * com algum intervalo contido na janela. Com {@code top}, os comprimentos são
+     * percorridos a partir de cada ponta até completar os N intervalos, na mesma ordem
+     * da consulta sem janela.
+     */
+    private AwardIntervalResponse computeYearRangeResponse(IntervalQuery query) {
+        IntervalYearIndex index = yearIndex();
+        int fromYear = query.getFromYear();
+        int toYear = query.getToYear();
+        int first = Math.max(query.getLowerBound(), 0);
+        int last = Math.min(query.getUpperBound(), index.maxLength());
+
+        if (query.getTop() != null) {
+            return new AwardIntervalResponse(
+                    topIntervals(index, query.getTop(), first, last, fromYear, toYear, false),
+                    topIntervals(index, query.getTop(), first, last, fromYear, toYear, true));
+        }
+
+        int minInterval = first;
+        while (minInterval <= last && !index.contains(minInterval, fromYear, toYear)) {
+            minInterval++;
+        }
+        if (minInterval > last) {
+            return emptyResponse();
+        }
+
+        int maxInterval = last;
+        while (!index.contains(maxInterval, fromYear, toYear)) {
+            maxInterval--;
+        }
+
+        long[] minIntervals = index.intervalsIn(minInterval, fromYear, toYear);
+        long[] maxIntervals = index.intervalsIn(maxInterval, fromYear, toYear);
+        return new AwardIntervalResponse(
+                List.copyOf(toIntervals(minInterval, minIntervals, minIntervals.length)),
+                List.copyOf(toIntervals(maxInterval, maxIntervals, maxIntervals.length)));
+    }
+
+    private List<ProducerAwardInterval> topIntervals(IntervalYearIndex index, int top, int first, int last,
+                                                     int fromYear, int toYear, boolean longestFirst) {
+        List<ProducerAwardInterval> intervals = new ArrayList<>();
+        for (int step = 0; step <= last - first && intervals.size() < top; step++) {
+            int length = longestFirst ? last - step : first + step;
+            intervals.addAll(toIntervals(length, index.intervalsIn(length, fromYear, toYear), top - intervals.size()));
+        }
+        return List.copyOf(intervals);
+    }
+
+    /**
+     * Converte em DTOs até {@code limit} intervalos retornados pelo {@link IntervalYearIndex}.
+     */
+    private List<ProducerAwardInterval> toIntervals(int interval, long[] found, int limit) {
+        int count = Math.min(found.length, limit);
+        List<ProducerAwardInterval> intervals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int previousWin = (int) found[i];
+            intervals.add(new ProducerAwardInterval(producerDictionary.nameOf((int) (found[i] >>> 32)),
+                    interval, previousWin, previousWin + interval));
+        }
+        return intervals;
+    }
+
+    /**
+     * Obtém o índice por janela de anos da versão atual, construindo-o na primeira consulta
+     * após uma alteração. Chamado com a trava de leitura; consultas concorrentes podem
+     * construir o índice em paralelo, com resultado idêntico.
+     */
+    private IntervalYearIndex yearIndex() {
+        IntervalYearIndex current = yearIndex;
+        if (current == null) {
+            current = IntervalYearIndex.build(winsByProducer, intervalCounts);
+            yearIndex = current;
+        }
+        return current;
+    }
+
+    /**
+     * Obtém o índice de nomes da versão atual, construindo-o na primeira busca após uma
+     * alteração. Chamado com a trava de leitura, como {@link #yearIndex()}.
+     */
+    private ProducerNameIndex nameIndex() {
+        ProducerNameIndex current = nameIndex;
+        if (current == null) {
+            current = ProducerNameIndex.build(producerDictionary, winsByProducer);
+            nameIndex = current;
+        }
+        return current;
+    }
+
+    private List<ProducerAwardInterval> toIntervals(BoundedIntervalHeap heap) {
+        int count = heap.sortBestFirst();
+        List<ProducerAwardInterval> intervals = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int interval = heap.intervalAt(i);
+            int previousWin = heap.previousWinAt(i);
+            intervals.add(new ProducerAwardInterval(producerDictionary.nameOf(heap.producerIdAt(i)),
+                    interval, previousWin, previousWin + interval));
+        }
+
+        return List.copyOf(intervals);
+    }
+
+    private static boolean isWinner(Movie movie) {
+        return Boolean.TRUE.equals(movie.getWinner());
+    }
+
+    private static AwardIntervalResponse emptyResponse() {
+        return new AwardIntervalResponse(List.of(), List.of());
+    }
+}
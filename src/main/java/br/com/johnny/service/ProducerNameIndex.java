@@ -0,0 +1,110 @@
+package br.com.johnny.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Índice dos nomes de produtores para busca exata e por prefixo, sem distinção de
+ * maiúsculas e minúsculas. Os nomes ficam em um array ordenado pela forma minúscula,
+ * de modo que os nomes com um prefixo formam uma faixa contígua localizada por busca
+ * binária, e a busca não percorre os demais produtores.
+ * O índice é imutável após a construção.
+ */
+final class ProducerNameIndex {
+
+    private final String[] keys;
+    private final int[] producerIds;
+
+    private ProducerNameIndex(String[] keys, int[] producerIds) {
+        this.keys = keys;
+        this.producerIds = producerIds;
+    }
+
+    /**
+     * Constrói o índice com os produtores que possuem ao menos uma vitória.
+     *
+     * @param producerDictionary dicionário com os nomes dos produtores
+     * @param winsByProducer anos de vitória, na posição do identificador de cada produtor
+     * @return índice construído
+     */
+    static ProducerNameIndex build(ProducerDictionary producerDictionary, List<ProducerWinYears> winsByProducer) {
+        String[] keysById = new String[winsByProducer.size()];
+        List<Integer> ids = new ArrayList<>();
+        for (int producerId = 0; producerId < winsByProducer.size(); producerId++) {
+            if (winsByProducer.get(producerId).size() > 0) {
+                keysById[producerId] = normalize(producerDictionary.nameOf(producerId));
+                ids.add(producerId);
+            }
+        }
+        ids.sort(Comparator.comparing((Integer producerId) -> keysById[producerId]).thenComparing(Integer::intValue));
+
+        String[] keys = new String[ids.size()];
+        int[] producerIds = new int[ids.size()];
+        for (int i = 0; i < keys.length; i++) {
+            producerIds[i] = ids.get(i);
+            keys[i] = keysById[producerIds[i]];
+        }
+        return new ProducerNameIndex(keys, producerIds);
+    }
+
+    /**
+     * Localiza o produtor pelo nome. Entre nomes que diferem apenas em maiúsculas e
+     * minúsculas, prefere o nome idêntico ao informado.
+     *
+     * @param name nome do produtor
+     * @param producerDictionary dicionário com os nomes dos produtores
+     * @return identificador do produtor, ou -1 se não existir
+     */
+    int find(String name, ProducerDictionary producerDictionary) {
+        String key = normalize(name);
+        int found = -1;
+        for (int i = firstFrom(key); i < keys.length && keys[i].equals(key); i++) {
+            if (producerDictionary.nameOf(producerIds[i]).equals(name)) {
+                return producerIds[i];
+            }
+            if (found < 0) {
+                found = producerIds[i];
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Obtém os identificadores dos produtores cujo nome começa com o prefixo informado,
+     * em ordem alfabética.
+     *
+     * @param prefix prefixo do nome
+     * @param limit quantidade máxima de produtores
+     * @return identificadores dos produtores
+     */
+    int[] findByPrefix(String prefix, int limit) {
+        String key = normalize(prefix);
+        int start = firstFrom(key);
+        int end = start;
+        while (end < keys.length && end - start < limit && keys[end].startsWith(key)) {
+            end++;
+        }
+        return Arrays.copyOfRange(producerIds, start, end);
+    }
+
+    private int firstFrom(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
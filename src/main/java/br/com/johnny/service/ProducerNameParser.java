@@ -0,0 +1,42 @@
+package br.com.johnny.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Separa a coluna de produtores de um filme em nomes individuais.
+ * Os nomes são separados por vírgula ou pela palavra "and".
+ */
+public final class ProducerNameParser {
+
+    private static final Pattern PRODUCER_SEPARATOR = Pattern.compile(",|\\band\\b");
+    private static final String[] NO_PRODUCERS = new String[0];
+
+    private ProducerNameParser() {
+    }
+
+    /**
+     * Analisa a string de produtores e separa os nomes individuais, sem repetições.
+     *
+     * @param producersString string com nomes dos produtores
+     * @return array com nomes individuais dos produtores
+     */
+    public static String[] parseProducers(String producersString) {
+        if (producersString == null || producersString.isBlank()) {
+            return NO_PRODUCERS;
+        }
+
+        String[] parts = PRODUCER_SEPARATOR.split(producersString);
+        List<String> producers = new ArrayList<>(parts.length);
+
+        for (String part : parts) {
+            String producer = part.trim();
+            if (!producer.isEmpty() && !producers.contains(producer)) {
+                producers.add(producer);
+            }
+        }
+
+        return producers.toArray(NO_PRODUCERS);
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.johnny.service;
+
+import java.util.Arrays;
+
+/**
+ * Anos de vitória de um produtor, mantidos em ordem crescente e sem repetição em um
+ * array de inteiros primitivos. Cada ano guarda a quantidade de filmes vencedores do
+ * produtor naquele ano, para que a remoção de um deles não apague os demais.
+ * Esta classe não é thread-safe; o acesso é sincronizado pelo índice que a utiliza.
+ */
+final class ProducerWinYears {
+
+    /**
+     * Indica que o ano já existia ou continua existindo após a operação.
+     */
+    static final int UNCHANGED = -1;
+
+    private int[] years = new int[2];
+    private int[] counts = new int[2];
+    private int size;
+
+    /**
+     * Obtém a quantidade de anos distintos.
+     *
+     * @return quantidade de anos
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Obtém o ano na posição informada.
+     *
+     * @param position posição na ordem crescente
+     * @return ano de vitória
+     */
+    int yearAt(int position) {
+        return years[position];
+    }
+
+    /**
+     * Registra uma vitória no ano informado.
+     *
+     * @param year ano da vitória
+     * @return posição em que o ano foi inserido, ou {@link #UNCHANGED} se ele já existia
+     */
+    int add(int year) {
+        int position = Arrays.binarySearch(years, 0, size, year);
+        if (position >= 0) {
+            counts[position]++;
+            return UNCHANGED;
+        }
+
+        int insertion = -position - 1;
+        if (size == years.length) {
+            years = Arrays.copyOf(years, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        System.arraycopy(years, insertion, years, insertion + 1, size - insertion);
+        System.arraycopy(counts, insertion, counts, insertion + 1, size - insertion);
+        years[insertion] = year;
+        counts[insertion] = 1;
+        size++;
+        return insertion;
+    }
+
+    /**
+     * Remove uma vitória do ano informado.
+     *
+     * @param year ano da vitória
+     * @return posição que o ano ocupava, se ele deixou de existir, ou {@link #UNCHANGED} caso contrário
+     */
+    int remove(int year) {
+        int position = Arrays.binarySearch(years, 0, size, year);
+        if (position < 0) {
+            return UNCHANGED;
+        }
+        if (--counts[position] > 0) {
+            return UNCHANGED;
+        }
+
+        System.arraycopy(years, position + 1, years, position, size - position - 1);
+        System.arraycopy(counts, position + 1, counts, position, size - position - 1);
+        size--;
+        return position;
+    }
+
+    /**
+     * Estima a memória ocupada pelos anos de vitória, incluindo a capacidade reservada.
+     *
+     * @return quantidade aproximada de bytes
+     */
+    long estimateRetainedBytes() {
+        return 24 + 2 * (16 + 4L * years.length);
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.repository.ReactiveWinnerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cálculo dos intervalos de prêmios para a variante reativa da API.
+ * <p>
+ * Os vencedores são lidos por R2DBC e processados por um pipeline reativo que solicita
+ * as linhas em lotes de {@value #FETCH_SIZE}, de modo que a leitura acompanha o cálculo
+ * sem acumular os vencedores em memória. O driver R2DBC do H2 executa a consulta na
+ * thread que assina o fluxo, por isso a leitura é assinada fora das threads do laço
+ * de eventos.
+ * <p>
+ * A resposta calculada é compartilhada por todas as requisições enquanto a versão do
+ * {@link ProducerIntervalIndex} não muda: requisições concorrentes aguardam o mesmo
+ * cálculo, e cada alteração dos dados provoca uma nova leitura na requisição seguinte.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAwardIntervalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveAwardIntervalService.class);
+    private static final int FETCH_SIZE = 256;
+
+    private final ReactiveWinnerRepository reactiveWinnerRepository;
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final AtomicReference<VersionedResponse> current = new AtomicReference<>();
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param reactiveWinnerRepository leitura reativa dos filmes vencedores
+     * @param producerIntervalIndex índice de intervalos, cuja versão indica alterações dos dados
+     * @param storage armazenamento de filmes configurado
+     * @throws IllegalStateException se os filmes não estiverem armazenados no banco
+     */
+    @Autowired
+    public ReactiveAwardIntervalService(ReactiveWinnerRepository reactiveWinnerRepository,
+                                        ProducerIntervalIndex producerIntervalIndex,
+                                        @Value("${golden-raspberry.storage:jpa}") String storage) {
+        if (!"jpa".equals(storage)) {
+            throw new IllegalStateException(
+                    "A variante reativa lê os vencedores do banco e requer golden-raspberry.storage=jpa");
+        }
+        this.reactiveWinnerRepository = reactiveWinnerRepository;
+        this.producerIntervalIndex = producerIntervalIndex;
+    }
+
+    /**
+     * Obtém os intervalos mínimos e máximos, calculados a partir dos vencedores lidos por
+     * R2DBC e reaproveitados enquanto os dados não mudam.
+     *
+     * @return resposta com os intervalos mínimos e máximos
+     */
+    public Mono<AwardIntervalResponse> getProducerAwardIntervals() {
+        long version = producerIntervalIndex.getVersion();
+        VersionedResponse cached = current.get();
+        if (cached != null && cached.version == version) {
+            return cached.response;
+        }
+
+        VersionedResponse computed = new VersionedResponse(version, computeFromWinners());
+        return current.compareAndSet(cached, computed) ? computed.response : current.get().response;
+    }
+
+    /**
+     * Lê os vencedores em ordem de ano e calcula os extremos à medida que as linhas chegam.
+     * O resultado é guardado para as assinaturas seguintes; falhas não são guardadas.
+     */
+    private Mono<AwardIntervalResponse> computeFromWinners() {
+        return reactiveWinnerRepository.findWinnerRowsOrderedByYear()
+                .limitRate(FETCH_SIZE)
+                .reduceWith(IntervalAccumulator::new, IntervalAccumulator::accept)
+                .map(IntervalAccumulator::toResponse)
+                .doOnSuccess(response -> logger.debug("Intervalos calculados pelo pipeline reativo"))
+                .subscribeOn(Schedulers.boundedElastic())
+                .cache(response -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * Resposta calculada para uma versão dos dados.
+     */
+    private static final class VersionedResponse {
+
+        private final long version;
+        private final Mono<AwardIntervalResponse> response;
+
+        private VersionedResponse(long version, Mono<AwardIntervalResponse> response) {
+            this.version = version;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.johnny;
+
+import br.com.johnny.service.DataStartupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da falha da inicialização dos dados em segundo plano: a aplicação, viva durante
+ * a carga, passa a ser reportada como não viva quando a carga falha, para que o
+ * orquestrador a reinicie.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:background-startup-failure-test;DB_CLOSE_DELAY=-1",
+                "golden-raspberry.snapshot.enabled=false",
+                "golden-raspberry.startup.background=true",
+                "test.startup.fail-load=true"
+        })
+@Import(BlockedLoadConfiguration.class)
+class BackgroundStartupFailureIntegrationTest {
+
+    private static final long LIVENESS_WAIT_MILLIS = 10_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private DataStartupService dataStartupService;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private BlockedLoadConfiguration.LoadGate loadGate;
+
+    /**
+     * Testa que a falha da carga marca a inicialização como falha e o probe de vivacidade
+     * como quebrado, e que a API continua recusando as requisições.
+     */
+    @Test
+    void testFailedLoadMarksApplicationAsBroken() throws InterruptedException {
+        assertEquals(HttpStatus.OK, get("/actuator/health/liveness").getStatusCode());
+
+        loadGate.release();
+
+        assertFalse(dataStartupService.awaitReady(Duration.ofSeconds(30)));
+        assertEquals(DataStartupService.State.FAILED, dataStartupService.getState());
+        assertEquals("Falha simulada na carga dos dados", rootCause(dataStartupService.getFailure()).getMessage());
+
+        long deadline = System.currentTimeMillis() + LIVENESS_WAIT_MILLIS;
+        while (applicationAvailability.getLivenessState() != LivenessState.BROKEN
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(LivenessState.BROKEN, applicationAvailability.getLivenessState());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, get("/actuator/health/liveness").getStatusCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, get("/actuator/health/readiness").getStatusCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, get("/api/producers/award-intervals").getStatusCode());
+    }
+
+    private ResponseEntity<String> get(String path) {
+        return restTemplate.getForEntity("http://localhost:" + port + path, String.class);
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.johnny;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.service.DataStartupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da inicialização dos dados em segundo plano: com a carga retida, o servidor já
+ * atende, o probe de prontidão fica fora de serviço e as requisições à API são recusadas
+ * com 503 e {@code Retry-After}; liberada a carga, a aplicação fica pronta.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:background-startup-test;DB_CLOSE_DELAY=-1",
+                "golden-raspberry.snapshot.enabled=false",
+                "golden-raspberry.startup.background=true"
+        })
+@Import(BlockedLoadConfiguration.class)
+class BackgroundStartupIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private DataStartupService dataStartupService;
+
+    @Autowired
+    private BlockedLoadConfiguration.LoadGate loadGate;
+
+    /**
+     * Testa os estados da aplicação antes e depois do fim da carga em segundo plano.
+     */
+    @Test
+    void testRequestsAreRejectedUntilBackgroundLoadCompletes() throws InterruptedException {
+        try {
+            assertNotEquals(DataStartupService.State.READY, dataStartupService.getState());
+
+            ResponseEntity<String> readiness = get("/actuator/health/readiness");
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, readiness.getStatusCode());
+            assertTrue(readiness.getBody().contains("OUT_OF_SERVICE"));
+
+            ResponseEntity<String> intervals = get("/api/producers/award-intervals");
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, intervals.getStatusCode());
+            assertEquals("5", intervals.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+            assertEquals(HttpStatus.OK, get("/api/health").getStatusCode());
+            assertEquals(HttpStatus.OK, get("/actuator/health/liveness").getStatusCode());
+        } finally {
+            loadGate.release();
+        }
+
+        assertTrue(dataStartupService.awaitReady(Duration.ofSeconds(30)));
+        assertEquals(DataStartupService.State.READY, dataStartupService.getState());
+        assertEquals(HttpStatus.OK, get("/actuator/health/readiness").getStatusCode());
+
+        ResponseEntity<AwardIntervalResponse> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/producers/award-intervals", AwardIntervalResponse.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(new ProducerAwardInterval("Joel Silver", 1, 1990, 1991)), response.getBody().getMin());
+        assertEquals(List.of(new ProducerAwardInterval("Matthew Vaughn", 13, 2002, 2015)), response.getBody().getMax());
+    }
+
+    private ResponseEntity<String> get(String path) {
+        return restTemplate.getForEntity("http://localhost:" + port + path, String.class);
+    }
+}
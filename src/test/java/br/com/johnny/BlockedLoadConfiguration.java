@@ -0,0 +1,79 @@
+package br.com.johnny;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.JpaMovieStore;
+import br.com.johnny.repository.MovieBatchRepository;
+import br.com.johnny.repository.MovieQueryRepository;
+import br.com.johnny.repository.MovieRepository;
+import br.com.johnny.repository.MovieStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuração dos testes da inicialização em segundo plano: a carga dos dados fica retida
+ * no primeiro lote até que o teste a libere com {@link LoadGate#release()}, de modo que os
+ * estados anteriores ao fim da carga possam ser observados. Com
+ * {@code test.startup.fail-load=true}, o lote liberado falha.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class BlockedLoadConfiguration {
+
+    private static final long MAX_BLOCK_SECONDS = 60;
+
+    @Bean
+    LoadGate loadGate(@Value("${test.startup.fail-load:false}") boolean failLoad) {
+        return new LoadGate(failLoad);
+    }
+
+    @Bean
+    @Primary
+    MovieStore blockedMovieStore(MovieRepository movieRepository,
+                                 MovieBatchRepository movieBatchRepository,
+                                 MovieQueryRepository movieQueryRepository,
+                                 LoadGate loadGate) {
+        return new JpaMovieStore(movieRepository, movieBatchRepository, movieQueryRepository) {
+            @Override
+            public void insertBatch(List<Movie> movies) {
+                loadGate.pass();
+                super.insertBatch(movies);
+            }
+        };
+    }
+
+    /**
+     * Trava que retém a carga até a liberação pelo teste.
+     */
+    static final class LoadGate {
+
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final boolean failLoad;
+
+        private LoadGate(boolean failLoad) {
+            this.failLoad = failLoad;
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        private void pass() {
+            try {
+                if (!released.await(MAX_BLOCK_SECONDS, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("A carga não foi liberada pelo teste");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrompido ao aguardar a liberação da carga", e);
+            }
+            if (failLoad) {
+                throw new IllegalStateException("Falha simulada na carga dos dados");
+            }
+        }
+    }
+}
@@ -1,16 +1,38 @@
 package br.com.johnny;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.DatasetStatus;
+import br.com.johnny.dto.MoviePageResponse;
+import br.com.johnny.dto.MovieResponse;
 import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.dto.ProducerSearchResponse;
+import br.com.johnny.dto.ProducerWinsResponse;
+import br.com.johnny.proto.AwardIntervals;
+import br.com.johnny.proto.MoviePage;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -20,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * com os dados fornecidos na proposta.
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
 class GoldenRaspberryAwardsIntegrationTest {
 
     @LocalServerPort
@@ -151,6 +174,345 @@ class GoldenRaspberryAwardsIntegrationTest {
         }
     }
 
+    /**
+     * Testa a consulta dos N menores e maiores intervalos.
+     * 
+     * Valida que o endpoint respeita o limite informado e retorna os
+     * intervalos mínimos em ordem crescente e os máximos em ordem decrescente.
+     */
+    @Test
+    void testTopIntervalsQuery() {
+        String url = "http://localhost:" + port + "/api/producers/award-intervals?top=3";
+        ResponseEntity<AwardIntervalResponse> response = restTemplate.getForEntity(url, AwardIntervalResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        AwardIntervalResponse responseBody = response.getBody();
+        assertNotNull(responseBody);
+        assertTrue(responseBody.getMin().size() <= 3);
+        assertTrue(responseBody.getMax().size() <= 3);
+
+        for (int i = 1; i < responseBody.getMin().size(); i++) {
+            assertTrue(responseBody.getMin().get(i - 1).getInterval() <= responseBody.getMin().get(i).getInterval());
+        }
+        for (int i = 1; i < responseBody.getMax().size(); i++) {
+            assertTrue(responseBody.getMax().get(i - 1).getInterval() >= responseBody.getMax().get(i).getInterval());
+        }
+        responseBody.getMin().forEach(this::validateIntervalConsistency);
+        responseBody.getMax().forEach(this::validateIntervalConsistency);
+    }
+
+    /**
+     * Testa que parâmetros de consulta inválidos resultam em erro de requisição.
+     */
+    @Test
+    void testInvalidIntervalQueryReturnsBadRequest() {
+        String baseUrl = "http://localhost:" + port + "/api/producers/award-intervals";
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity(baseUrl + "?top=0", String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity(baseUrl + "?minInterval=5&maxInterval=2", String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity(baseUrl + "?fromYear=2010&toYear=1990", String.class).getStatusCode());
+    }
+
+    /**
+     * Testa a consulta por janela de anos: o maior intervalo dos dados originais
+     * (2002 a 2015) deixa de ser considerado quando a janela termina antes de 2015.
+     */
+    @Test
+    void testYearRangeIntervalsQuery() {
+        String baseUrl = "http://localhost:" + port + "/api/producers/award-intervals";
+
+        AwardIntervalResponse full = restTemplate.getForEntity(baseUrl + "?fromYear=1980&toYear=2019",
+                AwardIntervalResponse.class).getBody();
+        AwardIntervalResponse window = restTemplate.getForEntity(baseUrl + "?fromYear=1980&toYear=2014",
+                AwardIntervalResponse.class).getBody();
+
+        assertNotNull(full);
+        assertNotNull(window);
+        assertTrue(full.getMax().stream().anyMatch(interval -> interval.getProducer().equals("Matthew Vaughn")
+                && interval.getPreviousWin() == 2002 && interval.getFollowingWin() == 2015));
+        assertFalse(window.getMax().isEmpty());
+        window.getMax().forEach(interval -> {
+            assertTrue(interval.getPreviousWin() >= 1980 && interval.getFollowingWin() <= 2014);
+            validateIntervalConsistency(interval);
+        });
+        assertTrue(window.getMax().get(0).getInterval() < 13);
+    }
+
+    /**
+     * Testa a consulta das vitórias de um produtor e a busca de produtores por prefixo.
+     */
+    @Test
+    void testProducerLookupAndPrefixSearch() {
+        String baseUrl = "http://localhost:" + port + "/api/producers";
+
+        ResponseEntity<ProducerWinsResponse> producer =
+                restTemplate.getForEntity(baseUrl + "/matthew vaughn", ProducerWinsResponse.class);
+        assertEquals(HttpStatus.OK, producer.getStatusCode());
+        assertNotNull(producer.getBody());
+        assertEquals("Matthew Vaughn", producer.getBody().getProducer());
+        assertEquals(List.of(2002, 2015), producer.getBody().getWins());
+        assertEquals(List.of(new ProducerAwardInterval("Matthew Vaughn", 13, 2002, 2015)),
+                producer.getBody().getIntervals());
+
+        assertEquals(HttpStatus.NOT_FOUND,
+                restTemplate.getForEntity(baseUrl + "/Unknown Producer", String.class).getStatusCode());
+
+        ResponseEntity<ProducerSearchResponse> search =
+                restTemplate.getForEntity(baseUrl + "?prefix=joel&limit=5", ProducerSearchResponse.class);
+        assertEquals(HttpStatus.OK, search.getStatusCode());
+        assertNotNull(search.getBody());
+        assertTrue(search.getBody().getProducers().contains("Joel Silver"));
+        search.getBody().getProducers().forEach(name -> assertTrue(name.toLowerCase().startsWith("joel")));
+    }
+
+    /**
+     * Testa a negociação dos formatos binários pelo cabeçalho Accept.
+     * 
+     * Valida que os intervalos em CBOR e Smile têm a mesma estrutura do JSON, que a
+     * mensagem Protocol Buffers traz os mesmos intervalos e que a listagem de filmes
+     * também é negociada.
+     */
+    @Test
+    void testBinaryContentNegotiation() throws Exception {
+        String url = "http://localhost:" + port + "/api/producers/award-intervals";
+        AwardIntervalResponse json = restTemplate.getForObject(url, AwardIntervalResponse.class);
+
+        ResponseEntity<byte[]> cbor = getBytes(url, "application/cbor");
+        assertEquals(MediaType.APPLICATION_CBOR, cbor.getHeaders().getContentType());
+        assertEquals(json, CBORMapper.builder().findAndAddModules().build().readValue(cbor.getBody(), AwardIntervalResponse.class));
+
+        ResponseEntity<byte[]> smile = getBytes(url + "?top=3", "application/x-jackson-smile");
+        assertEquals("application/x-jackson-smile", smile.getHeaders().getContentType().toString());
+        assertEquals(restTemplate.getForObject(url + "?top=3", AwardIntervalResponse.class),
+                SmileMapper.builder().findAndAddModules().build().readValue(smile.getBody(), AwardIntervalResponse.class));
+
+        ResponseEntity<byte[]> protobuf = getBytes(url, "application/x-protobuf, application/json;q=0.5");
+        AwardIntervals message = AwardIntervals.parseFrom(protobuf.getBody());
+        assertEquals(json.getMin().size(), message.getMinCount());
+        assertEquals(json.getMin().get(0).getProducer(), message.getMin(0).getProducer());
+        assertEquals(json.getMax().get(0).getInterval(), message.getMax(0).getInterval());
+        assertTrue(protobuf.getBody().length < restTemplate.getForObject(url, String.class).length());
+
+        MoviePage page = MoviePage.parseFrom(getBytes("http://localhost:" + port + "/api/movies?limit=5",
+                "application/x-protobuf").getBody());
+        assertEquals(5, page.getMoviesCount());
+        assertTrue(page.hasNextCursor());
+    }
+
+    /**
+     * Testa que, sem o cabeçalho Accept, com {@code *}{@code /*} ou com empate entre JSON e
+     * um formato binário, todos os endpoints negociáveis respondem em JSON.
+     */
+    @Test
+    void testJsonIsPreferredWithoutBinaryPreference() throws Exception {
+        List<String> paths = List.of(
+                "/api/producers/award-intervals",
+                "/api/producers/award-intervals?top=3",
+                "/api/producers?prefix=jo",
+                "/api/movies?limit=5");
+        List<String> accepts = Arrays.asList(null, "*/*", "application/cbor, application/json",
+                "application/x-protobuf, application/json", "application/x-jackson-smile;q=0.8, application/json;q=0.8");
+
+        HttpClient client = HttpClient.newHttpClient();
+        for (String path : paths) {
+            for (String accept : accepts) {
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+                if (accept != null) {
+                    request.header(HttpHeaders.ACCEPT, accept);
+                }
+                HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+
+                String description = path + " com Accept " + accept;
+                assertEquals(200, response.statusCode(), description);
+                assertEquals(MediaType.APPLICATION_JSON_VALUE,
+                        response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null), description);
+                assertTrue(response.body().startsWith("{"), description);
+            }
+        }
+    }
+
+    private ResponseEntity<byte[]> getBytes(String url, String accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT, accept);
+        ResponseEntity<byte[]> response = restTemplate.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        return response;
+    }
+
+    /**
+     * Testa a requisição condicional com ETag.
+     * 
+     * Valida que a resposta traz um ETag e que a repetição da requisição
+     * com If-None-Match retorna 304 sem corpo.
+     */
+    @Test
+    void testConditionalRequestWithEtag() {
+        String url = "http://localhost:" + port + "/api/producers/award-intervals";
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String etag = response.getHeaders().getETag();
+        assertNotNull(etag, "A resposta deve conter um ETag");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> conditional = restTemplate.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getStatusCode());
+        assertNull(conditional.getBody());
+        assertEquals(etag, conditional.getHeaders().getETag());
+    }
+
+    /**
+     * Testa a consulta de intervalos de um conjunto de dados adicional.
+     * 
+     * Valida que o conjunto dos recursos de teste é carregado no primeiro acesso,
+     * com os intervalos do seu próprio arquivo, e que conjuntos desconhecidos
+     * retornam 404.
+     */
+    @Test
+    void testDatasetAwardIntervals() {
+        String baseUrl = "http://localhost:" + port + "/api";
+
+        ResponseEntity<AwardIntervalResponse> response = restTemplate.getForEntity(
+                baseUrl + "/worst-screenplay/producers/award-intervals", AwardIntervalResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(new ProducerAwardInterval("Bob Jones", 1, 2000, 2001)), response.getBody().getMin());
+        assertEquals(List.of(new ProducerAwardInterval("Bob Jones", 8, 1992, 2000)), response.getBody().getMax());
+
+        DatasetStatus[] datasets = restTemplate.getForObject(baseUrl + "/datasets", DatasetStatus[].class);
+        DatasetStatus screenplay = Arrays.stream(datasets)
+                .filter(dataset -> dataset.getName().equals("worst-screenplay"))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(screenplay.isLoaded());
+        assertTrue(screenplay.getEstimatedBytes() > 0);
+
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(
+                baseUrl + "/unknown-dataset/producers/award-intervals", String.class).getStatusCode());
+    }
+
+    /**
+     * Testa a exposição das métricas no formato do Prometheus.
+     * 
+     * Valida que as métricas de carga do CSV, de persistência em lote e das
+     * etapas do cálculo dos intervalos estão disponíveis.
+     */
+    @Test
+    void testPrometheusMetricsEndpoint() {
+        restTemplate.getForEntity("http://localhost:" + port + "/api/producers/award-intervals", String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/prometheus", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String metrics = response.getBody();
+        assertNotNull(metrics);
+        assertTrue(metrics.contains("golden_raspberry_csv_rows_total"));
+        assertTrue(metrics.contains("golden_raspberry_persistence_batch_seconds"));
+        assertTrue(metrics.contains("golden_raspberry_intervals_stage_seconds"));
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket"));
+        assertTrue(metrics.contains("golden_raspberry_startup_seconds_count{phase=\"warmup\""));
+    }
+
+    /**
+     * Testa o probe de prontidão, que inclui a inicialização dos dados.
+     */
+    @Test
+    void testReadinessProbe() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/health/readiness", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().contains("\"status\":\"UP\""));
+    }
+
+    /**
+     * Testa a listagem de filmes paginada por chave.
+     * 
+     * Valida que as páginas percorrem todos os filmes na ordem (ano, identificador),
+     * sem repetições, e que o resultado coincide com a listagem em NDJSON.
+     */
+    @Test
+    void testMovieListingKeysetPagination() throws Exception {
+        String baseUrl = "http://localhost:" + port + "/api/movies?toYear=2000&limit=40";
+        List<MovieResponse> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            MoviePageResponse page = restTemplate.getForObject(
+                    baseUrl + (cursor != null ? "&cursor=" + cursor : ""), MoviePageResponse.class);
+            assertTrue(page.getMovies().size() <= 40);
+            paged.addAll(page.getMovies());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        for (int i = 1; i < paged.size(); i++) {
+            MovieResponse previous = paged.get(i - 1);
+            MovieResponse current = paged.get(i);
+            assertTrue(previous.getYear() < current.getYear() ||
+                    (previous.getYear().equals(current.getYear()) && previous.getId() < current.getId()));
+            assertTrue(current.getYear() <= 2000);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        ResponseEntity<String> streamed = restTemplate.exchange("http://localhost:" + port + "/api/movies?toYear=2000",
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.OK, streamed.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(streamed.getHeaders().getContentType()));
+        List<MovieResponse> lines = new ArrayList<>();
+        for (String line : streamed.getBody().split("\n")) {
+            lines.add(objectMapper.readValue(line, MovieResponse.class));
+        }
+        assertEquals(paged, lines);
+    }
+
+    /**
+     * Testa os filtros da listagem de filmes.
+     */
+    @Test
+    void testMovieListingFilters() {
+        MoviePageResponse page = restTemplate.getForObject("http://localhost:" + port +
+                "/api/movies?winner=true&producer=joel silver", MoviePageResponse.class);
+
+        assertEquals(List.of(1990, 1991), page.getMovies().stream().map(MovieResponse::getYear).toList());
+        assertNull(page.getNextCursor());
+
+        page = restTemplate.getForObject("http://localhost:" + port +
+                "/api/movies?fromYear=1980&toYear=1980&studio=UNITED artists", MoviePageResponse.class);
+        assertFalse(page.getMovies().isEmpty());
+        page.getMovies().forEach(movie -> {
+            assertEquals(1980, movie.getYear());
+            assertTrue(movie.getStudios().toLowerCase().contains("united artists"));
+        });
+    }
+
+    /**
+     * Testa que parâmetros inválidos da listagem de filmes resultam em erro de requisição.
+     */
+    @Test
+    void testInvalidMovieListingReturnsBadRequest() {
+        String baseUrl = "http://localhost:" + port + "/api/movies";
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity(baseUrl + "?cursor=invalid", String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity(baseUrl + "?fromYear=2000&toYear=1990", String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity(baseUrl + "?limit=0", String.class).getStatusCode());
+    }
+
     /**
      * Valida a estrutura de um objeto ProducerAwardInterval.
      * 
@@ -0,0 +1,157 @@
+package br.com.johnny;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ImportJobState;
+import br.com.johnny.dto.ImportJobStatus;
+import br.com.johnny.dto.ProducerAwardInterval;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da importação de filmes pela API, com banco de dados próprio para
+ * que os filmes importados não alterem os dados observados pelos demais testes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:import-test;DB_CLOSE_DELAY=-1",
+                "golden-raspberry.snapshot.enabled=false",
+                "golden-raspberry.imports.max-size=4KB"
+        })
+class MovieImportIntegrationTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    /**
+     * Testa a importação assíncrona de um arquivo CSV.
+     *
+     * Valida que a importação é aceita com um identificador, que o progresso
+     * contabiliza os registros descartados e que os filmes importados passam
+     * a fazer parte dos intervalos após a conclusão.
+     */
+    @Test
+    void testAsyncImportPublishesMovies() throws InterruptedException {
+        String csv = HEADER +
+                "2000;Import Movie A;Studio;Import Test Producer;yes\n" +
+                "abc;Invalid Year;Studio;Import Test Producer;yes\n" +
+                "2005;Import Movie B;Studio;Import Test Producer;yes\n";
+
+        ImportJobStatus status = awaitImport(submitImport(csv));
+
+        assertEquals(ImportJobState.COMPLETED, status.getState());
+        assertEquals(3, status.getRowsProcessed());
+        assertEquals(2, status.getMoviesLoaded());
+        assertEquals(1, status.getRowsRejected());
+        assertEquals(status.getBytesTotal(), status.getBytesRead());
+
+        AwardIntervalResponse intervals = restTemplate.getForObject("http://localhost:" + port +
+                "/api/producers/award-intervals?minInterval=5&maxInterval=5", AwardIntervalResponse.class);
+        assertTrue(intervals.getMin().contains(
+                new ProducerAwardInterval("Import Test Producer", 5, 2000, 2005)));
+    }
+
+    /**
+     * Testa que uma importação com falha não publica nenhum filme.
+     */
+    @Test
+    void testFailedImportPublishesNothing() throws InterruptedException {
+        String csv = HEADER +
+                "2001;Valid Movie;Studio;Failed Import Producer;yes\n" +
+                "2004;" + "T".repeat(600) + ";Studio;Failed Import Producer;yes\n";
+
+        ImportJobStatus status = awaitImport(submitImport(csv));
+
+        assertEquals(ImportJobState.FAILED, status.getState());
+        assertNotNull(status.getError());
+
+        AwardIntervalResponse intervals = restTemplate.getForObject("http://localhost:" + port +
+                "/api/producers/award-intervals?minInterval=3&maxInterval=3", AwardIntervalResponse.class);
+        assertTrue(intervals.getMin().stream()
+                .noneMatch(interval -> interval.getProducer().equals("Failed Import Producer")));
+    }
+
+    /**
+     * Testa que arquivos acima do tamanho máximo são recusados com 413, tanto pelo
+     * {@code Content-Length} informado quanto durante a leitura de um envio sem tamanho
+     * declarado, e que a recusa não ocupa a vaga de uma importação.
+     */
+    @Test
+    void testOversizedImportIsRejected() throws Exception {
+        String csv = HEADER + "2001;Oversized Movie;Studio;Oversized Producer;yes\n".repeat(100);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("text/csv"));
+        ResponseEntity<String> declared = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/imports", new HttpEntity<>(csv, headers), String.class);
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, declared.getStatusCode());
+
+        byte[] content = csv.getBytes(StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/imports"))
+                .header(HttpHeaders.CONTENT_TYPE, "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(content)))
+                .build();
+        HttpResponse<String> streamed = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), streamed.statusCode());
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(ImportJobState.COMPLETED,
+                    awaitImport(submitImport(HEADER + "2001;Small Movie;Studio;Small Producer;no\n")).getState());
+        }
+    }
+
+    /**
+     * Testa a consulta de uma importação inexistente.
+     */
+    @Test
+    void testUnknownImportReturnsNotFound() {
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/imports/unknown", String.class).getStatusCode());
+    }
+
+    private String submitImport(String csv) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("text/csv"));
+        ResponseEntity<ImportJobStatus> response = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/imports", new HttpEntity<>(csv, headers), ImportJobStatus.class);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getHeaders().getLocation());
+        return response.getBody().getId();
+    }
+
+    private ImportJobStatus awaitImport(String id) throws InterruptedException {
+        String url = "http://localhost:" + port + "/api/imports/" + id;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        ImportJobStatus status = restTemplate.getForObject(url, ImportJobStatus.class);
+        while (status.getState() == ImportJobState.QUEUED || status.getState() == ImportJobState.RUNNING) {
+            assertTrue(System.nanoTime() < deadline, "A importação não foi concluída no prazo");
+            Thread.sleep(50);
+            status = restTemplate.getForObject(url, ImportJobStatus.class);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.johnny;
+
+import br.com.johnny.service.DataStartupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do {@code StartupGateWebFilter} na variante reativa: com a carga retida, as
+ * requisições à API são recusadas com 503 e {@code Retry-After} sem aguardar; liberada a
+ * carga, são atendidas.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.main.web-application-type=reactive",
+                "spring.datasource.url=jdbc:h2:mem:reactive-background-startup-test;DB_CLOSE_DELAY=-1",
+                "golden-raspberry.reactive.pool-size=2",
+                "golden-raspberry.snapshot.enabled=false",
+                "golden-raspberry.startup.background=true"
+        })
+@Import(BlockedLoadConfiguration.class)
+class ReactiveBackgroundStartupIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DataStartupService dataStartupService;
+
+    @Autowired
+    private BlockedLoadConfiguration.LoadGate loadGate;
+
+    /**
+     * Testa a recusa das requisições durante a carga e o atendimento depois dela.
+     */
+    @Test
+    void testWebFilterRejectsRequestsUntilBackgroundLoadCompletes() throws InterruptedException {
+        try {
+            webTestClient.get().uri("/api/producers/award-intervals").exchange()
+                    .expectStatus().isEqualTo(503)
+                    .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "5");
+            webTestClient.get().uri("/actuator/health/readiness").exchange()
+                    .expectStatus().isEqualTo(503)
+                    .expectBody().jsonPath("$.status").isEqualTo("OUT_OF_SERVICE");
+            webTestClient.get().uri("/api/health").exchange()
+                    .expectStatus().isOk();
+        } finally {
+            loadGate.release();
+        }
+
+        assertTrue(dataStartupService.awaitReady(Duration.ofSeconds(30)));
+        webTestClient.get().uri("/api/producers/award-intervals").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.min[0].producer").isEqualTo("Joel Silver")
+                .jsonPath("$.max[0].producer").isEqualTo("Matthew Vaughn");
+        webTestClient.get().uri("/actuator/health/readiness").exchange()
+                .expectStatus().isOk();
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.johnny.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários da negociação da compressão gzip pelo cabeçalho Accept-Encoding.
+ */
+class GoldenRaspberryControllerTest {
+
+    /**
+     * Testa que gzip é aceito quando mencionado sem fator ou com fator positivo.
+     */
+    @Test
+    void testGzipIsAccepted() {
+        assertTrue(GoldenRaspberryController.acceptsGzip("gzip"));
+        assertTrue(GoldenRaspberryController.acceptsGzip("deflate, GZIP, br"));
+        assertTrue(GoldenRaspberryController.acceptsGzip("gzip;q=0.5"));
+        assertTrue(GoldenRaspberryController.acceptsGzip("gzip ; Q = 1.0"));
+        assertTrue(GoldenRaspberryController.acceptsGzip("gzip;q=0.001"));
+    }
+
+    /**
+     * Testa que o fator zero recusa gzip em qualquer grafia numérica.
+     */
+    @Test
+    void testZeroQualityRefusesGzip() {
+        assertFalse(GoldenRaspberryController.acceptsGzip("gzip;q=0"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("gzip;q=0.0"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("gzip; q=0.000"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("br, gzip;q=0.00, deflate"));
+    }
+
+    /**
+     * Testa que o curinga vale apenas quando gzip não é mencionado.
+     */
+    @Test
+    void testWildcardAppliesWhenGzipIsNotListed() {
+        assertTrue(GoldenRaspberryController.acceptsGzip("*"));
+        assertTrue(GoldenRaspberryController.acceptsGzip("br, *;q=0.1"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("*;q=0"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("br, *;q=0.0"));
+        assertTrue(GoldenRaspberryController.acceptsGzip("gzip, *;q=0"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("gzip;q=0, *"));
+    }
+
+    /**
+     * Testa que cabeçalhos ausentes, sem gzip ou com fator inválido não aceitam gzip.
+     */
+    @Test
+    void testMissingOrInvalidHeaderRefusesGzip() {
+        assertFalse(GoldenRaspberryController.acceptsGzip(null));
+        assertFalse(GoldenRaspberryController.acceptsGzip(""));
+        assertFalse(GoldenRaspberryController.acceptsGzip("identity, br"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("gzip;q=abc"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("gzip;q=NaN"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("gzip;q=-1"));
+        assertFalse(GoldenRaspberryController.acceptsGzip("gzip;q=2"));
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.johnny.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes da duração máxima da listagem de filmes em NDJSON: com um prazo que termina logo
+ * após o primeiro filme, a listagem é encerrada com o cursor para continuar a leitura.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:movie-stream-deadline-test;DB_CLOSE_DELAY=-1",
+        "golden-raspberry.snapshot.enabled=false",
+        "golden-raspberry.movies.stream.max-duration=1ns"
+})
+@AutoConfigureMockMvc
+class MovieStreamDeadlineTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Testa que a listagem encerrada pelo prazo termina com o cursor, e que a leitura
+     * continuada a partir dele começa no filme seguinte.
+     */
+    @Test
+    void testStreamStoppedByDeadlineEndsWithCursor() throws Exception {
+        List<String> first = stream("/api/movies");
+        assertTrue(first.size() >= 2);
+        JsonNode lastMovie = objectMapper.readTree(first.get(first.size() - 2));
+        JsonNode marker = objectMapper.readTree(first.get(first.size() - 1));
+        assertTrue(marker.hasNonNull("nextCursor"));
+
+        List<String> next = stream("/api/movies?cursor=" + marker.get("nextCursor").asText());
+        JsonNode firstOfNext = objectMapper.readTree(next.get(0));
+        assertTrue(firstOfNext.get("year").asInt() > lastMovie.get("year").asInt()
+                || (firstOfNext.get("year").asInt() == lastMovie.get("year").asInt()
+                && firstOfNext.get("id").asLong() > lastMovie.get("id").asLong()));
+    }
+
+    private List<String> stream(String uri) throws Exception {
+        MvcResult open = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(open))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().lines().toList();
+    }
+}
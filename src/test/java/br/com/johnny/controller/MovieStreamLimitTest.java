@@ -0,0 +1,127 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.repository.MovieStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes dos limites da listagem de filmes em NDJSON: quantidade máxima de filmes e de
+ * listagens simultâneas. As listagens são mantidas abertas pelo MockMvc até o despacho
+ * assíncrono, o que permite ocupar a única permissão configurada.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:movie-stream-limit-test;DB_CLOSE_DELAY=-1",
+        "golden-raspberry.snapshot.enabled=false",
+        "golden-raspberry.movies.stream.max-concurrent=1",
+        "golden-raspberry.movies.stream.max-limit=50"
+})
+@AutoConfigureMockMvc
+class MovieStreamLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MovieStore movieStore;
+
+    /**
+     * Testa que uma listagem acima do limite simultâneo recebe 429 com Retry-After, e que a
+     * permissão é devolvida ao fim da listagem em andamento.
+     */
+    @Test
+    void testConcurrentStreamsAreRejectedUntilReleased() throws Exception {
+        MvcResult open = mockMvc.perform(get("/api/movies").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(get("/api/movies").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+
+        mockMvc.perform(asyncDispatch(open)).andExpect(status().isOk());
+
+        MvcResult next = mockMvc.perform(get("/api/movies").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(next)).andExpect(status().isOk());
+    }
+
+    /**
+     * Testa que a listagem sem limite é limitada ao máximo configurado, terminando com o
+     * cursor para continuar a leitura, e que limites acima do máximo são recusados.
+     */
+    @Test
+    void testStreamLimitIsCapped() throws Exception {
+        List<String> lines = stream("/api/movies");
+        assertEquals(51, lines.size());
+        assertTrue(objectMapper.readTree(lines.get(49)).has("id"));
+        assertTrue(objectMapper.readTree(lines.get(50)).hasNonNull("nextCursor"));
+
+        mockMvc.perform(get("/api/movies?limit=51").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Testa que a leitura continuada pelos cursores das listagens limitadas percorre todos
+     * os filmes uma única vez, e que a última listagem e uma listagem com limite igual à
+     * quantidade restante não trazem cursor.
+     */
+    @Test
+    void testCappedStreamCanBeContinued() throws Exception {
+        Set<Long> ids = new HashSet<>();
+        String cursor = null;
+        int streams = 0;
+        do {
+            List<String> lines = stream("/api/movies?limit=30" + (cursor != null ? "&cursor=" + cursor : ""));
+            cursor = null;
+            for (String line : lines) {
+                JsonNode node = objectMapper.readTree(line);
+                if (node.has("nextCursor")) {
+                    cursor = node.get("nextCursor").asText();
+                } else {
+                    assertTrue(ids.add(node.get("id").asLong()));
+                }
+            }
+            streams++;
+        } while (cursor != null);
+
+        assertEquals(movieStore.count(), ids.size());
+        assertEquals((ids.size() + 29) / 30, streams);
+
+        int winners = movieStore.findWinnerMoviesOrderedByYear().size();
+        List<String> exact = stream("/api/movies?winner=true&limit=" + winners);
+        assertEquals(winners, exact.size());
+        assertTrue(exact.stream().noneMatch(line -> line.contains("nextCursor")));
+    }
+
+    private List<String> stream(String uri) throws Exception {
+        MvcResult open = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(open))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().lines().toList();
+    }
+}
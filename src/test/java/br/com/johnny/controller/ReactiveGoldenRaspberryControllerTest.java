@@ -0,0 +1,89 @@
+package br.com.johnny.controller;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.model.Movie;
+import br.com.johnny.service.GoldenRaspberryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da variante reativa da API, executada sobre o WebFlux com a leitura dos
+ * vencedores por R2DBC.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.main.web-application-type=reactive",
+                "spring.datasource.url=jdbc:h2:mem:reactive-test;DB_CLOSE_DELAY=-1",
+                "golden-raspberry.reactive.pool-size=2",
+                "golden-raspberry.snapshot.enabled=false"
+        })
+class ReactiveGoldenRaspberryControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private GoldenRaspberryService goldenRaspberryService;
+
+    /**
+     * Testa que a resposta calculada pelo pipeline reativo tem o mesmo formato e o mesmo
+     * conteúdo da resposta do índice de intervalos, e que uma alteração dos dados é
+     * refletida na requisição seguinte.
+     */
+    @Test
+    void testReactiveResponseMatchesIndexAndFollowsChanges() {
+        AwardIntervalResponse response = getIntervals();
+        assertEquals(goldenRaspberryService.getProducerAwardIntervals(), response);
+        assertEquals(List.of(new ProducerAwardInterval("Joel Silver", 1, 1990, 1991)), response.getMin());
+
+        webTestClient.get().uri("/api/producers/award-intervals").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.min[0].producer").isEqualTo("Joel Silver")
+                .jsonPath("$.max[0].interval").isEqualTo(13)
+                .jsonPath("$.max[0].previousWin").isEqualTo(2002)
+                .jsonPath("$.max[0].followingWin").isEqualTo(2015);
+
+        goldenRaspberryService.addMovie(new Movie(1900, "Reactive First", "Studio", "Reactive Producer", true));
+        goldenRaspberryService.addMovie(new Movie(2020, "Reactive Second", "Studio", "Reactive Producer", true));
+
+        AwardIntervalResponse changed = getIntervals();
+        assertEquals(List.of(new ProducerAwardInterval("Reactive Producer", 120, 1900, 2020)), changed.getMax());
+        assertEquals(goldenRaspberryService.getProducerAwardIntervals(), changed);
+    }
+
+    /**
+     * Testa as consultas com parâmetros, os parâmetros inválidos e o health check.
+     */
+    @Test
+    void testParametersAndHealthCheck() {
+        webTestClient.get().uri("/api/producers/award-intervals?top=2").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.min.length()").isEqualTo(2);
+
+        webTestClient.get().uri("/api/producers/award-intervals?top=0").exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri("/api/producers/award-intervals?fromYear=2010&toYear=1990").exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get().uri("/api/health").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Golden Raspberry Awards API está funcionando!");
+    }
+
+    private AwardIntervalResponse getIntervals() {
+        return webTestClient.get().uri("/api/producers/award-intervals").exchange()
+                .expectStatus().isOk()
+                .expectBody(AwardIntervalResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,252 @@
+package br.com.johnny.jfr;
+
+import br.com.johnny.controller.ApiMediaTypes;
+import br.com.johnny.controller.BinaryFormatConfiguration;
+import br.com.johnny.controller.ProtobufResponseConverter;
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.ColumnarMovieStore;
+import br.com.johnny.repository.MovieBatchRepository;
+import br.com.johnny.service.IntervalQuery;
+import br.com.johnny.service.MovieCsvLoader;
+import br.com.johnny.service.ParallelMovieCsvLoader;
+import br.com.johnny.service.ProducerIntervalIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes dos eventos do JFR das etapas de carga e de cálculo dos intervalos e do perfil
+ * {@code jfr/golden-raspberry.jfc} que os habilita.
+ */
+class StageEventTest {
+
+    private static final List<String> EVENT_NAMES = List.of(
+            "br.com.johnny.CsvChunkParse",
+            "br.com.johnny.BatchPersist",
+            "br.com.johnny.WinnerQuery",
+            "br.com.johnny.ProducerExtraction",
+            "br.com.johnny.IntervalCalculation",
+            "br.com.johnny.ResponseBuild");
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Testa que o perfil distribuído habilita todos os eventos, sem pilha de chamadas.
+     */
+    @Test
+    void testBundledProfileEnablesAllEvents() throws Exception {
+        Map<String, String> settings = loadBundledProfile().getSettings();
+
+        for (String name : EVENT_NAMES) {
+            assertEquals("true", settings.get(name + "#enabled"), name);
+            assertEquals("false", settings.get(name + "#stackTrace"), name);
+            assertNotNull(settings.get(name + "#threshold"), name);
+        }
+    }
+
+    /**
+     * Testa os eventos da reconstrução do índice e do cálculo de uma consulta, com o
+     * conjunto de dados e as contagens.
+     */
+    @Test
+    void testIndexEmitsExtractionAndCalculationEvents() throws Exception {
+        ProducerIntervalIndex index = new ProducerIntervalIndex(new SimpleMeterRegistry(), "worst-screenplay");
+
+        List<RecordedEvent> events = record(() -> {
+            index.rebuild(List.of(
+                    winner(1, 1980, "Producer A"),
+                    winner(2, 1990, "Producer A and Producer B"),
+                    winner(3, 1991, "Producer B")));
+            index.query(new IntervalQuery(1, null, null));
+        });
+
+        RecordedEvent extraction = single(events, "br.com.johnny.ProducerExtraction");
+        assertEquals("worst-screenplay", extraction.getString("dataset"));
+        assertEquals(3, extraction.getLong("rows"));
+        assertEquals(2, extraction.getLong("producers"));
+        assertTrue(extraction.getLong("bytes") > 0);
+
+        RecordedEvent calculation = single(events, "br.com.johnny.IntervalCalculation");
+        assertEquals("worst-screenplay", calculation.getString("dataset"));
+        assertEquals(2, calculation.getLong("rows"));
+        assertTrue(calculation.getString("query").contains("top=1"));
+    }
+
+    /**
+     * Testa os eventos da carga sequencial sobre o banco: um evento de leitura por lote, que
+     * termina antes do evento de persistência do mesmo lote, sem sobreposição entre os dois.
+     */
+    @Test
+    void testSequentialLoadSeparatesParseFromPersist() throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:stage-event-test;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS movies");
+        jdbcTemplate.execute("CREATE TABLE movies (id BIGINT AUTO_INCREMENT PRIMARY KEY, year_movie INT NOT NULL, "
+                + "title VARCHAR(500) NOT NULL, studios VARCHAR(500), producers VARCHAR(500) NOT NULL, "
+                + "winner BOOLEAN NOT NULL)");
+        MovieBatchRepository batchRepository = new MovieBatchRepository(jdbcTemplate, new SimpleMeterRegistry());
+        ColumnarMovieStore movieStore = new ColumnarMovieStore() {
+            @Override
+            public void insertBatch(List<Movie> movies) {
+                batchRepository.insertBatch(movies);
+            }
+        };
+        MovieCsvLoader loader = new MovieCsvLoader(movieStore, 2);
+        String csv = """
+                year;title;studios;producers;winner
+                1980;Movie A;Studio;Producer A;yes
+                invalid;Movie B;Studio;Producer B;
+                1990;Movie C;Studio;Producer C;
+                1991;Movie D;Studio;Producer D;
+                1992;Movie E;Studio;Producer E;
+                """;
+
+        List<RecordedEvent> events = record(() -> loader.load(new StringReader(csv)));
+
+        List<RecordedEvent> chunks = byStartTime(events, "br.com.johnny.CsvChunkParse");
+        List<RecordedEvent> batches = byStartTime(events, "br.com.johnny.BatchPersist");
+        assertEquals(2, batches.size());
+        assertEquals(3, chunks.get(0).getLong("rows"));
+        assertEquals(1, chunks.get(0).getLong("rejected"));
+        assertEquals(2, chunks.get(1).getLong("rows"));
+        for (int i = 0; i < batches.size(); i++) {
+            RecordedEvent batch = batches.get(i);
+            assertEquals("insert", batch.getString("operation"));
+            assertEquals(2, batch.getLong("rows"));
+            assertFalse(chunks.get(i).getEndTime().isAfter(batch.getStartTime()),
+                    "A leitura do lote " + i + " deve terminar antes da persistência");
+        }
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movies", Long.class));
+    }
+
+    /**
+     * Testa os eventos da escrita das respostas de intervalos pelos conversores de mensagens,
+     * em JSON e em Protocol Buffers, com o formato e os bytes escritos.
+     */
+    @Test
+    void testConvertersEmitResponseBuildEvents() throws Exception {
+        AwardIntervalResponse response = new AwardIntervalResponse(
+                List.of(new ProducerAwardInterval("Producer A", 1, 1990, 1991)),
+                List.of(new ProducerAwardInterval("Producer B", 13, 2002, 2015)));
+        MockHttpOutputMessage json = new MockHttpOutputMessage();
+        MockHttpOutputMessage protobuf = new MockHttpOutputMessage();
+
+        List<RecordedEvent> events = record(() -> {
+            new BinaryFormatConfiguration().jsonHttpMessageConverter(new ObjectMapper())
+                    .write(response, MediaType.APPLICATION_JSON, json);
+            new ProtobufResponseConverter().write(response, ApiMediaTypes.PROTOBUF, protobuf);
+        });
+
+        List<RecordedEvent> builds = byStartTime(events, "br.com.johnny.ResponseBuild");
+        assertEquals(2, builds.size());
+        assertEquals("json", builds.get(0).getString("format"));
+        assertEquals(json.getBodyAsBytes().length, builds.get(0).getLong("bytes"));
+        assertEquals("protobuf", builds.get(1).getString("format"));
+        assertEquals(protobuf.getBodyAsBytes().length, builds.get(1).getLong("bytes"));
+        for (RecordedEvent build : builds) {
+            assertEquals(StageEvent.PRIMARY_DATASET, build.getString("dataset"));
+            assertEquals(2, build.getLong("rows"));
+        }
+    }
+
+    /**
+     * Testa os eventos da carga paralela: um evento de leitura por lote de cada bloco, com
+     * a posição e o tamanho do trecho lido. O armazenamento colunar não grava eventos de
+     * persistência; eles são verificados na carga sobre o banco.
+     */
+    @Test
+    void testParallelLoadEmitsChunkEvents() throws Exception {
+        Path csv = tempDir.resolve("movielist.csv");
+        Files.writeString(csv, """
+                year;title;studios;producers;winner
+                1980;Movie A;Studio;Producer A;yes
+                invalid;Movie B;Studio;Producer B;
+                1990;Movie C;Studio;Producer C;
+                """);
+        long headerBytes = "year;title;studios;producers;winner\n".length();
+        ParallelMovieCsvLoader loader = new ParallelMovieCsvLoader(new ColumnarMovieStore(), 1000, 1, 1 << 20);
+
+        List<RecordedEvent> events = record(() -> loader.load(csv));
+
+        RecordedEvent chunk = single(events, "br.com.johnny.CsvChunkParse");
+        assertEquals(StageEvent.PRIMARY_DATASET, chunk.getString("dataset"));
+        assertEquals(headerBytes, chunk.getLong("offset"));
+        assertEquals(Files.size(csv) - headerBytes, chunk.getLong("bytes"));
+        assertEquals(3, chunk.getLong("rows"));
+        assertEquals(1, chunk.getLong("rejected"));
+    }
+
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path file = tempDir.resolve("stages.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : EVENT_NAMES) {
+                recording.enable(name).withoutThreshold().withoutStackTrace();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> byStartTime(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+
+    private static Configuration loadBundledProfile() throws Exception {
+        try (InputStream input = StageEventTest.class.getResourceAsStream("/jfr/golden-raspberry.jfc")) {
+            assertNotNull(input, "Perfil jfr/golden-raspberry.jfc não encontrado");
+            try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+                return Configuration.create(reader);
+            }
+        }
+    }
+
+    private static Movie winner(long id, int year, String producers) {
+        Movie movie = new Movie(year, "Movie " + year, "Studio", producers, true);
+        movie.setId(id);
+        return movie;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
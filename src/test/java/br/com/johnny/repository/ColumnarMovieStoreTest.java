@@ -0,0 +1,151 @@
+package br.com.johnny.repository;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.model.Movie;
+import br.com.johnny.service.GoldenRaspberryService;
+import br.com.johnny.service.MovieCsvRecordParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do armazenamento em memória por colunas, com a aplicação configurada para
+ * usá-lo no lugar do armazenamento JPA.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "golden-raspberry.storage=columnar",
+                "spring.datasource.url=jdbc:h2:mem:columnar-test;DB_CLOSE_DELAY=-1"
+        })
+class ColumnarMovieStoreTest {
+
+    @Autowired
+    private MovieStore movieStore;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private GoldenRaspberryService goldenRaspberryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Testa que os filmes ficam apenas no armazenamento em memória e que os intervalos
+     * são os mesmos do armazenamento JPA.
+     */
+    @Test
+    void testIntervalsAreComputedFromColumns() {
+        assertInstanceOf(ColumnarMovieStore.class, movieStore);
+        assertEquals(0, movieRepository.count());
+        assertEquals(206, movieStore.count());
+
+        AwardIntervalResponse response = goldenRaspberryService.getProducerAwardIntervals();
+
+        assertEquals(List.of(new ProducerAwardInterval("Joel Silver", 1, 1990, 1991)), response.getMin());
+        assertEquals(List.of(new ProducerAwardInterval("Matthew Vaughn", 13, 2002, 2015)), response.getMax());
+    }
+
+    /**
+     * Testa que a paginação por chave percorre os filmes na ordem (ano, identificador)
+     * e que a leitura em fluxo retorna os mesmos filmes.
+     */
+    @Test
+    void testPaginationFollowsYearAndIdOrder() throws IOException {
+        MovieFilter filter = new MovieFilter(null, 2000, null, null, null);
+        List<String> expected = bundledMovies().stream()
+                .filter(movie -> movie.getYear() <= 2000)
+                .map(Movie::getTitle)
+                .toList();
+
+        List<String> paged = new ArrayList<>();
+        MovieCursor cursor = null;
+        List<Movie> page;
+        do {
+            page = movieStore.findPage(filter, cursor, 40);
+            page.forEach(movie -> paged.add(movie.getTitle()));
+            if (!page.isEmpty()) {
+                Movie last = page.get(page.size() - 1);
+                cursor = new MovieCursor(last.getYear(), last.getId());
+            }
+        } while (page.size() == 40);
+
+        List<String> streamed = new ArrayList<>();
+        movieStore.forEach(filter, null, null, movie -> streamed.add(movie.getTitle()));
+
+        assertEquals(expected, paged);
+        assertEquals(expected, streamed);
+    }
+
+    /**
+     * Testa os filtros de vencedor e de trecho do estúdio, sem distinção de maiúsculas.
+     */
+    @Test
+    void testFiltersMatchWinnerAndStudio() {
+        List<Movie> movies = movieStore.findPage(new MovieFilter(null, null, true, "tristar", null), null, 1000);
+
+        assertFalse(movies.isEmpty());
+        for (Movie movie : movies) {
+            assertTrue(movie.getWinner());
+            assertTrue(movie.getStudios().toLowerCase().contains("tristar"));
+        }
+    }
+
+    /**
+     * Testa que as alterações de uma transação não confirmada são desfeitas.
+     */
+    @Test
+    void testRollbackUndoesChanges() {
+        long countBefore = movieStore.count();
+        Movie updatedBefore = movieStore.findById(1L).orElseThrow();
+        Movie deletedBefore = movieStore.findById(2L).orElseThrow();
+        Movie inserted = new Movie(2040, "Rollback Movie", "Studio", "Rollback Producer", true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            movieStore.insertBatch(List.of(inserted));
+            Movie changed = new Movie(1999, "Changed Title", "Changed Studio", "Changed Producer", false);
+            changed.setId(1L);
+            movieStore.updateBatch(List.of(changed));
+            movieStore.deleteBatch(List.of(2L));
+            assertEquals(countBefore, movieStore.count());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(countBefore, movieStore.count());
+        assertTrue(movieStore.findById(inserted.getId()).isEmpty());
+        assertEquals(updatedBefore, movieStore.findById(1L).orElseThrow());
+        assertEquals(deletedBefore, movieStore.findById(2L).orElseThrow());
+        assertEquals(updatedBefore.getStudios(), movieStore.findById(1L).orElseThrow().getStudios());
+        assertEquals(updatedBefore.getWinner(), movieStore.findById(1L).orElseThrow().getWinner());
+    }
+
+    private static List<Movie> bundledMovies() throws IOException {
+        MovieCsvRecordParser parser = new MovieCsvRecordParser();
+        List<String> lines = Files.readAllLines(new ClassPathResource("movielist.csv").getFile().toPath(),
+                StandardCharsets.UTF_8);
+        List<Movie> movies = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            Movie movie = parser.parseLine(line);
+            if (movie != null) {
+                movie.setId((long) movies.size() + 1);
+                movies.add(movie);
+            }
+        }
+        movies.sort(Comparator.comparing(Movie::getYear));
+        return movies;
+    }
+}
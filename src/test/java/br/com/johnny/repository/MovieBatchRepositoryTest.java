@@ -0,0 +1,93 @@
+package br.com.johnny.repository;
+
+import br.com.johnny.model.Movie;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários da inclusão de filmes em lote via JDBC, sobre um banco H2 próprio.
+ */
+class MovieBatchRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private MovieBatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:movie-batch-test;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS movies");
+        jdbcTemplate.execute("CREATE TABLE movies (id BIGINT AUTO_INCREMENT PRIMARY KEY, year_movie INT NOT NULL, "
+                + "title VARCHAR(500) NOT NULL, studios VARCHAR(500), producers VARCHAR(500) NOT NULL, "
+                + "winner BOOLEAN NOT NULL)");
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new MovieBatchRepository(jdbcTemplate, meterRegistry);
+    }
+
+    /**
+     * Testa que o lote é incluído por inteiro e que cada filme recebe o identificador
+     * gerado para a sua própria linha.
+     */
+    @Test
+    void testInsertBatchAssignsGeneratedIds() {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            movies.add(new Movie(1980 + i, "Movie " + i, "Studio", "Producer " + i, i % 2 == 0));
+        }
+
+        repository.insertBatch(movies);
+
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movies", Integer.class));
+        for (Movie movie : movies) {
+            assertNotNull(movie.getId());
+            assertEquals(movie.getTitle(), jdbcTemplate.queryForObject(
+                    "SELECT title FROM movies WHERE id = ?", String.class, movie.getId()));
+        }
+        assertEquals(5, movies.stream().map(Movie::getId).distinct().count());
+    }
+
+    /**
+     * Testa que lotes seguintes continuam a sequência de identificadores e que o tamanho
+     * de cada lote é registrado na métrica.
+     */
+    @Test
+    void testConsecutiveBatchesContinueIdSequence() {
+        List<Movie> first = List.of(new Movie(1990, "First", "Studio", "Producer", true));
+        List<Movie> second = List.of(
+                new Movie(1991, "Second", "Studio", "Producer", false),
+                new Movie(1992, "Third", null, "Producer", true));
+
+        repository.insertBatch(first);
+        repository.insertBatch(second);
+
+        assertTrue(second.get(0).getId() > first.get(0).getId());
+        assertTrue(second.get(1).getId() > second.get(0).getId());
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT studios FROM movies WHERE id = ?", String.class, second.get(1).getId()));
+
+        DistributionSummary batchSize = meterRegistry.find("golden.raspberry.persistence.batch.size").summary();
+        assertEquals(2, batchSize.count());
+        assertEquals(3, batchSize.totalAmount());
+    }
+
+    /**
+     * Testa que um lote vazio não acessa o banco nem registra métricas.
+     */
+    @Test
+    void testEmptyBatchIsIgnored() {
+        repository.insertBatch(new ArrayList<>());
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movies", Integer.class));
+        assertEquals(0, meterRegistry.find("golden.raspberry.persistence.batch.size").summary().count());
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.johnny.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários da derivação da URL R2DBC a partir da URL JDBC do {@code DataSource}.
+ */
+class ReactiveWinnerRepositoryTest {
+
+    /**
+     * Testa que a URL R2DBC aponta para o mesmo banco em memória, sem as opções da URL JDBC.
+     */
+    @Test
+    void testR2dbcUrlPointsToDataSourceDatabase() {
+        assertEquals("r2dbc:pool:h2:mem:///testdb?maxSize=8",
+                ReactiveWinnerRepository.toR2dbcUrl("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE", 8));
+        assertEquals("r2dbc:pool:h2:mem:///reactive-test?maxSize=2",
+                ReactiveWinnerRepository.toR2dbcUrl("jdbc:h2:mem:reactive-test", 2));
+    }
+
+    /**
+     * Testa que bancos que não são H2 em memória, bancos sem nome e pools vazios
+     * interrompem a inicialização.
+     */
+    @Test
+    void testUnsupportedDataSourceFails() {
+        assertThrows(IllegalStateException.class,
+                () -> ReactiveWinnerRepository.toR2dbcUrl("jdbc:h2:file:./data/movies", 8));
+        assertThrows(IllegalStateException.class,
+                () -> ReactiveWinnerRepository.toR2dbcUrl("jdbc:postgresql://localhost/movies", 8));
+        assertThrows(IllegalStateException.class,
+                () -> ReactiveWinnerRepository.toR2dbcUrl("jdbc:h2:mem:;DB_CLOSE_DELAY=-1", 8));
+        assertThrows(IllegalStateException.class,
+                () -> ReactiveWinnerRepository.toR2dbcUrl("jdbc:h2:mem:testdb", 0));
+    }
+}
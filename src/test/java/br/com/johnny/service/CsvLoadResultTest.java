@@ -0,0 +1,53 @@
+package br.com.johnny.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do resultado de uma carga de CSV.
+ */
+class CsvLoadResultTest {
+
+    /**
+     * Testa o cálculo das vazões em registros e megabytes por segundo.
+     */
+    @Test
+    void testThroughputIsComputedFromElapsedTime() {
+        CsvLoadResult result = new CsvLoadResult(2_000, 1_990, 10, 2 * 1024 * 1024, 500_000_000L);
+
+        assertEquals(4_000, result.getRowsPerSecond(), 1e-9);
+        assertEquals(4, result.getMegabytesPerSecond(), 1e-9);
+    }
+
+    /**
+     * Testa que as vazões são zero quando a duração é zero ou o volume é desconhecido.
+     */
+    @Test
+    void testThroughputIsZeroWithoutElapsedTimeOrBytes() {
+        CsvLoadResult instant = new CsvLoadResult(10, 10, 0, 1024, 0);
+        CsvLoadResult unknownSize = new CsvLoadResult(10, 10, 0, 0, 1_000_000L);
+
+        assertEquals(0, instant.getRowsPerSecond());
+        assertEquals(0, instant.getMegabytesPerSecond());
+        assertEquals(0, unknownSize.getMegabytesPerSecond());
+        assertTrue(unknownSize.getRowsPerSecond() > 0);
+    }
+
+    /**
+     * Testa que a cópia com o volume lido preserva os demais valores e não altera o original.
+     */
+    @Test
+    void testWithBytesReadCopiesResult() {
+        CsvLoadResult original = new CsvLoadResult(5, 3, 2, 0, 1_000L);
+
+        CsvLoadResult copy = original.withBytesRead(4_096);
+
+        assertEquals(5, copy.getRowsRead());
+        assertEquals(3, copy.getMoviesLoaded());
+        assertEquals(2, copy.getRowsRejected());
+        assertEquals(4_096, copy.getBytesRead());
+        assertEquals(1_000L, copy.getElapsedNanos());
+        assertEquals(0, original.getBytesRead());
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.DatasetStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do registro de conjuntos de dados, validando a carga sob demanda
+ * e o descarte dos conjuntos usados há mais tempo quando o limite de memória é excedido.
+ */
+class DatasetRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        writeDataset("alpha", "Producer A", 1980, 1990);
+        writeDataset("beta", "Producer B", 2000, 2003);
+        writeDataset("gamma", "Producer C", 2010, 2011);
+        Files.writeString(directory.resolve("notes.txt"), "ignorado");
+    }
+
+    /**
+     * Testa que os conjuntos são registrados pelo nome do arquivo e só carregados no primeiro acesso.
+     */
+    @Test
+    void testDatasetsAreLoadedOnFirstAccess() throws IOException {
+        DatasetRegistry registry = registry(DataSize.ofMegabytes(16));
+
+        assertEquals(Set.of("alpha", "beta", "gamma"), registry.getDatasetNames());
+        assertTrue(registry.getStatus().stream().noneMatch(DatasetStatus::isLoaded));
+
+        AwardIntervalResponse response = registry.getProducerAwardIntervals("beta", IntervalQuery.defaultQuery())
+                .orElseThrow();
+
+        assertEquals("Producer B", response.getMin().get(0).getProducer());
+        assertEquals(3, response.getMin().get(0).getInterval());
+        assertEquals(List.of("beta"), loadedNames(registry));
+        assertEquals(1, meterRegistry.get("golden.raspberry.datasets.load").timer().count());
+    }
+
+    /**
+     * Testa que conjuntos desconhecidos não são carregados.
+     */
+    @Test
+    void testUnknownDatasetIsEmpty() throws IOException {
+        DatasetRegistry registry = registry(DataSize.ofMegabytes(16));
+
+        assertTrue(registry.getProducerAwardIntervals("notes", IntervalQuery.defaultQuery()).isEmpty());
+        assertTrue(registry.getProducerAwardIntervals("delta", IntervalQuery.defaultQuery()).isEmpty());
+    }
+
+    /**
+     * Testa que, acima do limite de memória, o conjunto usado há mais tempo é descartado
+     * e lido novamente no próximo acesso.
+     */
+    @Test
+    void testLeastRecentlyUsedDatasetIsEvicted() throws IOException {
+        DatasetRegistry probe = registry(DataSize.ofMegabytes(16));
+        probe.getProducerAwardIntervals("alpha", IntervalQuery.defaultQuery());
+        long datasetBytes = probe.getResidentBytes();
+
+        meterRegistry = new SimpleMeterRegistry();
+        DatasetRegistry registry = registry(DataSize.ofBytes(datasetBytes * 2 + datasetBytes / 2));
+        registry.getProducerAwardIntervals("alpha", IntervalQuery.defaultQuery());
+        registry.getProducerAwardIntervals("beta", IntervalQuery.defaultQuery());
+        registry.getProducerAwardIntervals("alpha", IntervalQuery.defaultQuery());
+        registry.getProducerAwardIntervals("gamma", IntervalQuery.defaultQuery());
+
+        assertEquals(List.of("alpha", "gamma"), loadedNames(registry));
+        assertEquals(1, meterRegistry.get("golden.raspberry.datasets.evictions").counter().count());
+        assertTrue(registry.getResidentBytes() <= datasetBytes * 2 + datasetBytes / 2);
+
+        registry.getProducerAwardIntervals("beta", IntervalQuery.defaultQuery());
+        assertEquals(4, meterRegistry.get("golden.raspberry.datasets.load").timer().count());
+    }
+
+    /**
+     * Testa que um conjunto maior que o limite continua disponível enquanto é o único carregado.
+     */
+    @Test
+    void testDatasetLargerThanBudgetStaysResident() throws IOException {
+        DatasetRegistry registry = registry(DataSize.ofBytes(1));
+
+        assertTrue(registry.getProducerAwardIntervals("alpha", IntervalQuery.defaultQuery()).isPresent());
+        assertTrue(registry.getProducerAwardIntervals("beta", IntervalQuery.defaultQuery()).isPresent());
+
+        assertEquals(List.of("beta"), loadedNames(registry));
+    }
+
+    private DatasetRegistry registry(DataSize memoryBudget) throws IOException {
+        return new DatasetRegistry(new PathMatchingResourcePatternResolver(),
+                List.of(directory.toUri() + "*.csv"), memoryBudget, meterRegistry);
+    }
+
+    private static List<String> loadedNames(DatasetRegistry registry) {
+        return registry.getStatus().stream()
+                .filter(DatasetStatus::isLoaded)
+                .map(DatasetStatus::getName)
+                .toList();
+    }
+
+    private void writeDataset(String name, String producer, int firstWin, int secondWin) throws IOException {
+        Files.writeString(directory.resolve(name + ".csv"),
+                "year;title;studios;producers;winner\n"
+                        + firstWin + ";First;Studio;" + producer + ";yes\n"
+                        + (firstWin + 1) + ";Nominee;Studio;Someone Else;\n"
+                        + secondWin + ";Second;Studio;" + producer + ";yes\n");
+    }
+}
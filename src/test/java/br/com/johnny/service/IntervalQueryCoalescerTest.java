@@ -0,0 +1,157 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.model.Movie;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários da coalescência das consultas de intervalos concorrentes.
+ */
+class IntervalQueryCoalescerTest {
+
+    private static final IntervalQuery TOP_QUERY = new IntervalQuery(2, null, null);
+
+    private final AtomicInteger computations = new AtomicInteger();
+    private final AtomicBoolean failNext = new AtomicBoolean();
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CountingIndex index;
+    private IntervalQueryCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new CountingIndex();
+        index.rebuild(List.of(
+                winner(1980, "Producer A"),
+                winner(1990, "Producer A and Producer B"),
+                winner(1991, "Producer B")));
+        coalescer = new IntervalQueryCoalescer(index, true, 16, meterRegistry);
+    }
+
+    /**
+     * Testa que chamadas concorrentes com os mesmos parâmetros compartilham um único cálculo.
+     */
+    @Test
+    void testConcurrentCallersShareOneComputation() throws Exception {
+        int callers = 8;
+        gate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<AwardIntervalResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                responses.add(executor.submit(() -> coalescer.query(TOP_QUERY)));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (count("computed") + count("coalesced") < callers && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            gate.countDown();
+
+            AwardIntervalResponse expected = responses.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<AwardIntervalResponse> response : responses) {
+                assertSame(expected, response.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(1, count("computed"));
+        assertEquals(callers - 1, count("coalesced"));
+    }
+
+    /**
+     * Testa que o resultado é reaproveitado até a versão dos dados mudar.
+     */
+    @Test
+    void testResultIsReusedUntilDataChanges() {
+        AwardIntervalResponse first = coalescer.query(TOP_QUERY);
+        assertSame(first, coalescer.query(TOP_QUERY));
+        assertEquals(1, computations.get());
+        assertEquals(1, count("reused"));
+
+        index.addMovie(winner(1985, "Producer A"));
+
+        AwardIntervalResponse changed = coalescer.query(TOP_QUERY);
+        assertNotEquals(first, changed);
+        assertEquals(2, computations.get());
+    }
+
+    /**
+     * Testa que consultas com parâmetros distintos não compartilham o resultado.
+     */
+    @Test
+    void testDistinctQueriesAreComputedSeparately() {
+        coalescer.query(TOP_QUERY);
+        coalescer.query(new IntervalQuery(1, null, null));
+
+        assertEquals(2, computations.get());
+        assertEquals(0, count("reused"));
+    }
+
+    /**
+     * Testa que falhas não são guardadas e a chamada seguinte calcula novamente.
+     */
+    @Test
+    void testFailureIsNotRetained() {
+        failNext.set(true);
+        assertThrows(IllegalStateException.class, () -> coalescer.query(TOP_QUERY));
+
+        assertNotNull(coalescer.query(TOP_QUERY));
+        assertEquals(2, computations.get());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("golden.raspberry.intervals.coalescing").tag("result", result).counter().count();
+    }
+
+    private static Movie winner(int year, String producers) {
+        Movie movie = new Movie(year, "Movie " + year, "Studio", producers, true);
+        movie.setId((long) (year * 31 + producers.hashCode()));
+        return movie;
+    }
+
+    /**
+     * Índice que conta os cálculos e permite reter o cálculo em andamento ou simular falhas.
+     */
+    private final class CountingIndex extends ProducerIntervalIndex {
+
+        CountingIndex() {
+            super(new SimpleMeterRegistry());
+        }
+
+        @Override
+        public AwardIntervalResponse query(IntervalQuery query) {
+            computations.incrementAndGet();
+            try {
+                if (!gate.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Cálculo retido além do esperado");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("Falha simulada");
+            }
+            return super.query(query);
+        }
+    }
+}
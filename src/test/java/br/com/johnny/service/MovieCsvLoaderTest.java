@@ -0,0 +1,128 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.ColumnarMovieStore;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários da carga sequencial de CSV, sobre o armazenamento em memória.
+ */
+class MovieCsvLoaderTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    /**
+     * Armazenamento que registra o tamanho de cada lote recebido.
+     */
+    private static final class CountingStore extends ColumnarMovieStore {
+
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public void insertBatch(List<Movie> movies) {
+            batchSizes.add(movies.size());
+            super.insertBatch(movies);
+        }
+    }
+
+    /**
+     * Testa que os filmes são persistidos em lotes do tamanho configurado, com o restante
+     * no último lote, e que o observador recebe os filmes com identificador e o total de
+     * registros lidos até cada lote.
+     */
+    @Test
+    void testMoviesAreFlushedInBatches() throws Exception {
+        CountingStore store = new CountingStore();
+        List<Long> rowsReadAtBatch = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+
+        CsvLoadResult result = new MovieCsvLoader(store, 3).load(new StringReader(csv(7)), (batch, rowsRead) -> {
+            rowsReadAtBatch.add(rowsRead);
+            batch.forEach(movie -> ids.add(movie.getId()));
+        });
+
+        assertEquals(List.of(3, 3, 1), store.batchSizes);
+        assertEquals(List.of(3L, 6L, 7L), rowsReadAtBatch);
+        assertEquals(7, ids.size());
+        assertFalse(ids.contains(null));
+        assertEquals(7, store.count());
+        assertEquals(7, result.getRowsRead());
+        assertEquals(7, result.getMoviesLoaded());
+        assertEquals(0, result.getRowsRejected());
+    }
+
+    /**
+     * Testa que uma quantidade de filmes múltipla do lote termina com um lote vazio, que
+     * não inclui filmes.
+     */
+    @Test
+    void testExactMultipleEndsWithEmptyBatch() throws Exception {
+        CountingStore store = new CountingStore();
+
+        CsvLoadResult result = new MovieCsvLoader(store, 2).load(new StringReader(csv(4)));
+
+        assertEquals(List.of(2, 2, 0), store.batchSizes);
+        assertEquals(4, result.getMoviesLoaded());
+        assertEquals(4, store.count());
+    }
+
+    /**
+     * Testa que os registros inválidos são descartados e contados como rejeitados, sem
+     * ocupar espaço no lote.
+     */
+    @Test
+    void testInvalidRowsAreRejected() throws Exception {
+        CountingStore store = new CountingStore();
+        String csv = HEADER +
+                "1980;Movie A;Studio;Producer A;yes\n" +
+                "abc;Invalid Year;Studio;Producer B;\n" +
+                "1981;Missing Fields\n" +
+                "1982;Movie D;Studio;Producer D;\n" +
+                "1983;Movie E;Studio;Producer E;yes\n";
+
+        CsvLoadResult result = new MovieCsvLoader(store, 2).load(new StringReader(csv));
+
+        assertEquals(List.of(2, 1), store.batchSizes);
+        assertEquals(5, result.getRowsRead());
+        assertEquals(3, result.getMoviesLoaded());
+        assertEquals(2, result.getRowsRejected());
+        assertEquals(0, result.getBytesRead());
+    }
+
+    /**
+     * Testa que um arquivo só com o cabeçalho não inclui filmes.
+     */
+    @Test
+    void testHeaderOnlyLoadsNothing() throws Exception {
+        CountingStore store = new CountingStore();
+
+        CsvLoadResult result = new MovieCsvLoader(store, 10).load(new StringReader(HEADER));
+
+        assertEquals(List.of(0), store.batchSizes);
+        assertEquals(0, result.getRowsRead());
+        assertEquals(0, result.getMoviesLoaded());
+        assertFalse(store.existsAny());
+    }
+
+    /**
+     * Testa que o tamanho do lote deve ser positivo.
+     */
+    @Test
+    void testNonPositiveBatchSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MovieCsvLoader(new ColumnarMovieStore(), 0));
+    }
+
+    private static String csv(int movies) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < movies; i++) {
+            csv.append(1980 + i).append(";Movie ").append(i).append(";Studio;Producer ").append(i).append(";\n");
+        }
+        return csv.toString();
+    }
+}
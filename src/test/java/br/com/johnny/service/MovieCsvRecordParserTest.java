@@ -0,0 +1,63 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+import com.opencsv.CSVParser;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do conversor de registros do CSV, garantindo que a separação
+ * direta de campos produz o mesmo resultado do OpenCSV usado na carga sequencial.
+ */
+class MovieCsvRecordParserTest {
+
+    private final MovieCsvRecordParser recordParser = new MovieCsvRecordParser();
+    private final CSVParser openCsvParser = MovieCsvRecordParser.newCsvParser();
+
+    /**
+     * Testa que os campos separados coincidem com os do OpenCSV.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1980;Can't Stop the Music;Associated Film Distribution;Allan Carr;yes",
+            "1980;Cruising;Lorimar Productions, United Artists;Jerry Weintraub;",
+            "1980;\"Quoted; title\";Studio;Producer;yes",
+            "1980;Title;Studio",
+            "x;;;;",
+            " ; ;",
+            ""
+    })
+    void testSplitLineMatchesOpenCsv(String line) throws IOException {
+        assertArrayEquals(openCsvParser.parseLine(line), recordParser.splitLine(line));
+    }
+
+    /**
+     * Testa que registros com poucos campos, ano não numérico ou ano fora do intervalo
+     * aceito são descartados.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"1980;Title;Studio", "year;Title;Studio;Producer;yes", "",
+            "2000000000;Title;Studio;Producer;yes", "0;Title;Studio;Producer;yes", "-1980;Title;Studio;Producer;yes"})
+    void testInvalidRecordsAreRejected(String line) {
+        assertNull(recordParser.parseLine(line));
+    }
+
+    /**
+     * Testa a conversão de um registro válido.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"1986; Howard the Duck ;Universal Studios;Gloria Katz;YES"})
+    void testValidRecordIsParsed(String line) {
+        Movie movie = recordParser.parseLine(line);
+
+        assertNotNull(movie);
+        assertEquals(1986, movie.getYear());
+        assertEquals("Howard the Duck", movie.getTitle());
+        assertEquals("Gloria Katz", movie.getProducers());
+        assertTrue(movie.getWinner());
+    }
+}
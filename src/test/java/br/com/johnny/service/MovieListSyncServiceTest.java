@@ -0,0 +1,135 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ImportJobState;
+import br.com.johnny.dto.ImportJobStatus;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da sincronização incremental com o arquivo observado, com banco próprio
+ * para que as alterações não afetem os demais testes. A observação é ativada sobre um
+ * diretório inexistente, para que os filmes da carga inicial sejam registrados sem que o
+ * observador sincronize o arquivo por conta própria.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:sync-test;DB_CLOSE_DELAY=-1",
+                "golden-raspberry.watch.enabled=true",
+                "golden-raspberry.watch.path=missing-sync-test-directory/movielist.csv"
+        })
+class MovieListSyncServiceTest {
+
+    @Autowired
+    private MovieListSyncService movieListSyncService;
+
+    @Autowired
+    private MovieImportService movieImportService;
+
+    @Autowired
+    private ProducerIntervalIndex producerIntervalIndex;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Testa que apenas as linhas incluídas, alteradas e removidas são aplicadas
+     * ao banco e ao índice de intervalos.
+     */
+    @Test
+    void testSynchronizeAppliesOnlyChangedRows() throws IOException {
+        List<String> lines = new ArrayList<>(Files.readAllLines(
+                new ClassPathResource("movielist.csv").getFile().toPath(), StandardCharsets.UTF_8));
+        Path file = directory.resolve("movielist.csv");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        long moviesBefore = movieRepository.count();
+
+        MovieListSyncResult unchanged = movieListSyncService.synchronize(file);
+        assertFalse(unchanged.hasChanges());
+
+        lines.set(lines.indexOf("1989;Road House;United Artists;Joel Silver;"),
+                "1989;Road House;United Artists;Joel Silver;yes");
+        lines.remove("1991;Hudson Hawk;TriStar Pictures;Joel Silver;yes");
+        lines.add("2030;Sync Movie;Sync Studio;Matthew Vaughn;yes");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+
+        MovieListSyncResult result = movieListSyncService.synchronize(file);
+
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getDeleted());
+        assertEquals(moviesBefore, movieRepository.count());
+
+        AwardIntervalResponse response = producerIntervalIndex.getResponse();
+        assertTrue(response.getMin().contains(new ProducerAwardInterval("Joel Silver", 1, 1989, 1990)));
+        assertFalse(response.getMin().contains(new ProducerAwardInterval("Joel Silver", 1, 1990, 1991)));
+        assertEquals(List.of(new ProducerAwardInterval("Matthew Vaughn", 15, 2015, 2030)), response.getMax());
+
+        assertFalse(movieListSyncService.synchronize(file).hasChanges());
+    }
+
+    /**
+     * Testa que os filmes importados pela API não fazem parte do arquivo observado e
+     * permanecem cadastrados após as sincronizações.
+     */
+    @Test
+    void testImportedMoviesSurviveSynchronization() throws Exception {
+        String csv = "year;title;studios;producers;winner\n" +
+                "2040;Imported Sync Movie A;Studio;Imported Sync Producer;yes\n" +
+                "2043;Imported Sync Movie B;Studio;Imported Sync Producer;yes\n";
+        byte[] content = csv.getBytes(StandardCharsets.UTF_8);
+        ImportJobStatus status = awaitImport(
+                movieImportService.submit(new ByteArrayInputStream(content), content.length).getId());
+        assertEquals(ImportJobState.COMPLETED, status.getState());
+
+        List<String> lines = new ArrayList<>(Files.readAllLines(
+                new ClassPathResource("movielist.csv").getFile().toPath(), StandardCharsets.UTF_8));
+        Path file = directory.resolve("movielist.csv");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        movieListSyncService.synchronize(file);
+
+        lines.add("2031;Sync After Import Movie;Sync Studio;Sync Producer;");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        MovieListSyncResult result = movieListSyncService.synchronize(file);
+
+        assertEquals(1, result.getInserted());
+        assertEquals(0, result.getDeleted());
+        List<String> titles = movieRepository.findAll().stream().map(Movie::getTitle).toList();
+        assertTrue(titles.contains("Imported Sync Movie A"));
+        assertTrue(titles.contains("Imported Sync Movie B"));
+        assertTrue(titles.contains("Sync After Import Movie"));
+        assertTrue(producerIntervalIndex.query(new IntervalQuery(null, 3, 3)).getMin()
+                .contains(new ProducerAwardInterval("Imported Sync Producer", 3, 2040, 2043)));
+    }
+
+    private ImportJobStatus awaitImport(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        ImportJobStatus status = movieImportService.getStatus(id).orElseThrow();
+        while (status.getState() == ImportJobState.QUEUED || status.getState() == ImportJobState.RUNNING) {
+            assertTrue(System.nanoTime() < deadline, "A importação não foi concluída no prazo");
+            Thread.sleep(50);
+            status = movieImportService.getStatus(id).orElseThrow();
+        }
+        return status;
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.MovieRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da observação do arquivo CSV externo: sincronização inicial, agrupamento das
+ * gravações em sequência, substituição do arquivo por renomeação e diretório inexistente.
+ * Usa banco próprio para que as alterações não afetem os demais testes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:watch-test;DB_CLOSE_DELAY=-1",
+                "golden-raspberry.snapshot.enabled=false",
+                "golden-raspberry.watch.enabled=true",
+                "golden-raspberry.watch.debounce-ms=" + MovieListWatcherTest.DEBOUNCE_MILLIS
+        })
+class MovieListWatcherTest {
+
+    static final long DEBOUNCE_MILLIS = 300;
+    private static final long TIMEOUT_MILLIS = 15_000;
+    private static final String INITIAL_MOVIE = "2031;Watch Initial Movie;Watch Studio;Watch Producer;";
+
+    private static Path directory;
+
+    @Autowired
+    private MovieListWatcher movieListWatcher;
+
+    @Autowired
+    private MovieListSyncService movieListSyncService;
+
+    @Autowired
+    private DataStartupService dataStartupService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void watchedFile(DynamicPropertyRegistry registry) throws IOException {
+        directory = Files.createTempDirectory("movie-list-watcher-test");
+        Path file = directory.resolve("movielist.csv");
+        try (InputStream bundled = new ClassPathResource("movielist.csv").getInputStream()) {
+            Files.copy(bundled, file);
+        }
+        Files.writeString(file, INITIAL_MOVIE + "\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        registry.add("golden-raspberry.watch.path", file::toString);
+    }
+
+    @AfterAll
+    static void deleteDirectory() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    /**
+     * Testa que a observação começa com uma sincronização, que aplica o conteúdo do arquivo
+     * existente antes de qualquer alteração.
+     */
+    @Test
+    void testInitialSynchronizationAppliesFileContent() throws InterruptedException {
+        assertTrue(movieListWatcher.isWatching());
+        awaitCondition(() -> syncCount() >= 1);
+
+        assertTrue(hasMovie("Watch Initial Movie"));
+    }
+
+    /**
+     * Testa que várias gravações dentro do intervalo sem eventos resultam em uma única
+     * sincronização, com o conteúdo final do arquivo.
+     */
+    @Test
+    void testBurstOfWritesIsSynchronizedOnce() throws Exception {
+        awaitCondition(() -> syncCount() >= 1);
+        Thread.sleep(DEBOUNCE_MILLIS * 2);
+        long before = syncCount();
+
+        Path file = directory.resolve("movielist.csv");
+        for (int i = 1; i <= 5; i++) {
+            Files.writeString(file, "2032;Watch Burst Movie " + i + ";Watch Studio;Watch Producer;\n",
+                    StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            Thread.sleep(DEBOUNCE_MILLIS / 10);
+        }
+
+        awaitCondition(() -> syncCount() > before);
+        Thread.sleep(DEBOUNCE_MILLIS * 3);
+        assertEquals(before + 1, syncCount());
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(hasMovie("Watch Burst Movie " + i));
+        }
+    }
+
+    /**
+     * Testa que a substituição do arquivo por renomeação, usada por editores e ferramentas
+     * de cópia, é sincronizada.
+     */
+    @Test
+    void testReplacementByRenameIsSynchronized() throws Exception {
+        awaitCondition(() -> syncCount() >= 1);
+        Thread.sleep(DEBOUNCE_MILLIS * 2);
+        long before = syncCount();
+        Path file = directory.resolve("movielist.csv");
+        Path replacement = directory.resolve("movielist.csv.tmp");
+
+        String content = Files.readString(file, StandardCharsets.UTF_8)
+                + "2033;Watch Renamed Movie;Watch Studio;Watch Producer;\n";
+        Files.writeString(replacement, content, StandardCharsets.UTF_8);
+        Files.move(replacement, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        awaitCondition(() -> syncCount() > before);
+        assertTrue(hasMovie("Watch Renamed Movie"));
+    }
+
+    /**
+     * Testa que um diretório inexistente desativa a observação sem falhar.
+     */
+    @Test
+    void testMissingDirectoryDisablesWatching() {
+        MovieListWatcher watcher = new MovieListWatcher(movieListSyncService, dataStartupService,
+                directory.resolve("missing").resolve("movielist.csv").toString(), DEBOUNCE_MILLIS);
+
+        assertDoesNotThrow(watcher::start);
+        assertFalse(watcher.isWatching());
+        assertDoesNotThrow(watcher::stop);
+    }
+
+    private long syncCount() {
+        Timer timer = meterRegistry.find("golden.raspberry.watch.sync").timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private boolean hasMovie(String title) {
+        return movieRepository.findAll().stream().map(Movie::getTitle).anyMatch(title::equals);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condição não atingida no prazo");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do snapshot binário dos filmes: gravação, leitura mapeada em memória,
+ * reconstrução do índice de intervalos e rejeição de arquivos corrompidos.
+ */
+class MovieSnapshotTest {
+
+    private static final List<Movie> MOVIES = List.of(
+            movie(1L, 1980, "Movie A", "Studio", "Producer A", true),
+            movie(2L, 1985, "Movie B", null, "Producer A", false),
+            movie(3L, 1990, "Movie C", "Studio", "Producer A and Producer B", true),
+            movie(5L, 1991, "Movie Ç", "Other Studio", "Producer B, Producer C", true),
+            movie(8L, 2000, "Movie E", "Studio", "Producer C", true));
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Testa que os filmes lidos do snapshot são iguais aos gravados, com os identificadores.
+     */
+    @Test
+    void testWriteAndOpenRoundTrip() throws IOException {
+        Path file = write(MOVIES, 123L, 456L);
+
+        MovieSnapshot snapshot = MovieSnapshot.open(file);
+
+        assertEquals(123L, snapshot.getSourceSize());
+        assertEquals(456L, snapshot.getSourceChecksum());
+        assertEquals(MOVIES.size(), snapshot.size());
+        for (int i = 0; i < MOVIES.size(); i++) {
+            Movie expected = MOVIES.get(i);
+            Movie actual = snapshot.movieAt(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getYear(), actual.getYear());
+            assertEquals(expected.getTitle(), actual.getTitle());
+            assertEquals(expected.getStudios(), actual.getStudios());
+            assertEquals(expected.getProducers(), actual.getProducers());
+            assertEquals(expected.getWinner(), actual.getWinner());
+        }
+        assertEquals(0, snapshot.producerCountAt(1));
+        assertEquals(2, snapshot.producerCountAt(3));
+    }
+
+    /**
+     * Testa que o índice reconstruído a partir do snapshot equivale ao reconstruído a partir dos filmes.
+     */
+    @Test
+    void testRebuildFromSnapshotMatchesRebuildFromMovies() throws IOException {
+        ProducerIntervalIndex fromMovies = new ProducerIntervalIndex(new SimpleMeterRegistry());
+        fromMovies.rebuild(MOVIES.stream().filter(Movie::getWinner).toList());
+        ProducerIntervalIndex fromSnapshot = new ProducerIntervalIndex(new SimpleMeterRegistry());
+        fromSnapshot.rebuildFromSnapshot(MovieSnapshot.open(write(MOVIES, 1L, 1L)));
+
+        assertEquals(fromMovies.getResponse(), fromSnapshot.getResponse());
+
+        fromSnapshot.removeMovie(MOVIES.get(2));
+        fromMovies.removeMovie(MOVIES.get(2));
+        assertEquals(fromMovies.getResponse(), fromSnapshot.getResponse());
+    }
+
+    /**
+     * Testa que um snapshot com conteúdo alterado é rejeitado pela soma de verificação.
+     */
+    @Test
+    void testCorruptedSnapshotIsRejected() throws IOException {
+        Path file = write(MOVIES, 1L, 1L);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), 60);
+        }
+
+        IOException exception = assertThrows(IOException.class, () -> MovieSnapshot.open(file));
+        assertTrue(exception.getMessage().contains("Soma de verificação"));
+    }
+
+    /**
+     * Testa que um snapshot de outro arquivo de origem é ignorado pelo armazenamento.
+     */
+    @Test
+    void testSnapshotOfOtherSourceIsIgnored() throws IOException {
+        Path file = directory.resolve("movies.snapshot");
+        MovieSnapshotStore store = new MovieSnapshotStore(true, file.toString(),
+                new SimpleMeterRegistry());
+        MovieSnapshot.Writer writer = MovieSnapshot.writer();
+        MOVIES.forEach(writer::add);
+        store.save(writer, new MovieSnapshotStore.SourceFingerprint(10L, 20L));
+
+        assertTrue(store.openIfCurrent(new MovieSnapshotStore.SourceFingerprint(10L, 20L)).isPresent());
+        assertTrue(store.openIfCurrent(new MovieSnapshotStore.SourceFingerprint(10L, 21L)).isEmpty());
+        assertTrue(Files.isRegularFile(file));
+    }
+
+    private Path write(List<Movie> movies, long sourceSize, long sourceChecksum) throws IOException {
+        MovieSnapshot.Writer writer = MovieSnapshot.writer();
+        movies.forEach(writer::add);
+        Path file = directory.resolve("movies.snapshot");
+        writer.writeTo(file, sourceSize, sourceChecksum);
+        return file;
+    }
+
+    private static Movie movie(long id, int year, String title, String studios, String producers, boolean winner) {
+        Movie movie = new Movie(year, title, studios, producers, winner);
+        movie.setId(id);
+        return movie;
+    }
+}
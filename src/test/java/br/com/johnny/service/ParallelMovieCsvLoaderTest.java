@@ -0,0 +1,81 @@
+package br.com.johnny.service;
+
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.ColumnarMovieStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do carregador paralelo de CSV, sobre o armazenamento em memória.
+ */
+class ParallelMovieCsvLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Testa que a carga em vários blocos obtém os mesmos totais da carga sequencial e
+     * informa o tamanho do arquivo.
+     */
+    @Test
+    void testParallelLoadMatchesSequentialLoad() throws Exception {
+        Path csv = writeCsv(2_000);
+
+        ColumnarMovieStore parallelStore = new ColumnarMovieStore();
+        CsvLoadResult parallel = new ParallelMovieCsvLoader(parallelStore, 100, 4, 4_096).load(csv);
+        CsvLoadResult sequential = new MovieCsvLoader(new ColumnarMovieStore(), 100)
+                .load(new StringReader(Files.readString(csv)));
+
+        assertEquals(2_001, parallel.getRowsRead());
+        assertEquals(sequential.getMoviesLoaded(), parallel.getMoviesLoaded());
+        assertEquals(sequential.getRowsRejected(), parallel.getRowsRejected());
+        assertEquals(Files.size(csv), parallel.getBytesRead());
+        assertEquals(2_000, parallelStore.count());
+    }
+
+    /**
+     * Testa que a falha de um lote interrompe os demais blocos e remove os filmes já
+     * incluídos, sem deixar uma carga parcial.
+     */
+    @Test
+    void testFailedBatchRemovesPartialLoad() throws Exception {
+        Path csv = writeCsv(2_000);
+        AtomicInteger batches = new AtomicInteger();
+        ColumnarMovieStore store = new ColumnarMovieStore() {
+            @Override
+            public void insertBatch(List<Movie> movies) {
+                if (batches.incrementAndGet() == 5) {
+                    throw new IllegalStateException("Falha simulada do lote");
+                }
+                super.insertBatch(movies);
+            }
+        };
+
+        ParallelMovieCsvLoader loader = new ParallelMovieCsvLoader(store, 50, 4, 4_096);
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> loader.load(csv));
+        assertEquals("Falha simulada do lote", failure.getMessage());
+        assertEquals(0, store.count());
+        assertFalse(store.existsAny());
+    }
+
+    private Path writeCsv(int movies) throws Exception {
+        StringBuilder csv = new StringBuilder("year;title;studios;producers;winner\n");
+        for (int i = 0; i < movies; i++) {
+            csv.append(1950 + i % 70).append(";Movie ").append(i).append(";Studio;Producer ")
+                    .append(i % 40).append(';').append(i % 7 == 0 ? "yes" : "").append('\n');
+        }
+        csv.append("invalid;Movie;Studio;Producer;\n");
+        Path file = tempDir.resolve("movielist.csv");
+        Files.writeString(file, csv);
+        return file;
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.johnny.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do dicionário de produtores.
+ */
+class ProducerDictionaryTest {
+
+    /**
+     * Testa que os identificadores são sequenciais na ordem de registro e que o nome é
+     * recuperado a partir do identificador.
+     */
+    @Test
+    void testIdsAreSequential() {
+        ProducerDictionary dictionary = new ProducerDictionary();
+
+        assertEquals(0, dictionary.idOf("Joel Silver"));
+        assertEquals(1, dictionary.idOf("Matthew Vaughn"));
+        assertEquals(2, dictionary.idOf("Bo Derek"));
+
+        assertEquals(3, dictionary.size());
+        assertEquals("Joel Silver", dictionary.nameOf(0));
+        assertEquals("Matthew Vaughn", dictionary.nameOf(1));
+        assertEquals("Bo Derek", dictionary.nameOf(2));
+    }
+
+    /**
+     * Testa que o identificador de um nome não muda com a inclusão de outros nomes nem
+     * com novos registros do mesmo nome.
+     */
+    @Test
+    void testIdsAreStableAcrossInserts() {
+        ProducerDictionary dictionary = new ProducerDictionary();
+        int joel = dictionary.idOf("Joel Silver");
+
+        for (int i = 0; i < 1_000; i++) {
+            dictionary.idOf("Producer " + i);
+        }
+
+        assertEquals(joel, dictionary.idOf("Joel Silver"));
+        assertEquals(joel, dictionary.findId("Joel Silver"));
+        assertEquals("Joel Silver", dictionary.nameOf(joel));
+        assertEquals(1_001, dictionary.size());
+    }
+
+    /**
+     * Testa que a consulta de um nome não registrado não o registra.
+     */
+    @Test
+    void testFindIdDoesNotRegister() {
+        ProducerDictionary dictionary = new ProducerDictionary();
+        dictionary.idOf("Joel Silver");
+
+        assertEquals(-1, dictionary.findId("Matthew Vaughn"));
+        assertEquals(1, dictionary.size());
+    }
+
+    /**
+     * Testa que os nomes são distinguidos exatamente, sem normalização.
+     */
+    @Test
+    void testNamesAreCaseSensitive() {
+        ProducerDictionary dictionary = new ProducerDictionary();
+
+        assertNotEquals(dictionary.idOf("Joel Silver"), dictionary.idOf("joel silver"));
+        assertEquals(2, dictionary.size());
+    }
+
+    /**
+     * Testa que a limpeza remove os nomes e reinicia a numeração.
+     */
+    @Test
+    void testClearRestartsIds() {
+        ProducerDictionary dictionary = new ProducerDictionary();
+        dictionary.idOf("Joel Silver");
+        dictionary.idOf("Matthew Vaughn");
+
+        dictionary.clear();
+
+        assertEquals(0, dictionary.size());
+        assertEquals(0, dictionary.estimateRetainedBytes());
+        assertEquals(-1, dictionary.findId("Joel Silver"));
+        assertEquals(0, dictionary.idOf("Matthew Vaughn"));
+    }
+}
@@ -0,0 +1,291 @@
+package br.com.johnny.service;
+
+import br.com.johnny.dto.AwardIntervalResponse;
+import br.com.johnny.dto.ProducerAwardInterval;
+import br.com.johnny.dto.ProducerWinsResponse;
+import br.com.johnny.model.Movie;
+import br.com.johnny.repository.WinnerMovieRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do índice de intervalos de prêmios dos produtores,
+ * validando a manutenção incremental dos intervalos mínimos e máximos.
+ */
+class ProducerIntervalIndexTest {
+
+    private ProducerIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProducerIntervalIndex(new SimpleMeterRegistry());
+        index.rebuild(List.of(
+                winner(1980, "Producer A"),
+                winner(1990, "Producer A and Producer B"),
+                winner(1991, "Producer B"),
+                winner(2000, "Producer C")));
+    }
+
+    /**
+     * Testa o cálculo inicial dos intervalos mínimo e máximo.
+     */
+    @Test
+    void testRebuildComputesMinAndMax() {
+        AwardIntervalResponse response = index.getResponse();
+
+        assertEquals(List.of(new ProducerAwardInterval("Producer B", 1, 1990, 1991)), response.getMin());
+        assertEquals(List.of(new ProducerAwardInterval("Producer A", 10, 1980, 1990)), response.getMax());
+    }
+
+    /**
+     * Testa que a inclusão de um vencedor divide o intervalo existente do produtor.
+     */
+    @Test
+    void testAddMovieSplitsExistingInterval() {
+        index.addMovie(winner(1985, "Producer A"));
+
+        AwardIntervalResponse response = index.getResponse();
+
+        assertEquals(1, response.getMin().get(0).getInterval());
+        assertEquals(List.of(
+                new ProducerAwardInterval("Producer A", 5, 1980, 1985),
+                new ProducerAwardInterval("Producer A", 5, 1985, 1990)), response.getMax());
+    }
+
+    /**
+     * Testa que a remoção de um vencedor une os intervalos vizinhos do produtor.
+     */
+    @Test
+    void testRemoveMovieMergesNeighbourIntervals() {
+        Movie middleWin = winner(1985, "Producer A");
+        index.addMovie(middleWin);
+        index.removeMovie(middleWin);
+
+        assertEquals(List.of(new ProducerAwardInterval("Producer A", 10, 1980, 1990)), index.getResponse().getMax());
+    }
+
+    /**
+     * Testa que filmes não vencedores não alteram o índice.
+     */
+    @Test
+    void testNonWinnerIsIgnored() {
+        AwardIntervalResponse before = index.getResponse();
+
+        index.addMovie(new Movie(1981, "Title", "Studio", "Producer B", false));
+
+        assertSame(before, index.getResponse());
+    }
+
+    /**
+     * Testa que vitórias repetidas no mesmo ano só são removidas quando a última delas sai.
+     */
+    @Test
+    void testDuplicateYearIsCountedPerMovie() {
+        Movie duplicate = winner(1991, "Producer B");
+        index.addMovie(duplicate);
+        index.removeMovie(duplicate);
+
+        assertEquals(List.of(new ProducerAwardInterval("Producer B", 1, 1990, 1991)), index.getResponse().getMin());
+    }
+
+    /**
+     * Testa que a remoção da única vitória de um ano extremo atualiza os intervalos mínimo
+     * e máximo, inclusive quando o último intervalo de um comprimento deixa de existir.
+     */
+    @Test
+    void testMinAndMaxFollowIncrementalChanges() {
+        Movie shortWin = winner(2001, "Producer C");
+        Movie longWin = winner(2030, "Producer B");
+        index.addMovie(shortWin);
+        index.addMovie(longWin);
+
+        assertEquals(List.of(
+                new ProducerAwardInterval("Producer B", 1, 1990, 1991),
+                new ProducerAwardInterval("Producer C", 1, 2000, 2001)), index.getResponse().getMin());
+        assertEquals(List.of(new ProducerAwardInterval("Producer B", 39, 1991, 2030)), index.getResponse().getMax());
+
+        index.removeMovie(longWin);
+        index.removeMovie(winner(1991, "Producer B"));
+
+        assertEquals(List.of(new ProducerAwardInterval("Producer C", 1, 2000, 2001)), index.getResponse().getMin());
+        assertEquals(List.of(new ProducerAwardInterval("Producer A", 10, 1980, 1990)), index.getResponse().getMax());
+
+        index.removeMovie(shortWin);
+        index.removeMovie(winner(1990, "Producer A and Producer B"));
+
+        assertTrue(index.getResponse().getMin().isEmpty());
+        assertTrue(index.getResponse().getMax().isEmpty());
+    }
+
+    /**
+     * Testa que vitórias com ano fora do intervalo aceito são recusadas sem alterar o índice,
+     * evitando que o histograma de comprimentos cresça sem limite.
+     */
+    @Test
+    void testImplausibleYearIsRejected() {
+        AwardIntervalResponse before = index.getResponse();
+
+        assertThrows(IllegalArgumentException.class, () -> index.addMovie(winner(2_000_000_000, "Producer C")));
+        assertThrows(IllegalArgumentException.class, () -> index.addMovie(winner(-1, "Producer C")));
+
+        assertEquals(before, index.getResponse());
+        assertEquals(List.of(1980, 1990), index.findProducer("Producer A").orElseThrow().getWins());
+    }
+
+    /**
+     * Testa a consulta dos N menores e N maiores intervalos.
+     */
+    @Test
+    void testTopQueryReturnsShortestAndLongest() {
+        index.addMovie(winner(2003, "Producer C"));
+
+        AwardIntervalResponse response = index.query(new IntervalQuery(2, null, null));
+
+        assertEquals(List.of(1, 3), response.getMin().stream().map(ProducerAwardInterval::getInterval).toList());
+        assertEquals(List.of(10, 3), response.getMax().stream().map(ProducerAwardInterval::getInterval).toList());
+    }
+
+    /**
+     * Testa que os limites de comprimento restringem os intervalos considerados.
+     */
+    @Test
+    void testThresholdQueryRestrictsIntervals() {
+        index.addMovie(winner(2003, "Producer C"));
+
+        AwardIntervalResponse response = index.query(new IntervalQuery(null, 2, 9));
+
+        assertEquals(List.of(new ProducerAwardInterval("Producer C", 3, 2000, 2003)), response.getMin());
+        assertEquals(response.getMin(), response.getMax());
+    }
+
+    /**
+     * Testa que a reconstrução a partir de projeções equivale à reconstrução a partir de entidades.
+     */
+    @Test
+    void testRebuildFromRowsMatchesRebuildFromMovies() {
+        ProducerIntervalIndex fromRows = new ProducerIntervalIndex(new SimpleMeterRegistry());
+        fromRows.rebuildFromRows(List.of(
+                new WinnerMovieRow(1L, 1980, "Producer A"),
+                new WinnerMovieRow(2L, 1990, "Producer A and Producer B"),
+                new WinnerMovieRow(3L, 1991, "Producer B"),
+                new WinnerMovieRow(4L, 2000, "Producer C")));
+
+        assertEquals(index.getResponse(), fromRows.getResponse());
+    }
+
+    /**
+     * Testa que a janela de anos considera apenas intervalos com as duas vitórias dentro dela.
+     */
+    @Test
+    void testYearRangeQueryConsidersOnlyIntervalsInsideWindow() {
+        index.addMovie(winner(2003, "Producer C"));
+
+        AwardIntervalResponse response = index.query(new IntervalQuery(null, null, null, 1985, 2005));
+
+        assertEquals(List.of(new ProducerAwardInterval("Producer B", 1, 1990, 1991)), response.getMin());
+        assertEquals(List.of(new ProducerAwardInterval("Producer C", 3, 2000, 2003)), response.getMax());
+        assertTrue(index.query(new IntervalQuery(null, null, null, 1992, 2002)).getMin().isEmpty());
+    }
+
+    /**
+     * Testa que as consultas por janela de anos, com e sem top, equivalem a filtrar a lista
+     * completa de intervalos, inclusive após alterações do índice.
+     */
+    @Test
+    void testYearRangeQueryMatchesFilteredFullList() {
+        Random random = new Random(42);
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            movies.add(winner(1950 + random.nextInt(70), "Producer " + random.nextInt(40)));
+        }
+        index.rebuild(movies);
+        index.removeMovie(movies.get(0));
+        index.addMovie(winner(1975, "Producer 1"));
+
+        List<ProducerAwardInterval> all = index.query(new IntervalQuery(10_000, null, null)).getMin();
+        for (int i = 0; i < 50; i++) {
+            int fromYear = 1950 + random.nextInt(70);
+            int toYear = fromYear + random.nextInt(30);
+            List<ProducerAwardInterval> expected = all.stream()
+                    .filter(interval -> interval.getPreviousWin() >= fromYear && interval.getFollowingWin() <= toYear)
+                    .toList();
+
+            AwardIntervalResponse top = index.query(new IntervalQuery(5, null, null, fromYear, toYear));
+            AwardIntervalResponse ties = index.query(new IntervalQuery(null, 2, null, fromYear, toYear));
+
+            assertEquals(expected.subList(0, Math.min(5, expected.size())), top.getMin());
+            List<ProducerAwardInterval> atLeastTwo = expected.stream()
+                    .filter(interval -> interval.getInterval() >= 2)
+                    .toList();
+            List<ProducerAwardInterval> expectedMin = atLeastTwo.stream()
+                    .filter(interval -> interval.getInterval() == atLeastTwo.get(0).getInterval())
+                    .toList();
+            assertEquals(atLeastTwo.isEmpty() ? List.of() : expectedMin, ties.getMin());
+        }
+    }
+
+    /**
+     * Testa a busca de um produtor pelo nome, sem distinção de maiúsculas e minúsculas,
+     * e que produtores sem vitórias restantes deixam de ser encontrados.
+     */
+    @Test
+    void testFindProducerIgnoresCaseAndRemovedWins() {
+        Movie secondWin = winner(1985, "Producer A");
+        index.addMovie(secondWin);
+
+        ProducerWinsResponse producer = index.findProducer("producer a").orElseThrow();
+
+        assertEquals("Producer A", producer.getProducer());
+        assertEquals(List.of(1980, 1985, 1990), producer.getWins());
+        assertEquals(List.of(
+                new ProducerAwardInterval("Producer A", 5, 1980, 1985),
+                new ProducerAwardInterval("Producer A", 5, 1985, 1990)), producer.getIntervals());
+
+        index.removeMovie(winner(2000, "Producer C"));
+        assertTrue(index.findProducer("Producer C").isEmpty());
+        assertTrue(index.findProducer("Producer").isEmpty());
+    }
+
+    /**
+     * Testa a busca por prefixo em ordem alfabética, com limite de resultados.
+     */
+    @Test
+    void testFindProducerNamesByPrefix() {
+        index.addMovie(winner(1995, "Another Producer"));
+
+        assertEquals(List.of("Producer A", "Producer B", "Producer C"), index.findProducerNames("PROD", 10));
+        assertEquals(List.of("Producer A", "Producer B"), index.findProducerNames("producer", 2));
+        assertEquals(List.of("Another Producer", "Producer A"), index.findProducerNames("", 2));
+        assertTrue(index.findProducerNames("x", 10).isEmpty());
+    }
+
+    /**
+     * Testa que os índices de conjuntos de dados distintos registram timers de etapa distintos.
+     */
+    @Test
+    void testStageTimersAreTaggedByDataset() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProducerIntervalIndex primary = new ProducerIntervalIndex(meterRegistry);
+        ProducerIntervalIndex other = new ProducerIntervalIndex(meterRegistry, "worst-screenplay");
+
+        primary.rebuild(List.of(winner(1980, "Producer A")));
+        other.rebuild(List.of(winner(1980, "Producer A")));
+        other.rebuild(List.of(winner(1990, "Producer B")));
+
+        assertEquals(1, meterRegistry.get("golden.raspberry.intervals.stage")
+                .tags("stage", "extract", "dataset", "primary").timer().count());
+        assertEquals(2, meterRegistry.get("golden.raspberry.intervals.stage")
+                .tags("stage", "extract", "dataset", "worst-screenplay").timer().count());
+    }
+
+    private static Movie winner(int year, String producers) {
+        return new Movie(year, "Title " + year, "Studio", producers, true);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.johnny.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários da separação da coluna de produtores em nomes individuais.
+ */
+class ProducerNameParserTest {
+
+    /**
+     * Testa a separação por vírgula e pela palavra "and", com os espaços removidos.
+     */
+    @Test
+    void testSplitsOnCommaAndWord() {
+        assertArrayEquals(new String[] {"Allan Carr", "Jerry Weintraub", "Mitchell Cannold"},
+                ProducerNameParser.parseProducers("Allan Carr,  Jerry Weintraub  and Mitchell Cannold"));
+        assertArrayEquals(new String[] {"Bo Derek", "John Derek"},
+                ProducerNameParser.parseProducers("Bo Derek, and John Derek"));
+    }
+
+    /**
+     * Testa que "and" dentro de um nome não separa o nome.
+     */
+    @Test
+    void testAndInsideNameIsKept() {
+        assertArrayEquals(new String[] {"Sandy Landers", "Randall Emmett"},
+                ProducerNameParser.parseProducers("Sandy Landers and Randall Emmett"));
+        assertArrayEquals(new String[] {"Anderson Band"},
+                ProducerNameParser.parseProducers("Anderson Band"));
+    }
+
+    /**
+     * Testa que nomes vazios entre separadores são descartados e que nomes repetidos
+     * aparecem uma única vez, na ordem da primeira ocorrência.
+     */
+    @Test
+    void testBlankAndRepeatedNamesAreDropped() {
+        assertArrayEquals(new String[] {"Joel Silver", "Matthew Vaughn"},
+                ProducerNameParser.parseProducers(" , Joel Silver,, and Matthew Vaughn and Joel Silver , "));
+    }
+
+    /**
+     * Testa que uma coluna ausente ou em branco não possui produtores.
+     */
+    @Test
+    void testNullOrBlankHasNoProducers() {
+        assertEquals(0, ProducerNameParser.parseProducers(null).length);
+        assertEquals(0, ProducerNameParser.parseProducers("").length);
+        assertEquals(0, ProducerNameParser.parseProducers("   ").length);
+        assertEquals(0, ProducerNameParser.parseProducers(" , and ").length);
+    }
+}
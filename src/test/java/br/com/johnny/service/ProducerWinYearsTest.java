@@ -0,0 +1,85 @@
+package br.com.johnny.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários dos anos de vitória de um produtor, validando a ordenação,
+ * as posições informadas ao índice e a contagem de vitórias repetidas no mesmo ano.
+ */
+class ProducerWinYearsTest {
+
+    /**
+     * Testa que os anos são mantidos em ordem crescente e que a posição de inserção é informada.
+     */
+    @Test
+    void testAddKeepsYearsSortedAndReturnsPosition() {
+        ProducerWinYears years = new ProducerWinYears();
+
+        assertEquals(0, years.add(1990));
+        assertEquals(0, years.add(1980));
+        assertEquals(2, years.add(2000));
+        assertEquals(1, years.add(1985));
+
+        assertEquals(4, years.size());
+        assertArrayEquals(new int[] {1980, 1985, 1990, 2000}, toArray(years));
+    }
+
+    /**
+     * Testa que a capacidade cresce sem perder os anos já registrados.
+     */
+    @Test
+    void testAddGrowsCapacity() {
+        ProducerWinYears years = new ProducerWinYears();
+        long initialBytes = years.estimateRetainedBytes();
+
+        for (int year = 2020; year >= 1950; year--) {
+            years.add(year);
+        }
+
+        assertEquals(71, years.size());
+        assertEquals(1950, years.yearAt(0));
+        assertEquals(2020, years.yearAt(70));
+        assertTrue(years.estimateRetainedBytes() > initialBytes);
+    }
+
+    /**
+     * Testa que um ano repetido não altera as posições e só deixa de existir na última remoção.
+     */
+    @Test
+    void testDuplicateYearIsRemovedOnlyWithLastWin() {
+        ProducerWinYears years = new ProducerWinYears();
+        years.add(1980);
+        years.add(1990);
+
+        assertEquals(ProducerWinYears.UNCHANGED, years.add(1990));
+        assertEquals(ProducerWinYears.UNCHANGED, years.remove(1990));
+        assertEquals(2, years.size());
+        assertEquals(1, years.remove(1990));
+        assertEquals(1, years.size());
+        assertEquals(1980, years.yearAt(0));
+    }
+
+    /**
+     * Testa que a remoção de um ano inexistente não altera os anos registrados.
+     */
+    @Test
+    void testRemoveMissingYearIsUnchanged() {
+        ProducerWinYears years = new ProducerWinYears();
+        years.add(1980);
+
+        assertEquals(ProducerWinYears.UNCHANGED, years.remove(1970));
+        assertEquals(0, years.remove(1980));
+        assertEquals(ProducerWinYears.UNCHANGED, years.remove(1980));
+        assertEquals(0, years.size());
+    }
+
+    private static int[] toArray(ProducerWinYears years) {
+        int[] result = new int[years.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = years.yearAt(i);
+        }
+        return result;
+    }
+}